@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.jsfr.json;
+
+import org.jsfr.json.compiler.JsonPathCompiler;
+import org.jsfr.json.exception.JsonSurfingException;
+import org.jsfr.json.provider.GsonProvider;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class BinaryEventParserTest extends JsonSurferTest {
+
+    @Before
+    public void setUp() throws Exception {
+        provider = GsonProvider.INSTANCE;
+        surfer = new JsonSurfer(BinaryEventParser.INSTANCE, provider);
+    }
+
+    @Override
+    protected InputStream read(String resourceName) throws IOException {
+        return new ByteArrayInputStream(toBinary(super.read(resourceName)));
+    }
+
+    private static byte[] toBinary(InputStream json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonSurferNative.INSTANCE.writeBinaryEvents(json, out);
+        return out.toByteArray();
+    }
+
+    private static byte[] toBinary(String json) {
+        return toBinary(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testPrimitiveTypes() throws Exception {
+        byte[] events = toBinary("{\"int\": -7, \"long\": 12345678901, \"double\": 1.5e-3, \"string\": \"café\", " +
+                "\"true\": true, \"false\": false, \"null\": null, \"nested\": [{\"int\": 0}]}");
+        Collection<Object> values = surfer.collectAll(new ByteArrayInputStream(events), "$..*");
+        Collection<Object> expected = JsonSurferGson.INSTANCE.collectAll("{\"int\": -7, \"long\": 12345678901, \"double\": 1.5e-3, " +
+                "\"string\": \"café\", \"true\": true, \"false\": false, \"null\": null, \"nested\": [{\"int\": 0}]}", "$..*");
+        assertEquals(expected.toString(), values.toString());
+    }
+
+    @Test
+    public void testLongString() throws Exception {
+        char[] chars = new char[100000];
+        Arrays.fill(chars, 'x');
+        String value = new String(chars);
+        byte[] events = toBinary("[\"" + value + "\"]");
+        assertEquals(value, surfer.collectOne(new ByteArrayInputStream(events), String.class, JsonPathCompiler.compile("$[0]")));
+    }
+
+    @Test
+    public void testDirectBuffer() throws Exception {
+        byte[] events = toBinary(super.read("sample.json"));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(events.length);
+        buffer.put(events).flip();
+        JsonPathListener mock = mock(JsonPathListener.class);
+        surfer.surf(buffer, surfer.configBuilder().bind("$..author", mock).build());
+        verify(mock, times(4)).onValue(any(), any(ParsingContext.class));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void testMappedFile() throws Exception {
+        Path path = Files.createTempFile("jsurfer", ".jsev");
+        path.toFile().deleteOnExit();
+        Files.write(path, toBinary(super.read("sample.json")));
+        JsonPathListener mock = mock(JsonPathListener.class);
+        surfer.surf(path, surfer.configBuilder().bind("$..author", mock).build());
+        verify(mock, times(4)).onValue(any(), any(ParsingContext.class));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testStringSourceRejected() throws Exception {
+        surfer.surf("{}", surfer.configBuilder().bind("$", mock(JsonPathListener.class)).build());
+    }
+
+    @Test
+    public void testMultipleRootsInBinary() throws Exception {
+        byte[] events = toBinary("{\"a\": 1}\n{\"a\": 2}\n{\"a\": 3}");
+        Collection<Object> values = surfer.collectAll(new ByteArrayInputStream(events), "$.a");
+        assertEquals(1, values.size());
+        JsonPathListener mock = mock(JsonPathListener.class);
+        surfer.configBuilder().allowMultipleRoots().bind("$.a", mock).buildAndSurf(new ByteArrayInputStream(events));
+        verify(mock, times(3)).onValue(any(), any(ParsingContext.class));
+    }
+
+    @Test(expected = JsonSurfingException.class)
+    public void testNotBinaryEvents() throws Exception {
+        surfer.collectAll(super.read("sample.json"), "$..author");
+    }
+
+    @Override
+    public void testCollectAllFromString() throws Exception {
+        // skip non-byte-based source
+    }
+
+    @Override
+    public void testCollectOneFromString() throws Exception {
+        // skip non-byte-based source
+    }
+
+    @Override
+    public void testWildcardAtRoot() throws Exception {
+        // skip non-byte-based source
+    }
+
+    @Override
+    public void testMultipleRoots() throws Exception {
+        // skip non-byte-based source
+    }
+
+    @Override
+    public void testSkipAhead() throws Exception {
+        // skip non-byte-based source
+    }
+
+}
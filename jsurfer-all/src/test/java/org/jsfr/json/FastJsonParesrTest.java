@@ -26,6 +26,9 @@ package org.jsfr.json;
 
 import org.jsfr.json.provider.FastJsonProvider;
 import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.Mockito.mock;
 
 /**
  * Created by Leo on 2017/3/31.
@@ -38,4 +41,14 @@ public class FastJsonParesrTest extends JsonSurferTest {
         surfer = new JsonSurfer(FastJsonParser.INSTANCE, provider);
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    @Override
+    public void testMultipleRoots() throws Exception {
+        // multiple roots are not supported by fastjson
+        surfer.configBuilder()
+                .allowMultipleRoots()
+                .bind("$", mock(JsonPathListener.class))
+                .buildAndSurf("{\"a\": 1}{\"a\": 2}");
+    }
+
 }
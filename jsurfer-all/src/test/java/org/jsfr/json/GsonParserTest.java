@@ -26,6 +26,16 @@ package org.jsfr.json;
 
 import org.jsfr.json.provider.GsonProvider;
 import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * Created by Leo on 2015/3/29.
@@ -38,4 +48,66 @@ public class GsonParserTest extends JsonSurferTest {
         surfer = new JsonSurfer(GsonParser.INSTANCE, provider);
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void testCheckpointUnsupported() throws Exception {
+        surfer.checkpoint(surfer.createResumableParser("[1]", surfer.configBuilder().build()));
+    }
+
+    @Test
+    public void testByteSourcesOfPlainAdapter() throws Exception {
+        JsonParserAdapter plain = new JsonParserAdapter() {
+            @Override
+            public void parse(Reader reader, SurfingContext context) {
+                GsonParser.INSTANCE.parse(reader, context);
+            }
+
+            @Override
+            public void parse(String json, SurfingContext context) {
+                GsonParser.INSTANCE.parse(json, context);
+            }
+
+            @Override
+            public void parse(InputStream inputStream, SurfingContext context) {
+                GsonParser.INSTANCE.parse(inputStream, context);
+            }
+
+            @Override
+            public ResumableParser createResumableParser(Reader reader, SurfingContext context) {
+                return GsonParser.INSTANCE.createResumableParser(reader, context);
+            }
+
+            @Override
+            public ResumableParser createResumableParser(String json, SurfingContext context) {
+                return GsonParser.INSTANCE.createResumableParser(json, context);
+            }
+
+            @Override
+            public ResumableParser createResumableParser(InputStream json, SurfingContext context) {
+                return GsonParser.INSTANCE.createResumableParser(json, context);
+            }
+
+            @Override
+            public NonBlockingParser createNonBlockingParser(SurfingContext context) {
+                return GsonParser.INSTANCE.createNonBlockingParser(context);
+            }
+        };
+        JsonSurfer plainSurfer = new JsonSurfer(plain, provider);
+        byte[] json = "[1, {\"a\": \"b\"}]".getBytes(StandardCharsets.UTF_8);
+        String expected = "{\"a\":\"b\"}";
+
+        CollectOneListener listener = new CollectOneListener();
+        plainSurfer.surf(json, 3, json.length - 4, plainSurfer.configBuilder().bind("$", listener).build());
+        assertEquals(expected, listener.getValue().toString());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(json.length);
+        direct.put(json).flip();
+        listener = new CollectOneListener();
+        plainSurfer.surf(direct, plainSurfer.configBuilder().bind("$[1]", listener).build());
+        assertEquals(expected, listener.getValue().toString());
+
+        listener = new CollectOneListener();
+        plainSurfer.surf(Channels.newChannel(new ByteArrayInputStream(json)), plainSurfer.configBuilder().bind("$[1]", listener).build());
+        assertEquals(expected, listener.getValue().toString());
+    }
+
 }
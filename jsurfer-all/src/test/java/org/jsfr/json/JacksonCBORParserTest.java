@@ -29,6 +29,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.jsfr.json.provider.JacksonProvider;
 import org.junit.Before;
+import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -52,6 +53,12 @@ public class JacksonCBORParserTest extends JsonSurferTest {
         return new ByteArrayInputStream(cborData);
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void testNonBlockingParserUnsupported() throws Exception {
+        // jackson-dataformat-cbor has no non-blocking parser yet
+        surfer.createNonBlockingParser(surfer.configBuilder().bind("$..*", new CollectAllListener<>(provider, Object.class)).build());
+    }
+
     @Override
     public void testCollectAllFromString() throws Exception {
         // skip non-byte-based source
@@ -67,4 +74,14 @@ public class JacksonCBORParserTest extends JsonSurferTest {
         // skip non-byte-based source
     }
 
+    @Override
+    public void testMultipleRoots() throws Exception {
+        // skip non-byte-based source
+    }
+
+    @Override
+    public void testSkipAhead() throws Exception {
+        // skip non-byte-based source
+    }
+
 }
@@ -67,4 +67,14 @@ public class JacksonIonParserTest extends JsonSurferTest {
         // skip non-byte-based source
     }
 
+    @Override
+    public void testMultipleRoots() throws Exception {
+        // skip non-byte-based source
+    }
+
+    @Override
+    public void testSkipAhead() throws Exception {
+        // skip non-byte-based source
+    }
+
 }
@@ -39,6 +39,7 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -76,6 +77,42 @@ public class JacksonParserTest extends JsonSurferTest {
         verify(mockListener).onValue(eq(provider.primitive("abcd")), any(ParsingContext.class));
     }
 
+    @Test
+    public void testNonBlockingParserWithByteBuffers() throws Exception {
+        JsonPathListener mockListener = mock(JsonPathListener.class);
+        SurfingConfiguration config = surfer.configBuilder()
+                .bind("$['foo','bar']", mockListener)
+                .build();
+        NonBlockingParser nonBlockingParser = surfer.createNonBlockingParser(config);
+        // one direct buffer recycled for every chunk
+        ByteBuffer direct = ByteBuffer.allocateDirect(16);
+        for (String part : new String[]{"{\"foo\": 12", "34, \"bar\": \"ab"}) {
+            direct.clear();
+            direct.put(part.getBytes("UTF-8")).flip();
+            assertTrue(nonBlockingParser.feed(direct));
+            assertFalse(direct.hasRemaining());
+        }
+        // heap buffer slice read in place
+        ByteBuffer heap = ByteBuffer.wrap("xxcd\"}".getBytes("UTF-8"));
+        heap.position(2);
+        assertTrue(nonBlockingParser.feed(heap.slice()));
+        nonBlockingParser.endOfInput();
+        verify(mockListener).onValue(eq(provider.primitive(1234L)), any(ParsingContext.class));
+        verify(mockListener).onValue(eq(provider.primitive("abcd")), any(ParsingContext.class));
+    }
+
+    @Test
+    public void testParsingStopsWhenAllBindingsExhausted() throws Exception {
+        JsonPathListener mock1 = mock(JsonPathListener.class);
+        JsonPathListener mock2 = mock(JsonPathListener.class);
+        surfer.configBuilder()
+                .bind("$.a[*]", 2, mock1)
+                .bind("$.b.limit(1)", mock2)
+                .buildAndSurf("{\"b\": true, \"a\": [1, 2, 3, {"); // malformed tail is never reached
+        verify(mock1, times(2)).onValue(any(), any(ParsingContext.class));
+        verify(mock2, times(1)).onValue(eq(provider.primitive(true)), any(ParsingContext.class));
+    }
+
     @Test
     @Ignore
     public void testProtobufParser() throws Exception {
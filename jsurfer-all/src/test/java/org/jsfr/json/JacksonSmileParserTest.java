@@ -29,10 +29,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.jsfr.json.provider.JacksonProvider;
 import org.junit.Before;
+import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class JacksonSmileParserTest extends JsonSurferTest {
 
@@ -52,6 +58,25 @@ public class JacksonSmileParserTest extends JsonSurferTest {
         return new ByteArrayInputStream(smileData);
     }
 
+    @Test
+    public void testNonBlockingParser() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        InputStream in = read("sample.json");
+        byte[] chunk = new byte[13];
+        for (int n = in.read(chunk); n != -1; n = in.read(chunk)) {
+            out.write(chunk, 0, n);
+        }
+        byte[] smile = out.toByteArray();
+        Collection<Object> expected = surfer.collectAll(read("sample.json"), "$..*");
+        CollectAllListener<Object> listener = new CollectAllListener<>(provider, Object.class);
+        NonBlockingParser nonBlockingParser = surfer.createNonBlockingParser(surfer.configBuilder().bind("$..*", listener).build());
+        for (int i = 0; i < smile.length; i += chunk.length) {
+            assertTrue(nonBlockingParser.feed(smile, i, Math.min(i + chunk.length, smile.length)));
+        }
+        nonBlockingParser.endOfInput();
+        assertEquals(expected, listener.getCollection());
+    }
+
     @Override
     public void testCollectAllFromString() throws Exception {
         // skip non-byte-based source
@@ -67,4 +92,14 @@ public class JacksonSmileParserTest extends JsonSurferTest {
         // skip non-byte-based source
     }
 
+    @Override
+    public void testMultipleRoots() throws Exception {
+        // skip non-byte-based source
+    }
+
+    @Override
+    public void testSkipAhead() throws Exception {
+        // skip non-byte-based source
+    }
+
 }
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.jsfr.json;
+
+import com.google.common.io.Resources;
+import org.jsfr.json.exception.JsonSurfingException;
+import org.jsfr.json.provider.JavaCollectionProvider;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class JsonIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path json;
+
+    @Before
+    public void setUp() throws Exception {
+        json = folder.newFile().toPath();
+        try (InputStream inputStream = Resources.getResource("sample.json").openStream()) {
+            Files.copy(inputStream, json, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static SurfingConfiguration.Builder configBuilder() {
+        return SurfingConfiguration.builder()
+                .withJsonProvider(JavaCollectionProvider.INSTANCE)
+                .withErrorStrategy(new DefaultErrorHandlingStrategy());
+    }
+
+    private static JsonPathListener collectPaths(final List<String> collected) {
+        return new JsonPathListener() {
+            @Override
+            public void onValue(Object value, ParsingContext context) {
+                collected.add(context.getJsonPath() + "=" + value);
+            }
+        };
+    }
+
+    @Test
+    public void testBuildAndSave() throws Exception {
+        JsonIndex index = JsonIndex.build(json, "$.store.book[*]");
+        assertEquals(4, index.size());
+        byte[] bytes = Files.readAllBytes(json);
+        for (int i = 0; i < index.size(); i++) {
+            assertEquals("$.store.book[" + i + "]", index.getJsonPath(i));
+            assertEquals('{', bytes[(int) index.getStart(i)]);
+            assertEquals('}', bytes[(int) index.getEnd(i) - 1]);
+        }
+        Path indexFile = folder.newFile().toPath();
+        index.write(indexFile);
+        JsonIndex read = JsonIndex.read(indexFile);
+        assertEquals("$.store.book[*]", read.getIndexedPath());
+        assertEquals(index.size(), read.size());
+        for (int i = 0; i < index.size(); i++) {
+            assertEquals(index.getStart(i), read.getStart(i));
+            assertEquals(index.getEnd(i), read.getEnd(i));
+            assertEquals(index.getJsonPath(i), read.getJsonPath(i));
+        }
+    }
+
+    @Test
+    public void testIndefiniteIndexedPath() throws Exception {
+        JsonIndex index = JsonIndex.build(json, "$.store.*");
+        assertEquals(3, index.size());
+        assertEquals("$.store.book", index.getJsonPath(0));
+        assertEquals("$.store.car", index.getJsonPath(1));
+        assertEquals("$.store.bicycle", index.getJsonPath(2));
+        index = JsonIndex.build(json, "$..price");
+        assertEquals(5, index.size());
+        assertEquals("$.store.bicycle.price", index.getJsonPath(4));
+        // filters are not evaluated when indexing
+        assertEquals(4, JsonIndex.build(json, "$.store.book[?(@.price > 10)]").size());
+    }
+
+    @Test
+    public void testSurfIndexed() throws Exception {
+        for (AbstractJsonParserAdapter parser : new AbstractJsonParserAdapter[]{NativeParser.INSTANCE, JacksonParser.INSTANCE}) {
+            JsonSurfer surfer = new JsonSurfer(parser, JavaCollectionProvider.INSTANCE);
+            JsonIndex index = JsonIndex.build(json, "$.store.book[*]");
+            List<String> authors = new ArrayList<String>();
+            List<String> prices = new ArrayList<String>();
+            List<String> titles = new ArrayList<String>();
+            List<String> sliced = new ArrayList<String>();
+            SurfingConfiguration config = configBuilder()
+                    .bind("$.store.book[*].author", collectPaths(authors))
+                    .bind("$..price", collectPaths(prices))
+                    .bind("$.store.book[?(@.price > 10)].title", collectPaths(titles))
+                    .bind("$.store.book[1:3].author", collectPaths(sliced))
+                    .build();
+            surfer.surfIndexed(json, index, config);
+            assertEquals(Arrays.asList("$.store.book[0].author=Nigel Rees", "$.store.book[1].author=Evelyn Waugh",
+                    "$.store.book[2].author=Herman Melville", "$.store.book[3].author=J. R. R. Tolkien"), authors);
+            // the bicycle is not indexed
+            assertEquals(4, prices.size());
+            // filtered matches are delivered when the filtered element ends, as in a sequential run
+            assertEquals(Arrays.asList("$.store.book[1]=Sword of Honour", "$.store.book[3]=The Lord of the Rings"), titles);
+            assertEquals(Arrays.asList("$.store.book[1].author=Evelyn Waugh", "$.store.book[2].author=Herman Melville"), sliced);
+
+            authors.clear();
+            surfer.surfIndexed(json, index, 3, configBuilder().bind("$.store.book[*].author", collectPaths(authors)).build());
+            assertEquals(Arrays.asList("$.store.book[3].author=J. R. R. Tolkien"), authors);
+        }
+    }
+
+    @Test
+    public void testSurfIndexedPrimitives() throws Exception {
+        JsonIndex index = JsonIndex.build(json, "$..price");
+        List<String> prices = new ArrayList<String>();
+        JsonSurferNative.INSTANCE.surfIndexed(json, index, configBuilder().bind("$.store.*.price", collectPaths(prices)).build());
+        assertEquals(Arrays.asList("$.store.bicycle.price=19.95"), prices);
+    }
+
+    @Test
+    public void testRejectBindingsNeedingWholeFile() throws Exception {
+        JsonIndex index = JsonIndex.build(json, "$.store.book[*]");
+        for (String path : new String[]{"$.store.book[-1].author", "$.store.book[-2:].author", "$..[-1]", "$.store.book[*].author.limit(1)"}) {
+            try {
+                JsonSurferNative.INSTANCE.surfIndexed(json, index, configBuilder().bind(path, collectPaths(new ArrayList<String>())).build());
+                fail(path);
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test(expected = JsonSurfingException.class)
+    public void testOutdatedIndex() throws Exception {
+        JsonIndex index = JsonIndex.build(json, "$.store.book[*]");
+        Files.write(json, "\n".getBytes(), StandardOpenOption.APPEND);
+        JsonSurferNative.INSTANCE.surfIndexed(json, index, configBuilder().bind("$..author", collectPaths(new ArrayList<String>())).build());
+    }
+
+}
@@ -29,6 +29,8 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import static org.mockito.Mockito.mock;
+
 /**
  * Created by Leo on 2017/8/26.
  */
@@ -66,14 +68,12 @@ public class JsonSimpleParserTest extends JsonSurferTest {
 
     @Test(expected = UnsupportedOperationException.class)
     @Override
-    public void testSurfingIterator() throws Exception {
-        super.testSurfingIterator();
-    }
-
-    @Test(expected = UnsupportedOperationException.class)
-    @Override
-    public void testResumableParser() throws Exception {
-        super.testResumableParser();
+    public void testMultipleRoots() throws Exception {
+        // multiple roots are not supported by json-simple
+        surfer.configBuilder()
+                .allowMultipleRoots()
+                .bind("$", mock(JsonPathListener.class))
+                .buildAndSurf("{\"a\": 1}{\"a\": 2}");
     }
 
 }
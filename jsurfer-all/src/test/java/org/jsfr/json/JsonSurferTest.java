@@ -24,6 +24,7 @@
 
 package org.jsfr.json;
 
+import com.google.common.io.ByteStreams;
 import com.google.common.io.Resources;
 import org.hamcrest.CustomMatcher;
 import org.hamcrest.Description;
@@ -32,14 +33,26 @@ import org.jsfr.json.compiler.JsonPathCompiler;
 import org.jsfr.json.provider.JavaCollectionProvider;
 import org.jsfr.json.provider.JsonProvider;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -50,6 +63,7 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.isA;
 import static org.mockito.Mockito.mock;
@@ -73,6 +87,15 @@ public abstract class JsonSurferTest {
         return Resources.getResource(resourceName).openStream();
     }
 
+    protected Path readAsFile(String resourceName) throws IOException {
+        Path path = Files.createTempFile("jsurfer", ".json");
+        path.toFile().deleteOnExit();
+        try (InputStream inputStream = read(resourceName)) {
+            Files.copy(inputStream, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return path;
+    }
+
     protected String readAsString(String resourceName) throws IOException {
         return Resources.toString(Resources.getResource(resourceName), surfer.getParserCharset());
     }
@@ -106,6 +129,26 @@ public abstract class JsonSurferTest {
                 }).buildAndSurf(read("sample.json"));
     }
 
+    @Test
+    public void testMultipleRoots() throws Exception {
+        JsonPathListener mockA = mock(JsonPathListener.class);
+        JsonPathListener mockRoot = mock(JsonPathListener.class);
+        JsonPathListener mockFirstB = mock(JsonPathListener.class);
+        JsonPathListener mockB = mock(JsonPathListener.class);
+        surfer.configBuilder()
+                .allowMultipleRoots()
+                .bind("$.a", mockA)
+                .bind("$", mockRoot)
+                .bind("$.b[*]", 1, mockFirstB)
+                .bind("$.b[*]", mockB)
+                .buildAndSurf("{\"a\": 1, \"b\": [1, 2]}{\"a\": 2}\n[3] 4 {\"a\": 3, \"b\": [5]}");
+        verify(mockA, times(3)).onValue(any(), any(ParsingContext.class));
+        verify(mockRoot, times(5)).onValue(any(), any(ParsingContext.class));
+        // limits start over for every root value
+        verify(mockFirstB, times(2)).onValue(any(), any(ParsingContext.class));
+        verify(mockB, times(3)).onValue(any(), any(ParsingContext.class));
+    }
+
     @Test
     public void testWildcardAtRoot() throws Exception {
         Collection<Object> collection = surfer.collectAll("[\n" +
@@ -152,6 +195,189 @@ public abstract class JsonSurferTest {
         assertEquals(4, count);
     }
 
+    @Test
+    public void testSurfingByteSources() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write("garbage".getBytes(StandardCharsets.UTF_8));
+        try (InputStream inputStream = read("sample.json")) {
+            ByteStreams.copy(inputStream, out);
+        }
+        int length = out.size() - 7;
+        out.write("garbage".getBytes(StandardCharsets.UTF_8));
+        byte[] bytes = out.toByteArray();
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).position(7);
+        direct.limit(7 + length);
+
+        JsonPathListener mockListener = mock(JsonPathListener.class);
+        SurfingConfiguration config = surfer.configBuilder().bind("$.store.book[*].author", mockListener).build();
+        surfer.surf(bytes, 7, length, config);
+        surfer.surf((ByteBuffer) ByteBuffer.wrap(bytes, 7, length).slice(), config);
+        surfer.surf(direct, config);
+        surfer.surf(Channels.newChannel(new ByteArrayInputStream(bytes, 7, length)), config);
+        verify(mockListener, times(16)).onValue(anyObject(), any(ParsingContext.class));
+        assertEquals(7, direct.position());
+    }
+
+    @Test
+    public void testSurfingMappedFile() throws Exception {
+        JsonPathListener mockListener = mock(JsonPathListener.class);
+        surfer.configBuilder().bind("$.store.book[*].author", mockListener).buildAndSurf(readAsFile("sample.json"));
+        verify(mockListener, times(4)).onValue(anyObject(), any(ParsingContext.class));
+    }
+
+    @Test
+    public void testSurfingCompressed() throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            ByteStreams.copy(read("sample.json"), gzip);
+        }
+        JsonPathListener mockListener = mock(JsonPathListener.class);
+        surfer.surfCompressed(new ByteArrayInputStream(compressed.toByteArray()),
+                surfer.configBuilder().bind("$.store.book[*].author", mockListener).build());
+        verify(mockListener, times(4)).onValue(anyObject(), any(ParsingContext.class));
+    }
+
+    @Test
+    public void testSurfingTape() throws Exception {
+        JsonTape tape = surfer.record(read("sample.json"));
+        JsonPathListener mockAuthor = mock(JsonPathListener.class);
+        JsonPathListener mockPrice = mock(JsonPathListener.class);
+        JsonPathListener mockTitle = mock(JsonPathListener.class);
+        surfer.surf(tape, surfer.configBuilder().bind("$.store.book[*].author", mockAuthor).build());
+        surfer.surf(tape, surfer.configBuilder().bind("$..price", mockPrice).build());
+        surfer.surf(tape, surfer.configBuilder().bind("$.store.book[?(@.price > 10)].title", mockTitle).build());
+        verify(mockAuthor, times(4)).onValue(anyObject(), any(ParsingContext.class));
+        verify(mockPrice, times(5)).onValue(anyObject(), any(ParsingContext.class));
+        verify(mockTitle, times(2)).onValue(anyObject(), any(ParsingContext.class));
+
+        final Collection<Object> replayed = new ArrayList<>();
+        SurfingConfiguration config = surfer.configBuilder().bind("$.store.book[*]", new JsonPathListener() {
+            @Override
+            public void onValue(Object value, ParsingContext context) {
+                replayed.add(value);
+                context.pause();
+            }
+        }).build();
+        ResumableParser parser = surfer.createResumableParser(tape, config);
+        parser.parse();
+        int pauses = 0;
+        while (parser.resume()) {
+            pauses++;
+        }
+        assertEquals(4, pauses);
+        final Collection<Object> parsed = new ArrayList<>();
+        surfer.configBuilder().bind("$.store.book[*]", new JsonPathListener() {
+            @Override
+            public void onValue(Object value, ParsingContext context) {
+                parsed.add(value);
+            }
+        }).buildAndSurf(read("sample.json"));
+        assertEquals(parsed, replayed);
+    }
+
+    @Test
+    public void testSurfingAll() throws Exception {
+        JsonPathListener mockAuthor = mock(JsonPathListener.class);
+        JsonPathListener mockTitle = mock(JsonPathListener.class);
+        final Collection<Object> prices = new ArrayList<>();
+        final Collection<Object> firstBook = new ArrayList<>();
+        SurfingConfiguration authors = surfer.configBuilder().bind("$.store.book[*].author", mockAuthor).build();
+        SurfingConfiguration titles = surfer.configBuilder().bind("$.store.book[?(@.price > 10)].title", mockTitle).build();
+        SurfingConfiguration javaPrices = SurfingConfiguration.builder().withJsonProvider(JavaCollectionProvider.INSTANCE)
+                .bind("$..price", new JsonPathListener() {
+                    @Override
+                    public void onValue(Object value, ParsingContext context) {
+                        prices.add(value);
+                    }
+                }).build();
+        SurfingConfiguration stopping = surfer.configBuilder().bind("$.store.book[*]", new JsonPathListener() {
+            @Override
+            public void onValue(Object value, ParsingContext context) {
+                firstBook.add(value);
+                context.stop();
+            }
+        }).build();
+        surfer.surfAll(read("sample.json"), authors, titles, javaPrices, stopping);
+        verify(mockAuthor, times(4)).onValue(anyObject(), any(ParsingContext.class));
+        verify(mockTitle, times(2)).onValue(anyObject(), any(ParsingContext.class));
+        assertEquals(5, prices.size());
+        for (Object price : prices) {
+            assertTrue(price instanceof Number);
+        }
+        assertEquals(1, firstBook.size());
+
+        final Collection<Object> first = new ArrayList<>();
+        JsonPathListener stopAtFirst = new JsonPathListener() {
+            @Override
+            public void onValue(Object value, ParsingContext context) {
+                first.add(value);
+                context.stop();
+            }
+        };
+        surfer.surfAll(read("sample.json"), surfer.configBuilder().bind("$.store.book[*]", stopAtFirst).build(),
+                surfer.configBuilder().bind("$..price", stopAtFirst).build());
+        assertEquals(2, first.size());
+    }
+
+    @Test
+    public void testSkipAhead() throws Exception {
+        String json = readAsString("sample.json");
+        String[] paths = {"$.store.book[0].author", "$.store.book[2]", "$.store.bicycle", "$.expensive", "$.store.book[9].title", "$.store.missing"};
+        for (String path : paths) {
+            final Collection<Object> expected = new ArrayList<>();
+            final Collection<Object> skipped = new ArrayList<>();
+            final Collection<String> expectedPaths = new ArrayList<>();
+            final Collection<String> skippedPaths = new ArrayList<>();
+            surfer.configBuilder().bind(path, new JsonPathListener() {
+                @Override
+                public void onValue(Object value, ParsingContext context) {
+                    expected.add(value);
+                    expectedPaths.add(context.getJsonPath());
+                }
+            }).buildAndSurf(json);
+            surfer.configBuilder().skipAhead().bind(path, new JsonPathListener() {
+                @Override
+                public void onValue(Object value, ParsingContext context) {
+                    skipped.add(value);
+                    skippedPaths.add(context.getJsonPath());
+                }
+            }).buildAndSurf(json);
+            assertEquals(path, expected, skipped);
+            assertEquals(path, expectedPaths, skippedPaths);
+        }
+
+        // duplicate and escaped keys, limit and stop
+        String duplicates = "{\"a\": {\"b\": [1, {\"c\": \"x\"}]}, \"\\u0061\": {\"b\": [2]}, \"a\": {\"b\": [3]}}";
+        JsonPathListener mockAll = mock(JsonPathListener.class);
+        JsonPathListener mockLimited = mock(JsonPathListener.class);
+        JsonPathListener mockStopping = mock(JsonPathListener.class);
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                ((ParsingContext) invocation.getArguments()[1]).stop();
+                return null;
+            }
+        }).when(mockStopping).onValue(anyObject(), any(ParsingContext.class));
+        surfer.configBuilder().skipAhead().bind("$.a.b[0]", mockAll).buildAndSurf(duplicates);
+        surfer.configBuilder().skipAhead().bind("$.a.b[0]", 2, mockLimited).buildAndSurf(duplicates);
+        surfer.configBuilder().skipAhead().bind("$.a.b[0]", mockStopping).buildAndSurf(duplicates);
+        verify(mockAll, times(3)).onValue(anyObject(), any(ParsingContext.class));
+        verify(mockLimited, times(2)).onValue(anyObject(), any(ParsingContext.class));
+        verify(mockStopping, times(1)).onValue(anyObject(), any(ParsingContext.class));
+    }
+
+    @Test
+    public void testSurfingIteratorOverMappedFile() throws Exception {
+        Iterator<Object> iterator = surfer.iterator(readAsFile("sample.json"), JsonPathCompiler.compile("$.store.book[*]"));
+        int count = 0;
+        while (iterator.hasNext()) {
+            assertNotNull(iterator.next());
+            count++;
+        }
+        assertEquals(4, count);
+    }
+
     @Test
     public void testResumableParser() throws Exception {
         SurfingConfiguration config = surfer.configBuilder()
@@ -229,6 +455,29 @@ public abstract class JsonSurferTest {
         }), any(ParsingContext.class));
     }
 
+    @Test
+    public void testJsonPathFilterInSet() throws Exception {
+        JsonPathListener mock1 = mock(JsonPathListener.class);
+        JsonPathListener mock2 = mock(JsonPathListener.class);
+        surfer.configBuilder()
+                .bind("$.store.book[?(@.author in ['Herman Melville', \"J. R. R. Tolkien\", 'Unknown'])].title", mock1)
+                .bind("$.store.book[?(@.price in [8.950, 22.99, 'x'])].title", mock2)
+                .buildAndSurf(read("sample_filter.json"));
+        verify(mock1).onValue(eq(provider.primitive("Moby Dick")), any(ParsingContext.class));
+        verify(mock1).onValue(eq(provider.primitive("The Lord of the Rings")), any(ParsingContext.class));
+        verify(mock1, times(2)).onValue(anyObject(), any(ParsingContext.class));
+        verify(mock2).onValue(eq(provider.primitive("Sayings of the Century")), any(ParsingContext.class));
+        verify(mock2).onValue(eq(provider.primitive("The Lord of the Rings")), any(ParsingContext.class));
+        verify(mock2, times(2)).onValue(anyObject(), any(ParsingContext.class));
+
+        // integral and decimal members match numbers of any representation, but not strings or booleans
+        JsonPathListener mock3 = mock(JsonPathListener.class);
+        surfer.configBuilder()
+                .bind("$.items[?(@.n in [3, 30000000000, 2.50])]", mock3)
+                .buildAndSurf(read("sample_in_set.json"));
+        verify(mock3, times(4)).onValue(anyObject(), any(ParsingContext.class));
+    }
+
     @Test
     public void testJsonPathFilterGreaterThan() throws Exception {
         JsonPathListener mockListener = mock(JsonPathListener.class);
@@ -664,6 +913,98 @@ public abstract class JsonSurferTest {
         verify(mock4, times(5)).onValue(anyObject(), any(ParsingContext.class));
     }
 
+    @Test
+    public void testNegativeArraySlicing() throws Exception {
+        JsonPathListener mock1 = mock(JsonPathListener.class);
+        JsonPathListener mock2 = mock(JsonPathListener.class);
+        JsonPathListener mock3 = mock(JsonPathListener.class);
+        JsonPathListener mock4 = mock(JsonPathListener.class);
+        JsonPathListener mock5 = mock(JsonPathListener.class);
+        surfer.configBuilder()
+                .bind("$[-2:]", mock1)
+                .bind("$[:-2]", mock2)
+                .bind("$[-4:-1]", mock3)
+                .bind("$[1:-3]", mock4)
+                .bind("$[-10:]", mock5)
+                .buildAndSurf(read("array.json"));
+        verify(mock1, times(2)).onValue(anyObject(), any(ParsingContext.class));
+        verify(mock1).onValue(eq(provider.primitiveNull()), any(ParsingContext.class));
+        verify(mock2, times(3)).onValue(anyObject(), any(ParsingContext.class));
+        verify(mock2).onValue(eq(provider.primitive(true)), any(ParsingContext.class));
+        verify(mock3, times(3)).onValue(anyObject(), any(ParsingContext.class));
+        verify(mock3).onValue(eq(provider.primitive(8.88)), any(ParsingContext.class));
+        verify(mock4, times(1)).onValue(eq(provider.primitive(8.88)), any(ParsingContext.class));
+        verify(mock5, times(5)).onValue(anyObject(), any(ParsingContext.class));
+    }
+
+    @Test
+    public void testNegativeArrayIndex() throws Exception {
+        Collector collector = surfer.collector(read("sample.json"));
+        ValueBox<String> box1 = collector.collectOne("$.store.book[-1].title", String.class);
+        ValueBox<Collection<Object>> box2 = collector.collectAll("$.store.book[-2]");
+        ValueBox<Collection<String>> box3 = collector.collectAll("$..book[-3:].author", String.class);
+        collector.exec();
+        assertEquals("The Lord of the Rings", box1.get());
+        assertEquals(1, box2.get().size());
+        assertEquals(3, box3.get().size());
+        assertEquals("Evelyn Waugh", box3.get().iterator().next());
+    }
+
+    @Test
+    public void testMatchLimit() throws Exception {
+        JsonPathListener mock1 = mock(JsonPathListener.class);
+        JsonPathListener mock2 = mock(JsonPathListener.class);
+        JsonPathListener mock3 = mock(JsonPathListener.class);
+        JsonPathListener mock4 = mock(JsonPathListener.class);
+        surfer.configBuilder()
+                .bind("$.store.book[*]", 2, mock1)
+                .bind("$..author.limit(3)", mock2)
+                .bind("$.store.book[?(@.category=='fiction')].title", 1, mock3)
+                .bind("$.expensive", mock4)
+                .buildAndSurf(read("sample.json"));
+        verify(mock1, times(2)).onValue(anyObject(), any(ParsingContext.class));
+        verify(mock2, times(3)).onValue(anyObject(), any(ParsingContext.class));
+        verify(mock3, times(1)).onValue(eq(provider.primitive("Sword of Honour")), any(ParsingContext.class));
+        verify(mock4, times(1)).onValue(anyObject(), any(ParsingContext.class));
+    }
+
+    @Test
+    public void testProjection() throws Exception {
+        JsonPathListener mock1 = mock(JsonPathListener.class);
+        JsonPathListener mock2 = mock(JsonPathListener.class);
+        JsonPathListener mock3 = mock(JsonPathListener.class);
+        surfer.configBuilder()
+                .bind("$.store.book[*]{title, price}", mock1)
+                .bind("$.store{bicycle.color, book.author}", mock2)
+                .bind("$.store.book[?(@.author=='Herman Melville')]{isbn}.limit(1)", mock3)
+                .buildAndSurf(read("sample.json"));
+        verify(mock1, times(4)).onValue(argThat(new CustomMatcher<Object>("test projection") {
+            @Override
+            public boolean matches(Object o) {
+                return provider.resolve(o, "title") != null && provider.resolve(o, "price") != null
+                        && provider.resolve(o, "author") == null && provider.resolve(o, "category") == null;
+            }
+        }), any(ParsingContext.class));
+        verify(mock2, times(1)).onValue(argThat(new CustomMatcher<Object>("test nested projection") {
+            @Override
+            public boolean matches(Object o) {
+                Object bicycle = provider.resolve(o, "bicycle");
+                Object firstBook = provider.resolve(provider.resolve(o, "book"), 0);
+                return provider.primitive("red").equals(provider.resolve(bicycle, "color"))
+                        && provider.resolve(bicycle, "price") == null
+                        && provider.primitive("Nigel Rees").equals(provider.resolve(firstBook, "author"))
+                        && provider.resolve(firstBook, "title") == null;
+            }
+        }), any(ParsingContext.class));
+        verify(mock3, times(1)).onValue(argThat(new CustomMatcher<Object>("test projection with filter") {
+            @Override
+            public boolean matches(Object o) {
+                return provider.primitive("0-553-21311-3").equals(provider.resolve(o, "isbn"))
+                        && provider.resolve(o, "title") == null;
+            }
+        }), any(ParsingContext.class));
+    }
+
     @Test
     public void testParsingArray() throws Exception {
         JsonPathListener wholeArray = mock(JsonPathListener.class);
@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.jsfr.json;
+
+import org.jsfr.json.provider.JavaCollectionProvider;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class LineRangeSurferTest {
+
+    private static final int LINES = 60;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path file;
+    private long size;
+
+    @Before
+    public void setUp() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < LINES; i++) {
+            sb.append("{\"id\": ").append(i).append(", \"name\": \"");
+            // a few lines longer than the buffer
+            for (int j = 0; j < (i % 20 == 7 ? 100 : 1); j++) {
+                sb.append('n');
+            }
+            sb.append("\"}");
+            // blank lines and CRLF are tolerated
+            sb.append(i % 10 == 0 ? "\r\n\n" : "\n");
+        }
+        // no newline after the last line
+        sb.append("{\"id\": ").append(LINES).append("}");
+        file = folder.newFile().toPath();
+        Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+        size = Files.size(file);
+    }
+
+    private SurfingConfiguration config(final List<Object> ids) {
+        return config(SurfingConfiguration.builder(), ids);
+    }
+
+    private SurfingConfiguration config(SurfingConfiguration.Builder builder, final List<Object> ids) {
+        return builder
+                .withJsonProvider(JavaCollectionProvider.INSTANCE)
+                .withErrorStrategy(new DefaultErrorHandlingStrategy())
+                .bind("$.id", new JsonPathListener() {
+                    @Override
+                    public void onValue(Object value, ParsingContext context) {
+                        ids.add(((Number) value).longValue());
+                    }
+                }).build();
+    }
+
+    private static List<Object> expectedIds() {
+        List<Object> expected = new ArrayList<Object>();
+        for (long i = 0; i <= LINES; i++) {
+            expected.add(i);
+        }
+        return expected;
+    }
+
+    @Test
+    public void testEverySplitPoint() throws Exception {
+        for (int bufferSize : new int[]{8, 64, LineRangeSurfer.DEFAULT_BUFFER_SIZE}) {
+            for (long split = 0; split <= size; split++) {
+                List<Object> ids = new ArrayList<Object>();
+                LineRangeSurfer surfer = new LineRangeSurfer(NativeParser.INSTANCE, config(ids), bufferSize);
+                surfer.surf(file, 0, split);
+                surfer.surf(file, split, size);
+                assertEquals("split at " + split, expectedIds(), ids);
+            }
+        }
+    }
+
+    @Test
+    public void testManyRanges() throws Exception {
+        JsonSurfer surfer = JsonSurferNative.INSTANCE;
+        for (int ranges = 1; ranges <= 9; ranges++) {
+            List<Object> ids = new ArrayList<Object>();
+            SurfingConfiguration config = config(ids);
+            long rangeSize = size / ranges + 1;
+            for (long start = 0; start < size; start += rangeSize) {
+                surfer.surfRange(file, start, Math.min(size, start + rangeSize), config);
+            }
+            assertEquals(expectedIds(), ids);
+        }
+    }
+
+    @Test
+    public void testSpeculateFieldPositions() throws Exception {
+        for (long split = 0; split <= size; split += 7) {
+            List<Object> ids = new ArrayList<Object>();
+            SurfingConfiguration config = config(SurfingConfiguration.builder().speculateFieldPositions(), ids);
+            JsonSurferNative.INSTANCE.surfRange(file, 0, split, config);
+            JsonSurferNative.INSTANCE.surfRange(file, split, size, config);
+            assertEquals("split at " + split, expectedIds(), ids);
+        }
+    }
+
+    @Test
+    public void testRangeBeyondEndOfFile() throws Exception {
+        List<Object> ids = new ArrayList<Object>();
+        new LineRangeSurfer(NativeParser.INSTANCE, config(ids)).surf(file, size, size + 100);
+        new LineRangeSurfer(NativeParser.INSTANCE, config(ids)).surf(file, size + 10, size + 100);
+        assertEquals(0, ids.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalRange() throws Exception {
+        new LineRangeSurfer(NativeParser.INSTANCE, config(new ArrayList<Object>())).surf(file, 10, 5);
+    }
+
+}
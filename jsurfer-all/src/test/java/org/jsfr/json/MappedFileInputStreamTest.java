@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.jsfr.json;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class MappedFileInputStreamTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shallSlideWindowsAcrossFile() throws Exception {
+        byte[] content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        File file = folder.newFile();
+        Files.write(file.toPath(), content);
+        try (InputStream inputStream = new MappedFileInputStream(file.toPath(), 64)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write(inputStream.read());
+            assertEquals(100, inputStream.skip(100));
+            byte[] chunk = new byte[50];
+            int n;
+            while ((n = inputStream.read(chunk, 0, chunk.length)) > 0) {
+                out.write(chunk, 0, n);
+            }
+            assertEquals(-1, inputStream.read());
+            byte[] expected = new byte[content.length - 100];
+            expected[0] = content[0];
+            System.arraycopy(content, 101, expected, 1, expected.length - 1);
+            assertArrayEquals(expected, out.toByteArray());
+        }
+    }
+
+    @Test
+    public void shallMapWholeFile() throws Exception {
+        byte[] content = "[1, 2, 3]".getBytes(StandardCharsets.UTF_8);
+        File file = folder.newFile();
+        Files.write(file.toPath(), content);
+        MappedByteBuffer buffer = MappedFileInputStream.mapWhole(file.toPath());
+        byte[] mapped = new byte[buffer.remaining()];
+        buffer.get(mapped);
+        assertArrayEquals(content, mapped);
+    }
+
+}
@@ -0,0 +1,301 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.jsfr.json;
+
+import org.jsfr.json.exception.JsonSurfingException;
+import org.jsfr.json.provider.GsonProvider;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+public class NativeParserTest extends JsonSurferTest {
+
+    @Before
+    public void setUp() throws Exception {
+        provider = GsonProvider.INSTANCE;
+        surfer = new JsonSurfer(NativeParser.INSTANCE, provider);
+    }
+
+    @Test
+    public void testNonBlockingParser() throws Exception {
+        JsonPathListener mockListener = mock(JsonPathListener.class);
+        JsonSurfer surfer = JsonSurferNative.INSTANCE;
+        SurfingConfiguration config = surfer.configBuilder()
+                .bind("$['foo','bar','baz']", mockListener)
+                .build();
+        byte[] part1 = "{\"foo\": 12".getBytes("UTF-8");
+        byte[] part2 = "34, \"bar\": \"ab\\".getBytes("UTF-8");
+        byte[] part3 = "u00e9é\", \"baz\": [tr".getBytes("UTF-8");
+        byte[] part4 = "ue]}".getBytes("UTF-8");
+
+        NonBlockingParser nonBlockingParser = surfer.createNonBlockingParser(config);
+        assertTrue(nonBlockingParser.feed(part1, 0, part1.length));
+        assertTrue(nonBlockingParser.feed(part2, 0, part2.length));
+        // split inside a multi-byte character
+        assertTrue(nonBlockingParser.feed(part3, 0, 9));
+        assertTrue(nonBlockingParser.feed(part3, 9, part3.length));
+        assertTrue(nonBlockingParser.feed(part4, 0, part4.length));
+        nonBlockingParser.endOfInput();
+        assertFalse(nonBlockingParser.feed(part1, 0, part1.length));
+        verify(mockListener).onValue(eq(1234L), any(ParsingContext.class));
+        verify(mockListener).onValue(eq("abéé"), any(ParsingContext.class));
+        verify(mockListener).onValue(eq(Arrays.asList(true)), any(ParsingContext.class));
+    }
+
+    @Test
+    public void testNonBlockingParserByteByByte() throws Exception {
+        byte[] json = readAsString("sample.json").getBytes(StandardCharsets.UTF_8);
+        Collection<Object> expected = surfer.collectAll(readAsString("sample.json"), "$..*");
+        CollectAllListener<Object> listener = new CollectAllListener<>(provider, Object.class);
+        NonBlockingParser nonBlockingParser = surfer.createNonBlockingParser(surfer.configBuilder().bind("$..*", listener).build());
+        for (int i = 0; i < json.length; i++) {
+            assertTrue(nonBlockingParser.feed(json, i, i + 1));
+        }
+        nonBlockingParser.endOfInput();
+        assertEquals(expected, listener.getCollection());
+    }
+
+    @Test
+    public void testNonBlockingParserWithByteBuffers() throws Exception {
+        byte[] json = readAsString("sample.json").getBytes(StandardCharsets.UTF_8);
+        Collection<Object> expected = surfer.collectAll(readAsString("sample.json"), "$..*");
+        CollectAllListener<Object> listener = new CollectAllListener<>(provider, Object.class);
+        NonBlockingParser nonBlockingParser = surfer.createNonBlockingParser(surfer.configBuilder().bind("$..*", listener).build());
+        // the same direct buffer is overwritten as soon as feed returns
+        ByteBuffer direct = ByteBuffer.allocateDirect(7);
+        for (int i = 0; i < json.length; i += direct.capacity()) {
+            direct.clear();
+            direct.put(json, i, Math.min(direct.capacity(), json.length - i)).flip();
+            assertTrue(nonBlockingParser.feed(direct));
+            assertFalse(direct.hasRemaining());
+        }
+        nonBlockingParser.endOfInput();
+        assertEquals(expected, listener.getCollection());
+    }
+
+    @Test
+    public void testReaderSource() throws Exception {
+        Collection<Object> expected = surfer.collectAll(readAsString("sample.json"), "$..*");
+        assertEquals(expected, surfer.collectAll(new StringReader(readAsString("sample.json")), "$..*"));
+    }
+
+    @Test
+    public void testNumbersAndEscapes() throws Exception {
+        String json = "[0, -1, 1.5e3, -0.25, 1.2345678901234567e19, \"\\\"\\\\\\/\\b\\f\\n\\r\\t\\ud83d\\ude00\", \"中文\", null, false]";
+        assertEquals(Arrays.asList(0L, -1L, 1500.0, -0.25, 1.2345678901234567E19, "\"\\/\b\f\n\r\t😀", "中文", null, false),
+                JsonSurferNative.INSTANCE.collectOne(json, "$"));
+    }
+
+    @Test
+    public void testStringsAcrossWordBoundaries() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            StringBuilder prefix = new StringBuilder();
+            for (int j = 0; j < i; j++) {
+                prefix.append(j % 3 == 0 ? 'é' : (char) ('a' + j));
+            }
+            expected.add(prefix + "\"" + prefix + "\\");
+            json.append(i == 0 ? "" : ",").append('"').append(prefix).append("\\\"").append(prefix).append("\\\\\"");
+        }
+        json.append(']');
+        assertEquals(expected, JsonSurferNative.INSTANCE.collectAll(json.toString(), "$[*]"));
+    }
+
+    @Test
+    public void testIntegerOutOfRange() throws Exception {
+        String json = "{\"a\": 12345678901234567890, \"b\": 9223372036854775807}";
+        assertEquals(Long.MAX_VALUE, JsonSurferNative.INSTANCE.collectOne(json, "$.b"));
+        try {
+            JsonSurferNative.INSTANCE.collectOne(json, "$.a");
+            fail();
+        } catch (JsonSurfingException e) {
+            assertTrue(rootCause(e).getMessage().startsWith("Integer out of range of long"));
+        }
+    }
+
+    @Test
+    public void testMalformedUtf8() throws Exception {
+        byte[] json = new byte[]{'[', '"', 'a', (byte) 0xC3, '"', ',', '"', (byte) 0xEF, (byte) 0xBF, (byte) 0xBD, '"', ']'};
+        assertEquals("\uFFFD", JsonSurferNative.INSTANCE.collectOne(new ByteArrayInputStream(json), "$[1]"));
+        try {
+            JsonSurferNative.INSTANCE.collectOne(new ByteArrayInputStream(json), "$[0]");
+            fail();
+        } catch (JsonSurfingException e) {
+            assertTrue(rootCause(e).getMessage().startsWith("Malformed UTF-8 string"));
+        }
+    }
+
+    @Test(expected = JsonSurfingException.class)
+    public void testMalformedJson() throws Exception {
+        surfer.collectAll("{\"a\": [1, 2,]}", "$.a[*]");
+    }
+
+    @Test(expected = JsonSurfingException.class)
+    public void testTrailingContent() throws Exception {
+        surfer.collectAll("{\"a\": 1} x", "$.b");
+    }
+
+    private static Throwable rootCause(Throwable e) {
+        while (e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+
+    private static String records(int count) {
+        StringBuilder sb = new StringBuilder("{\"meta\": {\"count\": " + count + "}, \"records\": [");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append("{\"id\": ").append(i).append(", \"name\": \"n").append(i).append("\", \"tags\": [").append(i).append(", ").append(i + 1).append("]}");
+        }
+        return sb.append("], \"tail\": \"end\"}").toString();
+    }
+
+    private SurfingConfiguration checkpointConfig(final List<String> collected, final boolean[] pausing) {
+        return surfer.configBuilder()
+                .bind("$.records[*].id", new JsonPathListener() {
+                    @Override
+                    public void onValue(Object value, ParsingContext context) {
+                        collected.add("id" + value);
+                    }
+                })
+                .bind("$.records[*].name", 5, new JsonPathListener() {
+                    @Override
+                    public void onValue(Object value, ParsingContext context) {
+                        collected.add("name" + value);
+                    }
+                })
+                .bind("$.records[?(@.id > 6)].tags[0]", new JsonPathListener() {
+                    @Override
+                    public void onValue(Object value, ParsingContext context) {
+                        collected.add("tag" + value);
+                    }
+                })
+                .bind("$.tail", new JsonPathListener() {
+                    @Override
+                    public void onValue(Object value, ParsingContext context) {
+                        collected.add("tail" + value + context.getJsonPath());
+                    }
+                })
+                .bind("$.records[*]", new JsonPathListener() {
+                    @Override
+                    public void onValue(Object value, ParsingContext context) {
+                        if (pausing[0] && context.getCurrentArrayIndex() % 3 == 2) {
+                            context.pause();
+                        }
+                    }
+                })
+                .build();
+    }
+
+    private static Checkpoint serializeAndBack(Checkpoint checkpoint) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(checkpoint);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (Checkpoint) in.readObject();
+        }
+    }
+
+    @Test
+    public void testResumeFromCheckpoint() throws Exception {
+        byte[] json = records(12).getBytes(StandardCharsets.UTF_8);
+        List<String> expected = new ArrayList<>();
+        surfer.surf(json, 0, json.length, checkpointConfig(expected, new boolean[]{false}));
+        assertEquals(12 + 5 + 5 + 1, expected.size());
+
+        List<String> collected = new ArrayList<>();
+        boolean[] pausing = {true};
+        SurfingConfiguration config = checkpointConfig(collected, pausing);
+        ResumableParser parser = surfer.createResumableParser(new ByteArrayInputStream(json), config);
+        parser.parse();
+        assertEquals("$.records[2]", surfer.checkpoint(parser).getJsonPath());
+        assertTrue(parser.resume());
+        // the surf fails after the second checkpoint
+        Checkpoint checkpoint = serializeAndBack(surfer.checkpoint(parser));
+        assertEquals("$.records[5]", checkpoint.getJsonPath());
+        assertEquals(',', json[(int) checkpoint.getOffset()]);
+
+        List<String> beforeFailure = new ArrayList<>(collected);
+        pausing[0] = false;
+        ResumableParser resumed = surfer.createResumableParser(new ByteArrayInputStream(json, (int) checkpoint.getOffset(), json.length), config, checkpoint);
+        resumed.parse();
+        assertEquals(expected, collected);
+
+        // resume over a file, skipping to the offset
+        collected.clear();
+        collected.addAll(beforeFailure);
+        Path path = Files.createTempFile("jsurfer", ".json");
+        path.toFile().deleteOnExit();
+        Files.write(path, json);
+        surfer.createResumableParser(path, config, checkpoint).parse();
+        assertEquals(expected, collected);
+    }
+
+    @Test
+    public void testNoCheckpointWhileCollecting() throws Exception {
+        SurfingConfiguration config = surfer.configBuilder()
+                .bind("$.records[*]", mock(JsonPathListener.class))
+                .bind("$.records[*].id", new JsonPathListener() {
+                    @Override
+                    public void onValue(Object value, ParsingContext context) {
+                        context.pause();
+                    }
+                })
+                .build();
+        ResumableParser parser = surfer.createResumableParser(records(3), config);
+        assertNull(surfer.checkpoint(parser));
+        parser.parse();
+        // the element holding the id is being collected
+        assertNull(surfer.checkpoint(parser));
+    }
+
+}
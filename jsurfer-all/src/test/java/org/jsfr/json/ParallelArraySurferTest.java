@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.jsfr.json;
+
+import org.jsfr.json.exception.JsonSurfingException;
+import org.jsfr.json.provider.JavaCollectionProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ParallelArraySurferTest {
+
+    private static final String[] PATHS = {"$[*].id", "$[*].tags[1]", "$..name", "$[?(@.v == 1)].name", "$[2:5].id", "$[7]", "$[*]", "$[*].tags[-1]"};
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+    }
+
+    private static byte[] array(int count) {
+        StringBuilder sb = new StringBuilder("\uFEFF [\n");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(",\n");
+            }
+            if (i % 10 == 9) {
+                sb.append(i);
+                continue;
+            }
+            // strings holding delimiters and escaped quotes must not confuse the boundary scan
+            sb.append("{\"id\": ").append(i).append(", \"v\": ").append(i % 3)
+                    .append(", \"tags\": [\"a,]\", \"b\\\"}\"], \"name\": \"n").append(i).append("\\\\\"}");
+        }
+        sb.append("\n] \n");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static SurfingConfiguration config(final List<Object> results) {
+        SurfingConfiguration.Builder builder = SurfingConfiguration.builder()
+                .withJsonProvider(JavaCollectionProvider.INSTANCE)
+                .withErrorStrategy(new DefaultErrorHandlingStrategy());
+        for (final String path : PATHS) {
+            builder.bind(path, new JsonPathListener() {
+                @Override
+                public void onValue(Object value, ParsingContext context) {
+                    results.add(path + " " + context.getJsonPath() + " " + context.getCurrentArrayIndex() + " " + value);
+                }
+            });
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void testSameResultsAsSequential() throws Exception {
+        byte[] json = array(200);
+        for (AbstractJsonParserAdapter parser : new AbstractJsonParserAdapter[]{NativeParser.INSTANCE, JacksonParser.INSTANCE}) {
+            List<Object> expected = new ArrayList<Object>();
+            parser.parse(json, 0, json.length, new SurfingContext(config(expected)));
+            // 64 bytes is shorter than an element, so blocks have to grow
+            for (int blockSize : new int[]{64, 300, 1 << 20}) {
+                List<Object> results = new ArrayList<Object>();
+                new ParallelArraySurfer(parser, config(results), executor, true, blockSize).surf(new ByteArrayInputStream(json));
+                assertEquals(expected, results);
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyArray() throws Exception {
+        List<Object> results = new ArrayList<Object>();
+        new ParallelArraySurfer(NativeParser.INSTANCE, config(results), executor, true).surf(new ByteArrayInputStream(" [ ] ".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(0, results.size());
+    }
+
+    @Test
+    public void testUnordered() throws Exception {
+        JsonSurfer surfer = JsonSurferNative.INSTANCE;
+        final int[] sum = new int[1];
+        surfer.surfArrayElements(new ByteArrayInputStream(array(1000)), surfer.configBuilder().bind("$[*].id", new JsonPathListener() {
+            @Override
+            public void onValue(Object value, ParsingContext context) {
+                synchronized (sum) {
+                    sum[0] += ((Number) value).intValue();
+                }
+            }
+        }).build(), executor, false);
+        int expected = 0;
+        for (int i = 0; i < 1000; i++) {
+            expected += i % 10 == 9 ? 0 : i;
+        }
+        assertEquals(expected, sum[0]);
+    }
+
+    @Test
+    public void testRejectBindingsNeedingWholeArray() throws Exception {
+        JsonSurfer surfer = JsonSurferNative.INSTANCE;
+        for (String path : new String[]{"$[-1]", "$[-2:].id", "$..[-1]", "$[*].id.limit(2)"}) {
+            try {
+                surfer.surfArrayElements(new ByteArrayInputStream(array(10)), surfer.configBuilder()
+                        .bind(path, new CollectAllListener<Object>(JavaCollectionProvider.INSTANCE, Object.class)).build(), executor, true);
+                fail(path);
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    private void surfMalformed(String json) {
+        List<Object> results = new ArrayList<Object>();
+        new ParallelArraySurfer(NativeParser.INSTANCE, config(results), executor, true, 8).surf(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test(expected = JsonSurfingException.class)
+    public void testNotAnArray() throws Exception {
+        surfMalformed("{\"id\": 1}");
+    }
+
+    @Test(expected = JsonSurfingException.class)
+    public void testUnclosedArray() throws Exception {
+        surfMalformed("[{\"id\": 1}, {\"id\": 2}");
+    }
+
+    @Test(expected = JsonSurfingException.class)
+    public void testMissingElement() throws Exception {
+        surfMalformed("[{\"id\": 1}, ]");
+    }
+
+    @Test(expected = JsonSurfingException.class)
+    public void testTrailingContent() throws Exception {
+        surfMalformed("[{\"id\": 1}] 2");
+    }
+
+}
@@ -0,0 +1,258 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.jsfr.json;
+
+import org.jsfr.json.exception.JsonSurfingException;
+import org.jsfr.json.provider.JavaCollectionProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelLineSurferTest {
+
+    private static final int LINES = 5000;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+    }
+
+    private static InputStream lines(int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append("{\"id\": ").append(i).append(", \"tags\": [\"a\", \"b\"], \"items\": [{\"v\": ").append(i % 3).append(", \"name\": \"n").append(i).append("\"}]}");
+            // blank lines and CRLF are tolerated
+            sb.append(i % 100 == 0 ? "\r\n\n" : "\n");
+        }
+        return new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Object> expectedIds() {
+        List<Object> expected = new ArrayList<Object>();
+        for (long i = 0; i < LINES; i++) {
+            expected.add(i);
+        }
+        return expected;
+    }
+
+    private static SurfingConfiguration.Builder configBuilder() {
+        return SurfingConfiguration.builder()
+                .withJsonProvider(JavaCollectionProvider.INSTANCE)
+                .withErrorStrategy(new DefaultErrorHandlingStrategy());
+    }
+
+    @Test
+    public void testOrdered() throws Exception {
+        for (AbstractJsonParserAdapter parser : new AbstractJsonParserAdapter[]{NativeParser.INSTANCE, JacksonParser.INSTANCE}) {
+            final List<Object> ids = new ArrayList<Object>();
+            final List<Object> names = new ArrayList<Object>();
+            final List<Object> items = new ArrayList<Object>();
+            SurfingConfiguration config = configBuilder()
+                    .bind("$.id", new JsonPathListener() {
+                        @Override
+                        public void onValue(Object value, ParsingContext context) {
+                            assertEquals("$.id", context.getJsonPath());
+                            ids.add(((Number) value).longValue());
+                        }
+                    })
+                    .bind("$.items[?(@.v == 1)].name", new JsonPathListener() {
+                        @Override
+                        public void onValue(Object value, ParsingContext context) {
+                            names.add(value);
+                        }
+                    })
+                    .bind("$.items[?(@.v == 1)]", new JsonPathListener() {
+                        @Override
+                        public void onValue(Object value, ParsingContext context) {
+                            items.add(((Map) value).get("name"));
+                        }
+                    }).build();
+            // small blocks spread the lines over all workers
+            new ParallelLineSurfer(parser, config, executor, true, 1000).surf(lines(LINES));
+            assertEquals(expectedIds(), ids);
+            assertEquals(LINES / 3 + 1, names.size());
+            assertEquals("n1", names.get(0));
+            assertEquals("n4", names.get(1));
+            assertEquals(names, items);
+        }
+    }
+
+    @Test
+    public void testUnordered() throws Exception {
+        JsonSurfer surfer = JsonSurferNative.INSTANCE;
+        final List<Object> ids = Collections.synchronizedList(new ArrayList<Object>());
+        surfer.surfLines(lines(LINES), surfer.configBuilder().bind("$.id", new JsonPathListener() {
+            @Override
+            public void onValue(Object value, ParsingContext context) {
+                ids.add(value);
+            }
+        }).build(), executor, false);
+        List<Object> sorted = new ArrayList<Object>(ids);
+        Collections.sort(sorted, new Comparator<Object>() {
+            @Override
+            public int compare(Object o1, Object o2) {
+                return Long.compare((Long) o1, (Long) o2);
+            }
+        });
+        assertEquals(expectedIds(), sorted);
+    }
+
+    @Test
+    public void testLimitAndStopApplyPerLine() throws Exception {
+        JsonSurfer surfer = JsonSurferNative.INSTANCE;
+        final List<Object> ids = new ArrayList<Object>();
+        final List<Object> tags = new ArrayList<Object>();
+        final List<Object> names = new ArrayList<Object>();
+        surfer.surfLines(lines(LINES), surfer.configBuilder()
+                .bind("$.id", new JsonPathListener() {
+                    @Override
+                    public void onValue(Object value, ParsingContext context) {
+                        ids.add(value);
+                    }
+                })
+                .bind("$.tags[*]", 1, new JsonPathListener() {
+                    @Override
+                    public void onValue(Object value, ParsingContext context) {
+                        tags.add(value);
+                        // skips the items of this line only
+                        context.stop();
+                    }
+                })
+                .bind("$.items[*].name", new JsonPathListener() {
+                    @Override
+                    public void onValue(Object value, ParsingContext context) {
+                        names.add(value);
+                    }
+                }).build(), executor, true);
+        assertEquals(LINES, ids.size());
+        assertEquals(Collections.nCopies(LINES, "a"), tags);
+        assertEquals(0, names.size());
+    }
+
+    private static InputStream drifting(int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            String id = "\"id\": " + i;
+            String user = "\"user\": {\"age\": " + i % 90 + ", \"address\": {\"zip\": \"z\", \"city\": \"c" + i + "\"}, \"tags\": [\"t0\", \"t" + i + "\"]}";
+            String items = "\"items\": [{\"v\": {\"w\": 1}}, {\"name\": \"n" + i + "\"}]";
+            if (i % 50 == 17) {
+                // fields in another order
+                sb.append("{").append(items).append(", ").append(user).append(", ").append(id).append("}");
+            } else if (i % 97 == 5) {
+                // a missing field
+                sb.append("{").append(id).append(", \"items\": []}");
+            } else if (i >= count / 2) {
+                // the layout changes for good
+                sb.append("{\"extra\": [1, {\"id\": -1}], ").append(id).append(", ").append(user).append(", ").append(items).append("}");
+            } else {
+                sb.append("{").append(id).append(", \"note\": \"{[\\\"\", ").append(user).append(", ").append(items).append("}");
+            }
+            sb.append("\n");
+        }
+        return new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Object> surfDrifting(AbstractJsonParserAdapter parser, SurfingConfiguration.Builder builder, ExecutorService executor) {
+        final List<Object> values = new ArrayList<Object>();
+        JsonPathListener listener = new JsonPathListener() {
+            @Override
+            public void onValue(Object value, ParsingContext context) {
+                values.add(context.getJsonPath() + "=" + value);
+                if ("t7".equals(value)) {
+                    // skips the items of this line only
+                    context.stop();
+                }
+            }
+        };
+        SurfingConfiguration config = builder
+                .bind("$.id", listener)
+                .bind("$.user.address.city", listener)
+                .bind("$.user.tags[1]", listener)
+                .bind("$.items[1].name", listener)
+                .bind("$.items[0].v", listener)
+                .build();
+        new ParallelLineSurfer(parser, config, executor, true, 1000).surf(drifting(LINES));
+        return values;
+    }
+
+    @Test
+    public void testSpeculateFieldPositions() throws Exception {
+        for (AbstractJsonParserAdapter parser : new AbstractJsonParserAdapter[]{NativeParser.INSTANCE, JacksonParser.INSTANCE}) {
+            List<Object> expected = surfDrifting(parser, configBuilder(), executor);
+            List<Object> speculated = surfDrifting(parser, configBuilder().withCharset(StandardCharsets.UTF_8).speculateFieldPositions(), executor);
+            assertEquals(LINES * 5 - LINES / 97 * 4 - 2, expected.size());
+            assertEquals(expected, speculated);
+        }
+    }
+
+    @Test
+    public void testLineLongerThanBlock() throws Exception {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            sb.append(i == 0 ? "" : ",").append(i);
+        }
+        sb.append("]\n[1]\n");
+        final List<Object> lengths = new ArrayList<Object>();
+        SurfingConfiguration config = configBuilder().bind("$", new JsonPathListener() {
+            @Override
+            public void onValue(Object value, ParsingContext context) {
+                lengths.add(((List) value).size());
+            }
+        }).build();
+        new ParallelLineSurfer(NativeParser.INSTANCE, config, executor, true, 64).surf(new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8)));
+        assertEquals(2, lengths.size());
+        assertEquals(1000, lengths.get(0));
+        assertEquals(1, lengths.get(1));
+    }
+
+    @Test(expected = JsonSurfingException.class)
+    public void testMalformedLine() throws Exception {
+        JsonSurfer surfer = JsonSurferNative.INSTANCE;
+        surfer.surfLines(new ByteArrayInputStream("{\"id\": 1}\n{\"id\": \n".getBytes(StandardCharsets.UTF_8)),
+                surfer.configBuilder().bind("$.id", new CollectAllListener<Object>(JavaCollectionProvider.INSTANCE, Object.class)).build(), executor, true);
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.jsfr.json;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PipelinedInflaterInputStreamTest {
+
+    private static byte[] content(int size) {
+        byte[] content = new byte[size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            // compressible but not trivially
+            content[i] = (byte) ('a' + random.nextInt(8));
+        }
+        return content;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out)) {
+            deflate.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] readAll(InputStream inputStream) throws IOException {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] chunk = new byte[1000];
+            int n;
+            while ((n = inputStream.read(chunk, 0, chunk.length)) >= 0) {
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    @Test
+    public void shallInflateGzip() throws Exception {
+        byte[] content = content(1 << 20);
+        assertArrayEquals(content, readAll(new PipelinedInflaterInputStream(new ByteArrayInputStream(gzip(content)))));
+    }
+
+    @Test
+    public void shallInflateZlib() throws Exception {
+        byte[] content = content(300000);
+        assertArrayEquals(content, readAll(new PipelinedInflaterInputStream(new ByteArrayInputStream(deflate(content)))));
+    }
+
+    @Test
+    public void shallInflateWithTinyBuffers() throws Exception {
+        byte[] content = content(10000);
+        assertArrayEquals(content, readAll(new PipelinedInflaterInputStream(new ByteArrayInputStream(gzip(content)), 7, 2)));
+    }
+
+    @Test
+    public void shallInflateMultipleMembers() throws Exception {
+        byte[] first = content(5000);
+        byte[] second = content(7000);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        compressed.write(gzip(first));
+        compressed.write(gzip(second));
+        compressed.write(gzip(new byte[0]));
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expected.write(first);
+        expected.write(second);
+        assertArrayEquals(expected.toByteArray(), readAll(new PipelinedInflaterInputStream(new ByteArrayInputStream(compressed.toByteArray()), 100, 3)));
+    }
+
+    @Test
+    public void shallReadByteByByte() throws Exception {
+        byte[] content = content(2000);
+        InputStream inputStream = new PipelinedInflaterInputStream(new ByteArrayInputStream(gzip(content)), 64, 2);
+        for (byte b : content) {
+            assertEquals(b & 0xff, inputStream.read());
+        }
+        assertEquals(-1, inputStream.read());
+        inputStream.close();
+    }
+
+    @Test(expected = IOException.class)
+    public void shallFailOnCorruptTrailer() throws Exception {
+        byte[] compressed = gzip(content(2000));
+        compressed[compressed.length - 6] ^= 1;
+        readAll(new PipelinedInflaterInputStream(new ByteArrayInputStream(compressed)));
+    }
+
+    @Test(expected = IOException.class)
+    public void shallFailOnTruncatedInput() throws Exception {
+        byte[] compressed = gzip(content(20000));
+        readAll(new PipelinedInflaterInputStream(new ByteArrayInputStream(Arrays.copyOf(compressed, compressed.length / 2))));
+    }
+
+    @Test(expected = IOException.class)
+    public void shallFailOnUncompressedInput() throws Exception {
+        readAll(new PipelinedInflaterInputStream(new ByteArrayInputStream("{\"a\": 1}".getBytes("UTF-8"))));
+    }
+
+    @Test(timeout = 10000)
+    public void shallFailOnUncheckedExceptionFromInput() throws Exception {
+        final byte[] compressed = gzip(content(200000));
+        InputStream failing = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() {
+                if (position == compressed.length / 2) {
+                    throw new IllegalStateException("Source failed");
+                }
+                return compressed[position++] & 0xff;
+            }
+        };
+        try {
+            readAll(new PipelinedInflaterInputStream(failing, 64, 2));
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.jsfr.json;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class RawJsonScannerTest {
+
+    private static int skip(String json) throws IOException {
+        RawJsonScanner scanner = new RawJsonScanner() {
+        };
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        scanner.setInput(bytes, 0, bytes.length);
+        scanner.skipValue();
+        return scanner.pos;
+    }
+
+    @Test
+    public void testSkipValue() throws Exception {
+        String[] values = {
+                "{\"s\": \"}]\\\"{[\\\\\"}",
+                "[\"]\", \"\\\\\", \"\\\\\\\"[\", {\"k\": [[], {}]}]",
+                "{\"café\": \"été {\", \"n\": [1, 2.5, true, null]}",
+                "[[[[[[[[[[\"deep\"]]]]]]]]]]"
+        };
+        // move the brackets, quotes and escapes through every offset within 8 bytes
+        String padding = "";
+        for (int i = 0; i < 8; i++) {
+            for (String value : values) {
+                String member = value.charAt(0) == '{' ? "\"p\": \"" + padding + "\", " : "\"" + padding + "\", ";
+                String padded = value.charAt(0) + member + value.substring(1);
+                int length = padded.getBytes(StandardCharsets.UTF_8).length;
+                assertEquals(padded, length, skip(padded + ", [1]}"));
+                assertEquals(padded, length, skip(padded));
+            }
+            padding += "x";
+        }
+    }
+
+    @Test
+    public void testSkipUnclosedValue() throws Exception {
+        for (String json : new String[]{"{\"a\": [1, 2]", "[\"]\"", "[\"\\\"]", "{\"a\": \"}\"                      "}) {
+            try {
+                skip(json);
+                fail(json);
+            } catch (IOException e) {
+                // expected
+            }
+        }
+    }
+
+}
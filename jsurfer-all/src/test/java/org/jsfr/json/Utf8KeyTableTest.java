@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.jsfr.json;
+
+import org.jsfr.json.compiler.JsonPathCompiler;
+import org.jsfr.json.path.ChildNode;
+import org.jsfr.json.path.JsonPath;
+import org.jsfr.json.provider.JavaCollectionProvider;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class Utf8KeyTableTest {
+
+    private static String lookup(Utf8KeyTable table, String key) {
+        byte[] bytes = ("  " + key + "  ").getBytes(StandardCharsets.UTF_8);
+        return table.lookup(bytes, 2, bytes.length - 2);
+    }
+
+    @Test
+    public void testKeysOfPathsAndFilters() throws Exception {
+        JsonPath path = JsonPathCompiler.compile("$.store['book','magazine'][?(@.price > 10 && !(@.café == 'x'))].title");
+        SurfingConfiguration config = SurfingConfiguration.builder()
+                .withJsonProvider(JavaCollectionProvider.INSTANCE)
+                .bind(path, new JsonPathListener[0])
+                .bind("$..author", new JsonPathListener[0])
+                .build();
+        Utf8KeyTable table = config.getKeyTable();
+        assertSame(((ChildNode) path.get(1)).getKey(), lookup(table, "store"));
+        for (String key : new String[]{"book", "magazine", "price", "café", "title", "author"}) {
+            assertEquals(key, lookup(table, key));
+        }
+        assertNull(lookup(table, "stor"));
+        assertNull(lookup(table, "store2"));
+        assertNull(lookup(table, "other"));
+        assertNull(lookup(table, ""));
+    }
+
+    @Test
+    public void testEmptyTable() throws Exception {
+        assertNull(lookup(SurfingConfiguration.builder().build().getKeyTable(), "store"));
+    }
+
+    @Test
+    public void testLongKeys() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            sb.append('k');
+        }
+        String key = sb.toString();
+        Utf8KeyTable table = SurfingConfiguration.builder().bind("$['" + key + "']", new JsonPathListener[0]).build().getKeyTable();
+        assertEquals(key, lookup(table, key));
+        assertNull(lookup(table, key + "k"));
+    }
+
+    @Test
+    public void testSurfingWithEscapedAndUnicodeKeys() throws Exception {
+        Collection<Object> values = JsonSurferNative.INSTANCE.collectAll(
+                "{\"caf\\u00e9\": 1, \"café\": 2, \"other\": {\"café\": 3}}", "$.café");
+        assertEquals(2, values.size());
+    }
+
+    @Test
+    public void testOnlyReferencedKeysMatch() throws Exception {
+        JsonPathListener[] none = new JsonPathListener[0];
+        assertTrue(SurfingConfiguration.builder().bind("$.a['b','c'][1]", none).bind("$.d[1:3]", none).build().isOnlyReferencedKeysMatch());
+        // a wildcard matches object entries too
+        assertFalse(SurfingConfiguration.builder().bind("$.a.*", none).build().isOnlyReferencedKeysMatch());
+        assertFalse(SurfingConfiguration.builder().bind("$.d[*]", none).build().isOnlyReferencedKeysMatch());
+        assertFalse(SurfingConfiguration.builder().bind("$..a", none).build().isOnlyReferencedKeysMatch());
+        assertFalse(SurfingConfiguration.builder().bind("$.a[?(@.b == 1)]", none).build().isOnlyReferencedKeysMatch());
+        assertFalse(SurfingConfiguration.builder().build().isOnlyReferencedKeysMatch());
+    }
+
+    @Test
+    public void testSurfingWithUnreferencedKeys() throws Exception {
+        JsonSurfer surfer = JsonSurferNative.INSTANCE;
+        String json = "{\"x\": {\"a\": 0}, \"\\u0061\": {\"b\": {\"y\": 1, \"z\": [2]}}, \"a\": {\"w\": 3}}";
+        final List<String> matches = new ArrayList<String>();
+        JsonPathListener listener = new JsonPathListener() {
+            @Override
+            public void onValue(Object value, ParsingContext context) {
+                matches.add(context.getJsonPath() + " " + context.getCurrentFieldName() + "=" + value);
+            }
+        };
+        // keys inside a collected value are decoded, and an escaped key may spell a referenced one
+        surfer.configBuilder().bind("$.a.b", listener).buildAndSurf(json);
+        assertEquals(Arrays.asList("$.a.b b={y=1, z=[2]}"), matches);
+        matches.clear();
+        // a wildcard matches any key, which has to be decoded
+        surfer.configBuilder().bind("$.a.*", listener).buildAndSurf(json);
+        assertEquals(Arrays.asList("$.a.b b={y=1, z=[2]}", "$.a.w w=3"), matches);
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json.filter;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RegexPrefilterTest {
+
+    @Test
+    public void shallExtractRequiredSubstrings() {
+        RegexPrefilter prefilter = RegexPrefilter.compile(Pattern.compile(".*ERROR.*timeout"));
+        assertEquals(Arrays.asList("timeout", "ERROR"), prefilter.getSubstrings());
+        assertEquals(12, prefilter.getMinLength());
+        assertNull(prefilter.getPrefix());
+        assertNull(prefilter.getSuffix());
+        assertTrue(prefilter.mayMatch("[ERROR] read timeout"));
+        assertFalse(prefilter.mayMatch("[WARN] read timeout"));
+    }
+
+    @Test
+    public void shallExtractAnchors() {
+        RegexPrefilter prefilter = RegexPrefilter.compile(Pattern.compile("^ab+c\\.\\d{2,}x?z$"));
+        assertEquals("ab", prefilter.getPrefix());
+        assertEquals("z", prefilter.getSuffix());
+        assertEquals(Arrays.asList("c.", "z"), prefilter.getSubstrings());
+        assertEquals(7, prefilter.getMinLength());
+        assertTrue(prefilter.mayMatch("abbc.12z"));
+        assertTrue(prefilter.mayMatch("abbc.12z\n"));
+        assertFalse(prefilter.mayMatch("xabc.12z"));
+        assertFalse(prefilter.mayMatch("abc.12zz!"));
+    }
+
+    @Test
+    public void shallSkipGroupsAndClasses() {
+        RegexPrefilter prefilter = RegexPrefilter.compile(Pattern.compile("id-(a|b)[)(]*-end"));
+        assertEquals(Arrays.asList("-end", "id-"), prefilter.getSubstrings());
+        assertEquals(7, prefilter.getMinLength());
+    }
+
+    @Test
+    public void shallGiveUpOnUnsupportedPattern() {
+        assertNull(RegexPrefilter.compile(Pattern.compile("abc|def")));
+        assertNull(RegexPrefilter.compile(Pattern.compile("abc", Pattern.CASE_INSENSITIVE)));
+        assertNull(RegexPrefilter.compile(Pattern.compile("(?i)abc")));
+        assertNull(RegexPrefilter.compile(Pattern.compile("\\Qa.b\\E")));
+        assertNull(RegexPrefilter.compile(Pattern.compile("\\x41bc")));
+        assertNull(RegexPrefilter.compile(Pattern.compile(".*")));
+        assertEquals(Collections.<String>emptyList(), RegexPrefilter.compile(Pattern.compile("\\d\\d")).getSubstrings());
+    }
+
+}
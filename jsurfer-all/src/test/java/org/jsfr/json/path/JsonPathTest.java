@@ -43,6 +43,7 @@ import static org.jsfr.json.compiler.JsonPathCompiler.compile;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class JsonPathTest {
 
@@ -105,4 +106,18 @@ public class JsonPathTest {
         }
     }
 
+    @Test
+    public void testLimitMustBePositiveInteger() throws Exception {
+        assertEquals(3, compile("$..author.limit(3)").getLimit());
+        for (String path : new String[]{"$..author.limit(1.5)", "$..author.limit(1e3)", "$..author.limit(0)",
+                "$..author.limit(-1)", "$..author.limit(3000000000)"}) {
+            try {
+                compile(path);
+                fail(path);
+            } catch (ParseCancellationException e) {
+                // expected
+            }
+        }
+    }
+
 }
\ No newline at end of file
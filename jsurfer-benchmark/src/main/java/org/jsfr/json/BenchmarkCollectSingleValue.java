@@ -68,8 +68,16 @@ public class BenchmarkCollectSingleValue {
     private JsonSurfer simpleSurfer;
     private JsonSurfer fastjsonSurfer;
     private SurfingConfiguration surfingConfiguration;
+    private SurfingConfiguration skipAheadConfiguration;
     private CollectOneListener collectOneListener;
     private String json;
+    private byte[] jsonBytes;
+    private JsonSurfer nativeSurfer;
+    private SurfingConfiguration largeConfiguration;
+    private SurfingConfiguration largeSkipAheadConfiguration;
+    // a large document with the value near its end, where skip-ahead mode pays off
+    private String largeJson;
+    private byte[] largeJsonBytes;
 
     @Setup
     public void setup() throws Exception {
@@ -81,7 +89,26 @@ public class BenchmarkCollectSingleValue {
         fastjsonSurfer = JsonSurferFastJson.INSTANCE;
         collectOneListener = new CollectOneListener(true);
         surfingConfiguration = SurfingConfiguration.builder().bind("$.store.book[0].author", collectOneListener).withCharset(StandardCharsets.UTF_8).build();
+        skipAheadConfiguration = SurfingConfiguration.builder().skipAhead().bind("$.store.book[0].author", collectOneListener).withCharset(StandardCharsets.UTF_8).build();
         json = Resources.toString(Resources.getResource("sample.json"), StandardCharsets.UTF_8);
+        jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+        nativeSurfer = JsonSurferNative.INSTANCE;
+        largeConfiguration = SurfingConfiguration.builder().bind("$.meta.requestId", collectOneListener).withCharset(StandardCharsets.UTF_8).build();
+        largeSkipAheadConfiguration = SurfingConfiguration.builder().skipAhead().bind("$.meta.requestId", collectOneListener).withCharset(StandardCharsets.UTF_8).build();
+        StringBuilder sb = new StringBuilder("{\"records\": [");
+        // about 20 MB of log records, whose text fields make up most of the bytes skipped
+        for (int i = 0; i < 80000; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\": ").append(i).append(", \"level\": \"INFO\", \"logger\": \"org.jsfr.json.service.RequestHandler\", ")
+                    .append("\"message\": \"Handled request ").append(i).append(" from client ").append(i % 100)
+                    .append(" after validating the payload against the registered schema and writing the audit trail\", ")
+                    .append("\"tags\": [\"api\", \"audit\"]}");
+        }
+        sb.append("], \"meta\": {\"requestId\": \"r-42\"}}");
+        largeJson = sb.toString();
+        largeJsonBytes = largeJson.getBytes(StandardCharsets.UTF_8);
     }
 
     @Benchmark
@@ -116,6 +143,118 @@ public class BenchmarkCollectSingleValue {
         return value;
     }
 
+    @Benchmark
+    public Object benchmarkGsonWithJsonSurferSkipAhead() {
+        gsonSurfer.surf(json, skipAheadConfiguration);
+        Object value = collectOneListener.getValue();
+        LOGGER.trace("The author of the first book: {}", value);
+        return value;
+    }
+
+    @Benchmark
+    public Object benchmarkJacksonWithJsonSurferSkipAhead() {
+        jacksonSurfer.surf(json, skipAheadConfiguration);
+        Object value = collectOneListener.getValue();
+        LOGGER.trace("The author of the first book: {}", value);
+        return value;
+    }
+
+    @Benchmark
+    public Object benchmarkJacksonBytesWithJsonSurfer() {
+        jacksonSurfer.surf(jsonBytes, 0, jsonBytes.length, surfingConfiguration);
+        Object value = collectOneListener.getValue();
+        LOGGER.trace("The author of the first book: {}", value);
+        return value;
+    }
+
+    @Benchmark
+    public Object benchmarkJacksonBytesWithJsonSurferSkipAhead() {
+        jacksonSurfer.surf(jsonBytes, 0, jsonBytes.length, skipAheadConfiguration);
+        Object value = collectOneListener.getValue();
+        LOGGER.trace("The author of the first book: {}", value);
+        return value;
+    }
+
+    @Benchmark
+    public Object benchmarkGsonLargeWithJsonSurfer() {
+        gsonSurfer.surf(largeJson, largeConfiguration);
+        Object value = collectOneListener.getValue();
+        LOGGER.trace("The request id: {}", value);
+        return value;
+    }
+
+    @Benchmark
+    public Object benchmarkGsonLargeWithJsonSurferSkipAhead() {
+        gsonSurfer.surf(largeJson, largeSkipAheadConfiguration);
+        Object value = collectOneListener.getValue();
+        LOGGER.trace("The request id: {}", value);
+        return value;
+    }
+
+    @Benchmark
+    public Object benchmarkJacksonLargeWithJsonSurfer() {
+        jacksonSurfer.surf(largeJson, largeConfiguration);
+        Object value = collectOneListener.getValue();
+        LOGGER.trace("The request id: {}", value);
+        return value;
+    }
+
+    @Benchmark
+    public Object benchmarkJacksonLargeWithJsonSurferSkipAhead() {
+        jacksonSurfer.surf(largeJson, largeSkipAheadConfiguration);
+        Object value = collectOneListener.getValue();
+        LOGGER.trace("The request id: {}", value);
+        return value;
+    }
+
+    @Benchmark
+    public Object benchmarkNativeLargeWithJsonSurfer() {
+        nativeSurfer.surf(largeJson, largeConfiguration);
+        Object value = collectOneListener.getValue();
+        LOGGER.trace("The request id: {}", value);
+        return value;
+    }
+
+    @Benchmark
+    public Object benchmarkNativeLargeWithJsonSurferSkipAhead() {
+        nativeSurfer.surf(largeJson, largeSkipAheadConfiguration);
+        Object value = collectOneListener.getValue();
+        LOGGER.trace("The request id: {}", value);
+        return value;
+    }
+
+    @Benchmark
+    public Object benchmarkJacksonBytesLargeWithJsonSurfer() {
+        jacksonSurfer.surf(largeJsonBytes, 0, largeJsonBytes.length, largeConfiguration);
+        Object value = collectOneListener.getValue();
+        LOGGER.trace("The request id: {}", value);
+        return value;
+    }
+
+    @Benchmark
+    public Object benchmarkJacksonBytesLargeWithJsonSurferSkipAhead() {
+        jacksonSurfer.surf(largeJsonBytes, 0, largeJsonBytes.length, largeSkipAheadConfiguration);
+        Object value = collectOneListener.getValue();
+        LOGGER.trace("The request id: {}", value);
+        return value;
+    }
+
+    @Benchmark
+    public Object benchmarkNativeBytesLargeWithJsonSurfer() {
+        nativeSurfer.surf(largeJsonBytes, 0, largeJsonBytes.length, largeConfiguration);
+        Object value = collectOneListener.getValue();
+        LOGGER.trace("The request id: {}", value);
+        return value;
+    }
+
+    @Benchmark
+    public Object benchmarkNativeBytesLargeWithJsonSurferSkipAhead() {
+        nativeSurfer.surf(largeJsonBytes, 0, largeJsonBytes.length, largeSkipAheadConfiguration);
+        Object value = collectOneListener.getValue();
+        LOGGER.trace("The request id: {}", value);
+        return value;
+    }
+
     @Benchmark
     public Object benchmarkJsonSimpleWithJsonSurfer() {
         simpleSurfer.surf(json, surfingConfiguration);
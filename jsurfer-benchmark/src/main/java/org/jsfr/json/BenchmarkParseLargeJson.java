@@ -42,6 +42,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
@@ -62,8 +63,10 @@ public class BenchmarkParseLargeJson {
     private JsonSurfer gsonSurfer;
     private JsonSurfer jacksonSurfer;
     private JsonSurfer fastjsonSurfer;
+    private JsonSurfer nativeSurfer;
     private SurfingConfiguration surfingConfiguration;
     private String json;
+    private byte[] bytes;
 
     @Setup
     public void setup(final Blackhole blackhole) throws IOException {
@@ -71,6 +74,7 @@ public class BenchmarkParseLargeJson {
         jacksonSurfer = JsonSurferJackson.INSTANCE;
         simpleSurfer = JsonSurferJsonSimple.INSTANCE;
         fastjsonSurfer = JsonSurferFastJson.INSTANCE;
+        nativeSurfer = JsonSurferNative.INSTANCE;
         JsonPathListener blackHoleListener = new JsonPathListener() {
             @Override
             public void onValue(Object value, ParsingContext context) {
@@ -80,6 +84,7 @@ public class BenchmarkParseLargeJson {
         };
         surfingConfiguration = SurfingConfiguration.builder().bind(jsonPath, blackHoleListener).skipOverlappedPath().withCharset(StandardCharsets.UTF_8).build();
         json = Resources.toString(Resources.getResource("allthethings.json"), StandardCharsets.UTF_8);
+        bytes = json.getBytes(StandardCharsets.UTF_8);
     }
 
     @Benchmark
@@ -106,6 +111,24 @@ public class BenchmarkParseLargeJson {
         return null;
     }
 
+    @Benchmark
+    public Object benchmarkNativeWithJsonSurfer() {
+        nativeSurfer.surf(json, surfingConfiguration);
+        return null;
+    }
+
+    @Benchmark
+    public Object benchmarkJacksonWithJsonSurferFromBytes() {
+        jacksonSurfer.surf(new ByteArrayInputStream(bytes), surfingConfiguration);
+        return null;
+    }
+
+    @Benchmark
+    public Object benchmarkNativeWithJsonSurferFromBytes() {
+        nativeSurfer.surf(new ByteArrayInputStream(bytes), surfingConfiguration);
+        return null;
+    }
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(BenchmarkParseLargeJson.class.getSimpleName())
@@ -66,6 +66,7 @@ public class BenchmarkParseLongText {
     private ObjectMapper om;
     private String json;
     private JsonSurfer fastjsonSurfer;
+    private JsonSurfer nativeSurfer;
 
     @Setup
     public void setup() throws Exception {
@@ -73,6 +74,7 @@ public class BenchmarkParseLongText {
         jacksonSurfer = JsonSurferJackson.INSTANCE;
         simpleSurfer = JsonSurferJsonSimple.INSTANCE;
         fastjsonSurfer = JsonSurferFastJson.INSTANCE;
+        nativeSurfer = JsonSurferNative.INSTANCE;
         collectOneListener = new CollectOneListener(true);
         surfingConfiguration = SurfingConfiguration.builder().bind("$.findMe", collectOneListener).withCharset(StandardCharsets.UTF_8).build();
         gson = new GsonBuilder().create();
@@ -126,6 +128,14 @@ public class BenchmarkParseLongText {
         return value;
     }
 
+    @Benchmark
+    public Object benchmarkNativeSurfer() {
+        nativeSurfer.surf(json, surfingConfiguration);
+        Object value = collectOneListener.getValue();
+        LOGGER.trace("Find me: {}", value);
+        return value;
+    }
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(BenchmarkParseLongText.class.getSimpleName())
@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Base class of the built-in parser adapters. It adds byte array, byte buffer and channel sources to {@link JsonParserAdapter}.
+ * By default they are read through {@link #createResumableParser(InputStream, SurfingContext)}; subclasses override them
+ * when the underlying parser reads such sources directly.
+ */
+public abstract class AbstractJsonParserAdapter implements JsonParserAdapter {
+
+    /**
+     * Create and start a resumable parser
+     *
+     * @param bytes   bytes containing json
+     * @param offset  offset of json in bytes
+     * @param length  length of json
+     * @param context SurfingContext
+     */
+    public void parse(byte[] bytes, int offset, int length, SurfingContext context) {
+        createResumableParser(bytes, offset, length, context).parse();
+    }
+
+    /**
+     * Create and start a resumable parser. Bytes between position and limit are parsed and the position of buffer is not changed.
+     *
+     * @param buffer  json buffer, heap or direct
+     * @param context SurfingContext
+     */
+    public void parse(ByteBuffer buffer, SurfingContext context) {
+        createResumableParser(buffer, context).parse();
+    }
+
+    /**
+     * Create and start a resumable parser
+     *
+     * @param channel json channel
+     * @param context SurfingContext
+     */
+    public void parse(ReadableByteChannel channel, SurfingContext context) {
+        createResumableParser(channel, context).parse();
+    }
+
+    /**
+     * Create a resumable parser
+     *
+     * @param bytes   bytes containing json
+     * @param offset  offset of json in bytes
+     * @param length  length of json
+     * @param context Surfing context
+     * @return Resumable Parser
+     */
+    public ResumableParser createResumableParser(byte[] bytes, int offset, int length, SurfingContext context) {
+        return createResumableParser(new ByteArrayInputStream(bytes, offset, length), context);
+    }
+
+    /**
+     * Create a resumable parser. Bytes between position and limit are parsed and the position of buffer is not changed.
+     *
+     * @param buffer  json buffer, heap or direct
+     * @param context Surfing context
+     * @return Resumable Parser
+     */
+    public ResumableParser createResumableParser(ByteBuffer buffer, SurfingContext context) {
+        if (buffer.hasArray()) {
+            return createResumableParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), context);
+        }
+        return createResumableParser(new ByteBufferInputStream(buffer), context);
+    }
+
+    /**
+     * Create a resumable parser
+     *
+     * @param channel json channel
+     * @param context Surfing context
+     * @return Resumable Parser
+     */
+    public ResumableParser createResumableParser(ReadableByteChannel channel, SurfingContext context) {
+        return createResumableParser(Channels.newInputStream(channel), context);
+    }
+
+    /**
+     * @param adapter any parser adapter
+     * @return the adapter itself if it extends this class, otherwise a wrapper reading all byte sources as input streams
+     */
+    static AbstractJsonParserAdapter of(JsonParserAdapter adapter) {
+        if (adapter instanceof AbstractJsonParserAdapter) {
+            return (AbstractJsonParserAdapter) adapter;
+        }
+        return new Delegate(adapter);
+    }
+
+    private static class Delegate extends AbstractJsonParserAdapter {
+
+        private final JsonParserAdapter adapter;
+
+        Delegate(JsonParserAdapter adapter) {
+            this.adapter = adapter;
+        }
+
+        @Deprecated
+        @Override
+        public void parse(Reader reader, SurfingContext context) {
+            adapter.parse(reader, context);
+        }
+
+        @Override
+        public void parse(String json, SurfingContext context) {
+            adapter.parse(json, context);
+        }
+
+        @Override
+        public void parse(InputStream inputStream, SurfingContext context) {
+            adapter.parse(inputStream, context);
+        }
+
+        @Deprecated
+        @Override
+        public ResumableParser createResumableParser(Reader reader, SurfingContext context) {
+            return adapter.createResumableParser(reader, context);
+        }
+
+        @Override
+        public ResumableParser createResumableParser(String json, SurfingContext context) {
+            return adapter.createResumableParser(json, context);
+        }
+
+        @Override
+        public ResumableParser createResumableParser(InputStream json, SurfingContext context) {
+            return adapter.createResumableParser(json, context);
+        }
+
+        @Override
+        public NonBlockingParser createNonBlockingParser(SurfingContext context) {
+            return adapter.createNonBlockingParser(context);
+        }
+
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import org.jsfr.json.exception.JsonSurfingException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Reads input block by block on the calling thread and surfs the documents found in each block with the workers of an
+ * executor. Subclasses decide where a block may be cut and which documents it holds.
+ */
+abstract class AbstractParallelSurfer {
+
+    static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+
+    final AbstractJsonParserAdapter jsonParserAdapter;
+    final SurfingConfiguration config;
+    final boolean ordered;
+    private final ExecutorService executor;
+    private final int blockSize;
+    private final int maxPendingBlocks;
+    // a context is reused by whichever worker surfs the next block
+    private final ConcurrentLinkedQueue<SurfingContext> contexts = new ConcurrentLinkedQueue<SurfingContext>();
+    private final ArrayDeque<Future<List<DeferredMatch>>> pending = new ArrayDeque<Future<List<DeferredMatch>>>();
+
+    AbstractParallelSurfer(AbstractJsonParserAdapter jsonParserAdapter, SurfingConfiguration config, ExecutorService executor, boolean ordered, int blockSize) {
+        this.jsonParserAdapter = jsonParserAdapter;
+        this.config = config;
+        this.executor = executor;
+        this.ordered = ordered;
+        this.blockSize = blockSize;
+        // bounds the memory held by blocks read ahead of the workers
+        this.maxPendingBlocks = 4 * Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * @param block      bytes read so far
+     * @param filled     number of bytes read into block
+     * @param endOfInput whether no more bytes follow
+     * @return length of the prefix of block to surf now, 0 if it holds no complete document yet
+     * @throws IOException if the input is malformed
+     */
+    abstract int cut(byte[] block, int filled, boolean endOfInput) throws IOException;
+
+    /**
+     * @param block block to surf, not modified afterwards
+     * @param end   length of the prefix returned by cut
+     * @return task surfing the documents in block and returning the deferred matches if ordered
+     */
+    abstract Callable<List<DeferredMatch>> createTask(byte[] block, int end);
+
+    void surf(InputStream input) {
+        try {
+            byte[] block = new byte[blockSize];
+            int filled = 0;
+            int n;
+            while ((n = input.read(block, filled, block.length - filled)) != -1) {
+                filled += n;
+                if (filled < block.length) {
+                    continue;
+                }
+                int end = cut(block, filled, false);
+                if (end == 0) {
+                    // a single document longer than the block
+                    block = Arrays.copyOf(block, block.length * 2);
+                    continue;
+                }
+                byte[] next = new byte[Math.max(blockSize, filled - end)];
+                System.arraycopy(block, end, next, 0, filled - end);
+                submit(createTask(block, end));
+                block = next;
+                filled -= end;
+            }
+            int end = cut(block, filled, true);
+            if (end > 0) {
+                submit(createTask(block, end));
+            }
+            while (!pending.isEmpty()) {
+                complete(pending.poll());
+            }
+        } catch (IOException e) {
+            config.getErrorHandlingStrategy().handleParsingException(e);
+        } finally {
+            for (Future<List<DeferredMatch>> future : pending) {
+                future.cancel(true);
+            }
+            pending.clear();
+        }
+    }
+
+    SurfingContext borrowContext() {
+        SurfingContext context = contexts.poll();
+        return context != null ? context : new SurfingContext(config);
+    }
+
+    void returnContext(SurfingContext context) {
+        contexts.offer(context);
+    }
+
+    private void submit(Callable<List<DeferredMatch>> task) {
+        if (pending.size() >= maxPendingBlocks) {
+            complete(pending.poll());
+        }
+        pending.add(executor.submit(task));
+    }
+
+    private void complete(Future<List<DeferredMatch>> future) {
+        List<DeferredMatch> matches;
+        try {
+            matches = future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new JsonSurfingException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JsonSurfingException(e);
+        }
+        if (matches != null) {
+            deliver(matches);
+        }
+    }
+
+    private void deliver(List<DeferredMatch> matches) {
+        int record = -1;
+        boolean stopped = false;
+        Map<String, Object> transientMap = null;
+        for (DeferredMatch match : matches) {
+            if (match.record != record) {
+                record = match.record;
+                stopped = false;
+                transientMap = null;
+            }
+            if (stopped) {
+                continue;
+            }
+            match.transientMap = transientMap;
+            try {
+                match.listener.onValue(match.value, match);
+            } catch (Exception e) {
+                config.getErrorHandlingStrategy().handleExceptionFromListener(e, match);
+            }
+            transientMap = match.transientMap;
+            stopped = match.isStopped();
+        }
+    }
+
+}
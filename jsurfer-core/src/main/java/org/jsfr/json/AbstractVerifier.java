@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import java.util.Collection;
+
+/**
+ * Base of the handlers which hold back matched values until a condition of the json path, e.g. a filter, can be decided
+ */
+public abstract class AbstractVerifier implements JsonSaxHandler {
+
+    protected SurfingConfiguration config;
+    protected JsonPosition currentPosition;
+    private AbstractVerifier dependency;
+
+    public AbstractVerifier(JsonPosition currentPosition, SurfingConfiguration config, AbstractVerifier dependency) {
+        this.currentPosition = currentPosition;
+        this.config = config;
+        this.dependency = dependency;
+    }
+
+    public JsonPathListener addListener(JsonPathListener listener) {
+        BufferedListener newListener = new BufferedListener(this.config, listener);
+        this.buffer(newListener);
+        return newListener;
+    }
+
+    /**
+     * @param bufferedListener listener holding values which are not verified yet
+     */
+    protected abstract void buffer(BufferedListener bufferedListener);
+
+    protected void invokeBuffer(Collection<BufferedListener> bufferedListeners) {
+        if (dependency != null) {
+            for (BufferedListener buffer : bufferedListeners) {
+                dependency.buffer(buffer);
+            }
+        } else {
+            for (BufferedListener buffer : bufferedListeners) {
+                buffer.invokeBufferedValue();
+            }
+        }
+    }
+
+}
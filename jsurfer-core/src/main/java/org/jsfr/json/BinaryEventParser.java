@@ -0,0 +1,410 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import org.jsfr.json.provider.JsonProvider;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Parser of the compact binary event format written by {@link JsonSurfer#writeBinaryEvents(InputStream, java.io.OutputStream)}.
+ * Json archives converted once can be surfed with the same paths and listeners without tokenizing json again.
+ * <p>
+ * The format is a 4-byte magic "JSEV" and a version byte, followed by parsing events each starting with a tag byte:
+ * <ul>
+ * <li>START_OBJECT, END_OBJECT, START_ARRAY, END_ARRAY, TRUE, FALSE and NULL carry no payload</li>
+ * <li>KEY carries a UTF-8 key with a varint length, which is appended to the key dictionary</li>
+ * <li>KEY_REF carries the varint index of a key in the dictionary</li>
+ * <li>STRING carries a UTF-8 string with a varint length</li>
+ * <li>INT and LONG carry a zigzag varint, DOUBLE carries 8 bytes in little-endian order</li>
+ * </ul>
+ * Several documents can follow each other in a stream, surfing them requires a configuration allowing multiple roots.
+ * Byte arrays, heap and direct buffers are read in place, and so are memory-mapped files of up to 2GB, which JsonSurfer
+ * passes as a single buffer; larger files and other streams are read through a buffer. Binary events are bytes, so
+ * String and Reader sources are rejected with UnsupportedOperationException.
+ */
+public class BinaryEventParser extends AbstractJsonParserAdapter {
+
+    static final int MAGIC = 0x4A534556;
+    static final int VERSION = 1;
+
+    static final int START_OBJECT = 0;
+    static final int END_OBJECT = 1;
+    static final int START_ARRAY = 2;
+    static final int END_ARRAY = 3;
+    static final int KEY = 4;
+    static final int KEY_REF = 5;
+    static final int STRING = 6;
+    static final int TRUE = 7;
+    static final int FALSE = 8;
+    static final int NULL = 9;
+    static final int INT = 10;
+    static final int LONG = 11;
+    static final int DOUBLE = 12;
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Holds the last primitive event and creates its value with the JsonProvider only when requested
+     */
+    private static class BinaryPrimitiveHolder implements PrimitiveHolder {
+
+        private final BinaryResumableParser parser;
+        private int tag;
+        private long bits;
+        private int start;
+        private int length;
+        private boolean executed;
+        private Object value;
+
+        BinaryPrimitiveHolder(BinaryResumableParser parser) {
+            this.parser = parser;
+        }
+
+        BinaryPrimitiveHolder of(int tag, long bits, int start, int length) {
+            this.tag = tag;
+            this.bits = bits;
+            this.start = start;
+            this.length = length;
+            this.executed = false;
+            this.value = null;
+            return this;
+        }
+
+        @Override
+        public Object getValue() {
+            if (!executed) {
+                executed = true;
+                JsonProvider jsonProvider = parser.context.getConfig().getJsonProvider();
+                switch (tag) {
+                    case STRING:
+                        value = jsonProvider.primitive(parser.decode(start, length));
+                        break;
+                    case TRUE:
+                        value = jsonProvider.primitive(true);
+                        break;
+                    case FALSE:
+                        value = jsonProvider.primitive(false);
+                        break;
+                    case INT:
+                        value = jsonProvider.primitive((int) bits);
+                        break;
+                    case LONG:
+                        value = jsonProvider.primitive(bits);
+                        break;
+                    case DOUBLE:
+                        value = jsonProvider.primitive(Double.longBitsToDouble(bits));
+                        break;
+                    default:
+                        value = jsonProvider.primitiveNull();
+                        break;
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public void setValue(Object value) {
+            this.executed = true;
+            this.value = value;
+        }
+
+    }
+
+    private static class BinaryResumableParser implements ResumableParser {
+
+        private final SurfingContext context;
+        private final BinaryPrimitiveHolder primitiveHolder = new BinaryPrimitiveHolder(this);
+        // refills buffer if not null
+        private final InputStream input;
+        private ByteBuffer buffer;
+        private int position;
+        private int limit;
+        private byte[] scratch;
+        private String[] keys = new String[16];
+        private int keyCount;
+        private int depth;
+        private boolean headerRead;
+
+        BinaryResumableParser(ByteBuffer buffer, InputStream input, SurfingContext context) {
+            this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+            this.position = buffer.position();
+            // bytes are read from input into the array of an empty buffer
+            this.limit = input == null ? buffer.limit() : position;
+            this.input = input;
+            this.context = context;
+        }
+
+        @Override
+        public void parse() {
+            context.startJSON();
+            doParse();
+        }
+
+        @Override
+        public boolean resume() {
+            if (!context.isPaused()) {
+                return false;
+            }
+            context.resume();
+            doParse();
+            return true;
+        }
+
+        private void doParse() {
+            try {
+                if (!headerRead) {
+                    readHeader();
+                }
+                while (!context.shouldBreak()) {
+                    if (!ensure(1)) {
+                        context.endJSON();
+                        return;
+                    }
+                    readEvent(buffer.get(position++));
+                    if (depth == 0 && !context.getConfig().isMultipleRootsAllowed()) {
+                        // the first root value is complete
+                        context.endJSON();
+                        return;
+                    }
+                }
+            } catch (Exception e) {
+                context.getConfig().getErrorHandlingStrategy().handleParsingException(e);
+            }
+        }
+
+        private void readHeader() throws IOException {
+            require(5);
+            if (buffer.getInt(position) != Integer.reverseBytes(MAGIC)) {
+                throw new IOException("Not a binary event stream");
+            }
+            if (buffer.get(position + 4) != VERSION) {
+                throw new IOException("Unsupported binary event version: " + buffer.get(position + 4));
+            }
+            position += 5;
+            headerRead = true;
+        }
+
+        private void readEvent(int tag) throws IOException {
+            int length;
+            switch (tag) {
+                case START_OBJECT:
+                    depth++;
+                    context.startObject();
+                    break;
+                case END_OBJECT:
+                    depth--;
+                    context.endObject();
+                    break;
+                case START_ARRAY:
+                    depth++;
+                    context.startArray();
+                    break;
+                case END_ARRAY:
+                    depth--;
+                    context.endArray();
+                    break;
+                case KEY:
+                    length = readLength();
+                    require(length);
+                    String key = decode(position, length);
+                    position += length;
+                    if (keyCount == keys.length) {
+                        keys = Arrays.copyOf(keys, keyCount * 2);
+                    }
+                    keys[keyCount++] = key;
+                    context.startObjectEntry(key);
+                    break;
+                case KEY_REF:
+                    int id = readLength();
+                    if (id >= keyCount) {
+                        throw new IOException("Undefined key reference: " + id);
+                    }
+                    context.startObjectEntry(keys[id]);
+                    break;
+                case STRING:
+                    length = readLength();
+                    require(length);
+                    context.primitive(primitiveHolder.of(STRING, 0, position, length));
+                    position += length;
+                    break;
+                case TRUE:
+                case FALSE:
+                case NULL:
+                    context.primitive(primitiveHolder.of(tag, 0, 0, 0));
+                    break;
+                case INT:
+                case LONG:
+                    long zigzag = readVarLong();
+                    context.primitive(primitiveHolder.of(tag, (zigzag >>> 1) ^ -(zigzag & 1), 0, 0));
+                    break;
+                case DOUBLE:
+                    require(8);
+                    long bits = buffer.getLong(position);
+                    position += 8;
+                    context.primitive(primitiveHolder.of(DOUBLE, bits, 0, 0));
+                    break;
+                default:
+                    throw new IOException("Unknown binary event tag: " + tag);
+            }
+        }
+
+        private int readLength() throws IOException {
+            long length = readVarLong();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Binary event length overflow: " + length);
+            }
+            return (int) length;
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                require(1);
+                byte b = buffer.get(position++);
+                value |= (long) (b & 0x7f) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        private String decode(int start, int length) {
+            if (buffer.hasArray()) {
+                return new String(buffer.array(), buffer.arrayOffset() + start, length, StandardCharsets.UTF_8);
+            }
+            if (scratch == null || scratch.length < length) {
+                scratch = new byte[Math.max(length, 256)];
+            }
+            for (int i = 0; i < length; i++) {
+                scratch[i] = buffer.get(start + i);
+            }
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        private void require(int n) throws IOException {
+            if (!ensure(n)) {
+                throw new EOFException("Truncated binary event stream");
+            }
+        }
+
+        /**
+         * @return false if less than n bytes are left before the end of input
+         */
+        private boolean ensure(int n) throws IOException {
+            if (limit - position >= n) {
+                return true;
+            }
+            if (input == null) {
+                return false;
+            }
+            int remaining = limit - position;
+            byte[] bytes = buffer.array();
+            if (bytes.length < n) {
+                byte[] grown = new byte[Math.max(n, bytes.length * 2)];
+                System.arraycopy(bytes, position, grown, 0, remaining);
+                buffer = ByteBuffer.wrap(grown).order(ByteOrder.LITTLE_ENDIAN);
+                bytes = grown;
+            } else {
+                System.arraycopy(bytes, position, bytes, 0, remaining);
+            }
+            position = 0;
+            limit = remaining;
+            while (limit < n) {
+                int read = input.read(bytes, limit, bytes.length - limit);
+                if (read == -1) {
+                    return false;
+                }
+                limit += read;
+            }
+            return true;
+        }
+
+    }
+
+    public static final BinaryEventParser INSTANCE = new BinaryEventParser();
+
+    @Deprecated
+    @Override
+    public void parse(Reader reader, SurfingContext context) {
+        createResumableParser(reader, context).parse();
+    }
+
+    @Override
+    public void parse(String json, SurfingContext context) {
+        createResumableParser(json, context).parse();
+    }
+
+    @Override
+    public void parse(InputStream inputStream, SurfingContext context) {
+        createResumableParser(inputStream, context).parse();
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, binary events can not be read from text
+     */
+    @Deprecated
+    @Override
+    public ResumableParser createResumableParser(Reader reader, SurfingContext context) {
+        throw new UnsupportedOperationException("Binary events can not be read from a Reader");
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, binary events can not be read from text
+     */
+    @Override
+    public ResumableParser createResumableParser(String json, SurfingContext context) {
+        throw new UnsupportedOperationException("Binary events can not be read from a String");
+    }
+
+    @Override
+    public ResumableParser createResumableParser(InputStream json, SurfingContext context) {
+        return new BinaryResumableParser(ByteBuffer.wrap(new byte[DEFAULT_BUFFER_SIZE]), json, context);
+    }
+
+    @Override
+    public ResumableParser createResumableParser(byte[] bytes, int offset, int length, SurfingContext context) {
+        return new BinaryResumableParser(ByteBuffer.wrap(bytes, offset, length), null, context);
+    }
+
+    @Override
+    public ResumableParser createResumableParser(ByteBuffer buffer, SurfingContext context) {
+        return new BinaryResumableParser(buffer.duplicate(), null, context);
+    }
+
+    @Override
+    public NonBlockingParser createNonBlockingParser(SurfingContext context) {
+        throw new UnsupportedOperationException("Unsupported");
+    }
+
+}
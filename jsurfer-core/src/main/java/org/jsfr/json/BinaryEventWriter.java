@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.jsfr.json.BinaryEventParser.DOUBLE;
+import static org.jsfr.json.BinaryEventParser.END_ARRAY;
+import static org.jsfr.json.BinaryEventParser.END_OBJECT;
+import static org.jsfr.json.BinaryEventParser.FALSE;
+import static org.jsfr.json.BinaryEventParser.INT;
+import static org.jsfr.json.BinaryEventParser.KEY;
+import static org.jsfr.json.BinaryEventParser.KEY_REF;
+import static org.jsfr.json.BinaryEventParser.LONG;
+import static org.jsfr.json.BinaryEventParser.MAGIC;
+import static org.jsfr.json.BinaryEventParser.NULL;
+import static org.jsfr.json.BinaryEventParser.START_ARRAY;
+import static org.jsfr.json.BinaryEventParser.START_OBJECT;
+import static org.jsfr.json.BinaryEventParser.STRING;
+import static org.jsfr.json.BinaryEventParser.TRUE;
+import static org.jsfr.json.BinaryEventParser.VERSION;
+
+/**
+ * Writes parsing events in the binary event format read by {@link BinaryEventParser}. It follows the events the parser
+ * dispatches without matching any binding, so its configuration must use JavaCollectionProvider to get java values of primitives.
+ */
+class BinaryEventWriter extends SurfingContext {
+
+    private final OutputStream out;
+    private final Map<String, Integer> keyIds = new HashMap<String, Integer>();
+    private final byte[] buffer = new byte[8192];
+    private int count;
+    private boolean started;
+
+    BinaryEventWriter(OutputStream out, SurfingConfiguration config) {
+        super(config);
+        this.out = out;
+    }
+
+    @Override
+    public boolean startJSON() {
+        if (!started) {
+            started = true;
+            writeByte(MAGIC >>> 24);
+            writeByte(MAGIC >>> 16);
+            writeByte(MAGIC >>> 8);
+            writeByte(MAGIC);
+            writeByte(VERSION);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean endJSON() {
+        flushBuffer();
+        // some parsers run until the context is stopped
+        stop();
+        return true;
+    }
+
+    @Override
+    public boolean startObject() {
+        writeByte(START_OBJECT);
+        return true;
+    }
+
+    @Override
+    public boolean endObject() {
+        writeByte(END_OBJECT);
+        return true;
+    }
+
+    @Override
+    boolean canSkipKey() {
+        // every key is written
+        return false;
+    }
+
+    @Override
+    public boolean startObjectEntry(String key) {
+        Integer id = keyIds.get(key);
+        if (id == null) {
+            keyIds.put(key, keyIds.size());
+            writeByte(KEY);
+            writeString(key);
+        } else {
+            writeByte(KEY_REF);
+            writeVarLong(id);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean startArray() {
+        writeByte(START_ARRAY);
+        return true;
+    }
+
+    @Override
+    public boolean endArray() {
+        writeByte(END_ARRAY);
+        return true;
+    }
+
+    @Override
+    public boolean primitive(PrimitiveHolder primitiveHolder) {
+        Object value = primitiveHolder.getValue();
+        if (value == null) {
+            writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Integer) {
+            writeByte(INT);
+            writeZigzag((Integer) value);
+        } else if (value instanceof Long) {
+            writeByte(LONG);
+            writeZigzag((Long) value);
+        } else if (value instanceof Double) {
+            writeByte(DOUBLE);
+            long bits = Double.doubleToRawLongBits((Double) value);
+            for (int i = 0; i < 8; i++) {
+                writeByte((int) (bits >>> (i * 8)));
+            }
+        } else {
+            writeByte(STRING);
+            writeString(value.toString());
+        }
+        return true;
+    }
+
+    private void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        if (bytes.length > buffer.length - count) {
+            flushBuffer();
+            if (bytes.length > buffer.length) {
+                write(bytes, bytes.length);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private void writeZigzag(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7fL) != 0) {
+            writeByte((int) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    private void writeByte(int b) {
+        if (count == buffer.length) {
+            flushBuffer();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    private void flushBuffer() {
+        write(buffer, count);
+        count = 0;
+    }
+
+    private void write(byte[] bytes, int length) {
+        try {
+            out.write(bytes, 0, length);
+        } catch (IOException e) {
+            getConfig().getErrorHandlingStrategy().handleParsingException(e);
+        }
+    }
+
+}
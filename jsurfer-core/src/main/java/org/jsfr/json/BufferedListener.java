@@ -26,7 +26,7 @@ package org.jsfr.json;
 
 import java.util.LinkedList;
 
-public class BufferedListener implements JsonPathListener {
+public class BufferedListener implements ForwardingListener {
 
     private SurfingConfiguration config;
 
@@ -51,11 +51,7 @@ public class BufferedListener implements JsonPathListener {
             if (valueAndContext.context.isStopped()) {
                 break;
             }
-            try {
-                underlyingListener.onValue(valueAndContext.value, valueAndContext.context);
-            } catch (Exception e) {
-                config.getErrorHandlingStrategy().handleExceptionFromListener(e, valueAndContext.context);
-            }
+            DispatchUtil.dispatchValueToListener(valueAndContext.value, underlyingListener, valueAndContext.context, config.getErrorHandlingStrategy());
         }
     }
 
@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Parsing state captured at a safe point, i.e. between two values while no match is being collected, so that surfing
+ * can be resumed later from the same offset of the input with the same SurfingConfiguration.
+ * <p>
+ * A checkpoint holds the input offset, the keys and indexes enclosing the safe point and the match counts of limited
+ * bindings. Values saved into the parsing context are not part of it.
+ *
+ * @see CheckpointableParser#checkpoint(ResumableParser)
+ */
+public final class Checkpoint implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long offset;
+    // key of each enclosing object entry, null for an enclosing array
+    private final String[] keys;
+    // index of each enclosing array element, -1 for an enclosing object
+    private final int[] indexes;
+    private final int[] matchCounts;
+    private final int exhaustedBindings;
+
+    Checkpoint(long offset, String[] keys, int[] indexes, int[] matchCounts, int exhaustedBindings) {
+        this.offset = offset;
+        this.keys = keys;
+        this.indexes = indexes;
+        this.matchCounts = matchCounts;
+        this.exhaustedBindings = exhaustedBindings;
+    }
+
+    /**
+     * @return offset in bytes from the beginning of input where surfing resumes
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return JsonPath of the last value surfed before the checkpoint
+     */
+    public String getJsonPath() {
+        StringBuilder sb = new StringBuilder("$");
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                sb.append('.').append(keys[i]);
+            } else {
+                sb.append('[').append(indexes[i]).append(']');
+            }
+        }
+        return sb.toString();
+    }
+
+    int depth() {
+        return keys.length;
+    }
+
+    boolean isArray(int level) {
+        return keys[level] == null;
+    }
+
+    String getKey(int level) {
+        return keys[level];
+    }
+
+    int getIndex(int level) {
+        return indexes[level];
+    }
+
+    int[] getMatchCounts() {
+        return matchCounts;
+    }
+
+    int getExhaustedBindings() {
+        return exhaustedBindings;
+    }
+
+    @Override
+    public String toString() {
+        return "Checkpoint{offset=" + offset + ", path=" + getJsonPath() + ", matchCounts=" + Arrays.toString(matchCounts) + "}";
+    }
+
+}
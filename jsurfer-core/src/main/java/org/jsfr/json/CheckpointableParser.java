@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import java.io.InputStream;
+
+/**
+ * Parser adapter whose resumable parsers can be checkpointed and restarted from a checkpoint
+ */
+public interface CheckpointableParser {
+
+    /**
+     * Take a checkpoint of a paused parser, e.g. after pausing in the listener of array elements
+     *
+     * @param parser resumable parser created by this adapter
+     * @return checkpoint, or null if the parser is not paused at a safe point, i.e. between two values while no match
+     * is being collected or verified
+     * @throws IllegalArgumentException if the parser was not created by this adapter
+     */
+    Checkpoint checkpoint(ResumableParser parser);
+
+    /**
+     * Create a resumable parser surfing from a checkpoint
+     *
+     * @param json       Json source, starting at the offset of the checkpoint
+     * @param context    Surfing context with the configuration the checkpoint was taken with
+     * @param checkpoint checkpoint
+     * @return Resumable Parser
+     */
+    ResumableParser createResumableParser(InputStream json, SurfingContext context, Checkpoint checkpoint);
+
+}
@@ -155,6 +155,10 @@ class ContentDispatcher implements JsonSaxHandler {
         receiver.addFirst(contentHandler);
     }
 
+    public void clear() {
+        receiver.clear();
+    }
+
 //    public JsonSaxHandler getLastReceiver() {
 //        return this.receiver.isEmpty() ? null : this.receiver.getFirst();
 //    }
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import org.jsfr.json.provider.JsonProvider;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A match recorded while surfing a document in a worker thread. It serves as the parsing context when the match is
+ * delivered later, reporting the position of the match at the time it was recorded.
+ */
+class DeferredMatch implements ParsingContext {
+
+    final JsonPathListener listener;
+    final Object value;
+    final int record;
+    // keys and array indexes of the position, turned into a path string only if a listener asks for it
+    private final Object[] pathSteps;
+    private String jsonPath;
+    private final String fieldName;
+    private final int arrayIndex;
+    private final JsonProvider jsonProvider;
+    private boolean stopped;
+    Map<String, Object> transientMap;
+
+    DeferredMatch(JsonPathListener listener, Object value, SurfingContext context, int record) {
+        this.listener = listener;
+        this.value = value;
+        this.record = record;
+        this.pathSteps = context.getJsonPathSteps();
+        this.fieldName = context.getCurrentFieldName();
+        this.arrayIndex = context.getCurrentArrayIndex();
+        this.jsonProvider = context.getConfig().getJsonProvider();
+    }
+
+    /**
+     * Skip the remaining matches of the same document
+     */
+    @Override
+    public void stop() {
+        this.stopped = true;
+    }
+
+    @Override
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    @Override
+    public void pause() {
+        throw new UnsupportedOperationException("Unsupported");
+    }
+
+    @Override
+    public void resume() {
+        throw new UnsupportedOperationException("Unsupported");
+    }
+
+    @Override
+    public boolean isPaused() {
+        return false;
+    }
+
+    @Override
+    public String getJsonPath() {
+        if (jsonPath == null) {
+            StringBuilder sb = new StringBuilder("$");
+            for (Object step : pathSteps) {
+                if (step instanceof Integer) {
+                    sb.append('[').append(step).append(']');
+                } else {
+                    sb.append('.').append(step);
+                }
+            }
+            jsonPath = sb.toString();
+        }
+        return jsonPath;
+    }
+
+    @Override
+    public String getCurrentFieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public int getCurrentArrayIndex() {
+        return arrayIndex;
+    }
+
+    @Override
+    public void save(String key, Object value) {
+        if (this.transientMap == null) {
+            this.transientMap = new HashMap<String, Object>();
+        }
+        this.transientMap.put(key, value);
+    }
+
+    @Override
+    public <T> T load(String key, Class<T> tClass) {
+        return this.transientMap != null ? tClass.cast(this.transientMap.get(key)) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T cast(Object object, Class<T> tClass) {
+        return (T) this.jsonProvider.cast(object, tClass);
+    }
+
+}
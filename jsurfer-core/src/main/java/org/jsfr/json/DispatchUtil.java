@@ -33,11 +33,7 @@ public class DispatchUtil {
             if (context.isStopped()) {
                 break;
             }
-            try {
-                listener.onValue(value, context);
-            } catch (Exception e) {
-                errorHandlingStrategy.handleExceptionFromListener(e, context);
-            }
+            dispatchValueToListener(value, listener, context, errorHandlingStrategy);
         }
     }
 
@@ -46,11 +42,18 @@ public class DispatchUtil {
             if (context.isStopped()) {
                 break;
             }
-            try {
+            dispatchValueToListener(value, listener, context, errorHandlingStrategy);
+        }
+    }
+
+    static void dispatchValueToListener(Object value, JsonPathListener listener, ParsingContext context, ErrorHandlingStrategy errorHandlingStrategy) {
+        try {
+            // forwarding listeners count or verify matches of the current document, so only their underlying listeners are deferred
+            if (listener instanceof ForwardingListener || !(context instanceof SurfingContext) || !((SurfingContext) context).defer(listener, value)) {
                 listener.onValue(value, context);
-            } catch (Exception e) {
-                errorHandlingStrategy.handleExceptionFromListener(e, context);
             }
+        } catch (Exception e) {
+            errorHandlingStrategy.handleExceptionFromListener(e, context);
         }
     }
 
@@ -0,0 +1,276 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import org.jsfr.json.provider.JavaCollectionProvider;
+import org.jsfr.json.provider.JsonProvider;
+
+/**
+ * Broadcasts the events of a single parse to the contexts of many configurations. A context is dropped as soon as it
+ * stops or pauses, and the parse is stopped once no context is left.
+ * <p>
+ * If the configurations use different JsonProviders, primitives are decoded once into java values and converted by
+ * the provider of each configuration when it requests them. Parsing errors are passed to the ErrorHandlingStrategy of
+ * every configuration still surfing.
+ */
+class FanOutContext extends SurfingContext {
+
+    /**
+     * Converts a java primitive decoded by JavaCollectionProvider to the primitive of another provider on request
+     */
+    private static class ConvertingHolder implements PrimitiveHolder {
+
+        private final JsonProvider jsonProvider;
+        private PrimitiveHolder source;
+        private boolean converted;
+        private Object value;
+
+        ConvertingHolder(JsonProvider jsonProvider) {
+            this.jsonProvider = jsonProvider;
+        }
+
+        ConvertingHolder of(PrimitiveHolder source) {
+            this.source = source;
+            this.converted = false;
+            this.value = null;
+            return this;
+        }
+
+        @Override
+        public Object getValue() {
+            if (!converted) {
+                converted = true;
+                value = convert(source.getValue());
+            }
+            return value;
+        }
+
+        @Override
+        public void setValue(Object value) {
+            this.converted = true;
+            this.value = value;
+        }
+
+        private Object convert(Object javaValue) {
+            if (javaValue == null) {
+                return jsonProvider.primitiveNull();
+            } else if (javaValue instanceof String) {
+                return jsonProvider.primitive((String) javaValue);
+            } else if (javaValue instanceof Boolean) {
+                return jsonProvider.primitive((Boolean) javaValue);
+            } else if (javaValue instanceof Integer) {
+                return jsonProvider.primitive((Integer) javaValue);
+            } else if (javaValue instanceof Long) {
+                return jsonProvider.primitive((Long) javaValue);
+            } else if (javaValue instanceof Number) {
+                return jsonProvider.primitive(((Number) javaValue).doubleValue());
+            } else {
+                return jsonProvider.primitive(javaValue.toString());
+            }
+        }
+
+    }
+
+    private static class BroadcastErrorHandlingStrategy implements ErrorHandlingStrategy {
+
+        private FanOutContext fanOut;
+
+        @Override
+        public void handleParsingException(Exception e) {
+            RuntimeException thrown = null;
+            for (int i = 0; i < fanOut.count; i++) {
+                try {
+                    fanOut.contexts[i].getConfig().getErrorHandlingStrategy().handleParsingException(e);
+                } catch (RuntimeException re) {
+                    if (thrown == null) {
+                        thrown = re;
+                    }
+                }
+            }
+            if (thrown != null) {
+                throw thrown;
+            }
+        }
+
+        @Override
+        public void handleExceptionFromListener(Exception e, ParsingContext context) {
+            // listeners are bound to the broadcast contexts only
+            throw new IllegalStateException(e);
+        }
+
+    }
+
+    // contexts still surfing are contexts[0] to contexts[count - 1]
+    private final SurfingContext[] contexts;
+    // null if all configurations share a JsonProvider
+    private final ConvertingHolder[] holders;
+    private int count;
+
+    FanOutContext(SurfingConfiguration[] configurations) {
+        this(configurations, new BroadcastErrorHandlingStrategy());
+    }
+
+    private FanOutContext(SurfingConfiguration[] configurations, BroadcastErrorHandlingStrategy errorHandlingStrategy) {
+        super(createConfig(configurations, errorHandlingStrategy));
+        errorHandlingStrategy.fanOut = this;
+        this.count = configurations.length;
+        this.contexts = new SurfingContext[count];
+        for (int i = 0; i < count; i++) {
+            contexts[i] = new SurfingContext(configurations[i]);
+        }
+        if (getConfig().getJsonProvider() == JavaCollectionProvider.INSTANCE && !sharesJsonProvider(configurations)) {
+            holders = new ConvertingHolder[count];
+            for (int i = 0; i < count; i++) {
+                holders[i] = new ConvertingHolder(configurations[i].getJsonProvider());
+            }
+        } else {
+            holders = null;
+        }
+    }
+
+    private static SurfingConfiguration createConfig(SurfingConfiguration[] configurations, ErrorHandlingStrategy errorHandlingStrategy) {
+        if (configurations.length == 0) {
+            throw new IllegalArgumentException("No configuration to surf with");
+        }
+        SurfingConfiguration.Builder builder = SurfingConfiguration.builder()
+                .withJsonProvider(sharesJsonProvider(configurations) ? configurations[0].getJsonProvider() : JavaCollectionProvider.INSTANCE)
+                .withErrorStrategy(errorHandlingStrategy)
+                .withCharset(configurations[0].getParserCharset());
+        boolean multipleRootsAllowed = true;
+        for (SurfingConfiguration configuration : configurations) {
+            multipleRootsAllowed &= configuration.isMultipleRootsAllowed();
+        }
+        if (multipleRootsAllowed) {
+            builder.allowMultipleRoots();
+        }
+        return builder.build();
+    }
+
+    private static boolean sharesJsonProvider(SurfingConfiguration[] configurations) {
+        for (SurfingConfiguration configuration : configurations) {
+            if (configuration.getJsonProvider() != configurations[0].getJsonProvider()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Drop the contexts which have stopped or paused and stop if none is left
+     *
+     * @return false if parsing should stop
+     */
+    private boolean dropBroken() {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (!contexts[i].shouldBreak()) {
+                contexts[kept] = contexts[i];
+                if (holders != null) {
+                    holders[kept] = holders[i];
+                }
+                kept++;
+            }
+        }
+        count = kept;
+        if (count == 0) {
+            stop();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean startJSON() {
+        for (int i = 0; i < count; i++) {
+            contexts[i].startJSON();
+        }
+        return dropBroken();
+    }
+
+    @Override
+    public boolean endJSON() {
+        for (int i = 0; i < count; i++) {
+            contexts[i].endJSON();
+        }
+        count = 0;
+        stop();
+        return true;
+    }
+
+    @Override
+    public boolean startObject() {
+        for (int i = 0; i < count; i++) {
+            contexts[i].startObject();
+        }
+        return dropBroken();
+    }
+
+    @Override
+    public boolean endObject() {
+        for (int i = 0; i < count; i++) {
+            contexts[i].endObject();
+        }
+        return dropBroken();
+    }
+
+    @Override
+    boolean canSkipKey() {
+        // keys are matched against the bindings of every configuration
+        return false;
+    }
+
+    @Override
+    public boolean startObjectEntry(String key) {
+        for (int i = 0; i < count; i++) {
+            contexts[i].startObjectEntry(key);
+        }
+        return dropBroken();
+    }
+
+    @Override
+    public boolean startArray() {
+        for (int i = 0; i < count; i++) {
+            contexts[i].startArray();
+        }
+        return dropBroken();
+    }
+
+    @Override
+    public boolean endArray() {
+        for (int i = 0; i < count; i++) {
+            contexts[i].endArray();
+        }
+        return dropBroken();
+    }
+
+    @Override
+    public boolean primitive(PrimitiveHolder primitiveHolder) {
+        for (int i = 0; i < count; i++) {
+            contexts[i].primitive(holders != null ? holders[i].of(primitiveHolder) : primitiveHolder);
+        }
+        return dropBroken();
+    }
+
+}
@@ -0,0 +1,475 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jsfr.json;
+
+import org.jsfr.json.path.ArrayIndex;
+import org.jsfr.json.path.ChildNode;
+import org.jsfr.json.path.JsonPath;
+import org.jsfr.json.path.PathOperator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Field position speculation for newline-delimited json whose records share a layout, in the spirit of Mison. The keys of
+ * definite paths usually appear at the same position among the fields of each record. After a warm-up sample of records,
+ * in which those positions are learned, the fields before a learned position are skipped without comparing their keys
+ * and only the key found at that position is verified. Once the last bound value of a record is located, the rest of the
+ * line is not scanned at all. The located values are parsed by the adapter as nodes of the record.
+ * <p>
+ * If a key is not where it was expected, the record is surfed normally with a full SurfingContext walk and its layout is
+ * learned as well, so positions follow the data as it drifts. If most records miss, speculation is given up.
+ * <p>
+ * Records are assumed to be well-formed and not to repeat keys: a repeated key after the learned position is ignored
+ * and malformed content after the last bound value is not reported. One instance serves one worker.
+ *
+ * @see SurfingConfiguration.Builder#speculateFieldPositions()
+ */
+final class FieldSpeculator extends RawJsonScanner {
+
+    /**
+     * Value on the path to a bound node: the root of a record, or a field or element below it
+     */
+    private static final class Step {
+
+        private static final Step[] NONE = new Step[0];
+
+        // key in UTF-8, or null for an array element
+        private final byte[] key;
+        private final int index;
+        private final String[] nodeKeys;
+        private final int[] nodeIndexes;
+        private boolean bound;
+        // sorted by learned position
+        private Step[] fields = NONE;
+        // sorted by index
+        private Step[] elements = NONE;
+
+        private int[] positionCounts = new int[4];
+        private int position = -1;
+        private int seenInRecord = -1;
+
+        private Step(byte[] key, int index, String[] nodeKeys, int[] nodeIndexes) {
+            this.key = key;
+            this.index = index;
+            this.nodeKeys = nodeKeys;
+            this.nodeIndexes = nodeIndexes;
+        }
+
+        private Step child(PathOperator operator) {
+            boolean isKey = operator instanceof ChildNode;
+            String childKey = isKey ? ((ChildNode) operator).getKey() : null;
+            int childIndex = isKey ? 0 : ((ArrayIndex) operator).getArrayIndex();
+            for (Step step : isKey ? fields : elements) {
+                if (isKey ? Arrays.equals(step.key, childKey.getBytes(StandardCharsets.UTF_8)) : step.index == childIndex) {
+                    return step;
+                }
+            }
+            int depth = nodeKeys.length;
+            String[] childNodeKeys = Arrays.copyOf(nodeKeys, depth + 1);
+            int[] childNodeIndexes = Arrays.copyOf(nodeIndexes, depth + 1);
+            childNodeKeys[depth] = childKey;
+            childNodeIndexes[depth] = childIndex;
+            Step step = new Step(isKey ? childKey.getBytes(StandardCharsets.UTF_8) : null, childIndex, childNodeKeys, childNodeIndexes);
+            if (isKey) {
+                fields = Arrays.copyOf(fields, fields.length + 1);
+                fields[fields.length - 1] = step;
+            } else {
+                elements = Arrays.copyOf(elements, elements.length + 1);
+                elements[elements.length - 1] = step;
+                Arrays.sort(elements, BY_INDEX);
+            }
+            return step;
+        }
+
+        private void count(int fieldPosition) {
+            if (fieldPosition >= positionCounts.length) {
+                positionCounts = Arrays.copyOf(positionCounts, Math.max(fieldPosition + 1, positionCounts.length * 2));
+            }
+            positionCounts[fieldPosition]++;
+        }
+
+        /**
+         * Take the most frequent position of each field below, and order the fields by it
+         */
+        private void relearn() {
+            for (Step field : fields) {
+                field.position = -1;
+                int max = 0;
+                for (int i = 0; i < field.positionCounts.length; i++) {
+                    if (field.positionCounts[i] > max) {
+                        max = field.positionCounts[i];
+                        field.position = i;
+                    }
+                }
+                field.relearn();
+            }
+            Arrays.sort(fields, BY_POSITION);
+            for (Step element : elements) {
+                element.relearn();
+            }
+        }
+
+    }
+
+    private static final Comparator<Step> BY_INDEX = new Comparator<Step>() {
+        @Override
+        public int compare(Step o1, Step o2) {
+            return o1.index < o2.index ? -1 : o1.index == o2.index ? 0 : 1;
+        }
+    };
+
+    private static final Comparator<Step> BY_POSITION = new Comparator<Step>() {
+        @Override
+        public int compare(Step o1, Step o2) {
+            return o1.position < o2.position ? -1 : o1.position == o2.position ? 0 : 1;
+        }
+    };
+
+    static final int SAMPLE_SIZE = 16;
+
+    private final AbstractJsonParserAdapter jsonParserAdapter;
+    private final NodeContext context;
+    private final Step root = new Step(null, 0, new String[0], new int[0]);
+
+    private final List<Step> located = new ArrayList<Step>();
+    private int[] locatedStarts = new int[4];
+    private int[] locatedEnds = new int[4];
+
+    private int records;
+    private int speculated;
+    private int missed;
+    private boolean speculating = true;
+
+    private FieldSpeculator(AbstractJsonParserAdapter jsonParserAdapter, SurfingConfiguration config) {
+        this.jsonParserAdapter = jsonParserAdapter;
+        this.context = new NodeContext(config);
+        for (SurfingConfiguration.Binding[] bindings : config.getDefinitePathBindings()) {
+            if (bindings == null) {
+                continue;
+            }
+            for (SurfingConfiguration.Binding binding : bindings) {
+                Step step = root;
+                for (int i = 1; i < binding.jsonPath.pathDepth(); i++) {
+                    step = step.child(binding.jsonPath.get(i));
+                }
+                step.bound = true;
+            }
+        }
+    }
+
+    /**
+     * @return speculator for the configuration, or null if speculation is not enabled or the configuration has other
+     * than definite paths of keys and indexes without filters surfing UTF-8
+     */
+    static FieldSpeculator of(AbstractJsonParserAdapter jsonParserAdapter, SurfingConfiguration config) {
+        if (!config.isSpeculatingFieldPositions() || config.hasFilter() || config.isMultipleRootsAllowed()
+                || config.getIndefinitePathLookup().length > 0 || !config.hasDefinitePath()
+                || !StandardCharsets.UTF_8.equals(config.getParserCharset())) {
+            return null;
+        }
+        for (SurfingConfiguration.Binding[] bindings : config.getDefinitePathBindings()) {
+            if (bindings == null) {
+                continue;
+            }
+            for (SurfingConfiguration.Binding binding : bindings) {
+                JsonPath path = binding.jsonPath;
+                if (path.pathDepth() < 2) {
+                    return null;
+                }
+                for (int i = 1; i < path.pathDepth(); i++) {
+                    PathOperator operator = path.get(i);
+                    if (operator.getClass() != ChildNode.class && operator.getClass() != ArrayIndex.class) {
+                        return null;
+                    }
+                    if (operator instanceof ChildNode && ((ChildNode) operator).getKey().indexOf('\\') >= 0) {
+                        // raw bytes of a key with a backslash may be an escape sequence
+                        return null;
+                    }
+                }
+            }
+        }
+        return new FieldSpeculator(jsonParserAdapter, config);
+    }
+
+    /**
+     * Surf a line as a document of its own
+     *
+     * @param bytes   UTF-8 json
+     * @param start   start of the line
+     * @param end     end of the line
+     * @param matches list to record matches into, or null to deliver them to listeners
+     * @param record  index of the line, if matches are recorded
+     */
+    void surfLine(byte[] bytes, int start, int end, List<DeferredMatch> matches, int record) {
+        if (speculating && records >= SAMPLE_SIZE) {
+            speculated++;
+            if (locate(bytes, start, end)) {
+                deliver(matches, record);
+                return;
+            }
+            missed++;
+            if (speculated >= SAMPLE_SIZE && missed * 2 > speculated) {
+                // records do not share a layout
+                speculating = false;
+            }
+        }
+        if (speculating) {
+            learn(bytes, start, end);
+        }
+        context.reset();
+        if (matches != null) {
+            context.defer(matches, record);
+        }
+        jsonParserAdapter.parse(bytes, start, end - start, context);
+    }
+
+    private void learn(byte[] bytes, int start, int end) {
+        setInput(bytes, start, end - start);
+        try {
+            skipWhitespace();
+            learn(root);
+        } catch (IOException e) {
+            // reported by the full walk
+        }
+        if (++records >= SAMPLE_SIZE) {
+            root.relearn();
+        }
+    }
+
+    /**
+     * Scan the value at pos, comparing keys to count the position of each field on the paths
+     */
+    private void learn(Step step) throws IOException {
+        byte b = peek();
+        if (b == '{' && step.fields.length > 0) {
+            pos++;
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return;
+            }
+            for (int fieldPosition = 0; ; fieldPosition++) {
+                if (peek() != '"') {
+                    throw malformed();
+                }
+                Step field = null;
+                int keyStart = pos;
+                for (Step candidate : step.fields) {
+                    pos = keyStart;
+                    if (matchKey(candidate.key)) {
+                        field = candidate;
+                        break;
+                    }
+                }
+                skipColon();
+                if (field != null && field.seenInRecord != records) {
+                    field.seenInRecord = records;
+                    field.count(fieldPosition);
+                    learnOrSkip(field);
+                } else {
+                    skipValue();
+                }
+                if (nextMember('}')) {
+                    return;
+                }
+            }
+        } else if (b == '[' && step.elements.length > 0) {
+            pos++;
+            skipWhitespace();
+            if (peek() == ']') {
+                pos++;
+                return;
+            }
+            int next = 0;
+            for (int index = 0; ; index++) {
+                if (next < step.elements.length && step.elements[next].index == index) {
+                    learnOrSkip(step.elements[next++]);
+                } else {
+                    skipValue();
+                }
+                if (nextMember(']')) {
+                    return;
+                }
+            }
+        } else {
+            skipValue();
+        }
+    }
+
+    private void learnOrSkip(Step step) throws IOException {
+        if (step.bound) {
+            skipValue();
+        } else {
+            learn(step);
+        }
+    }
+
+    /**
+     * Locate the bound values of a record at the learned positions
+     *
+     * @return false if a key is not where it was expected
+     */
+    private boolean locate(byte[] bytes, int start, int end) {
+        setInput(bytes, start, end - start);
+        located.clear();
+        try {
+            skipWhitespace();
+            return locate(root, true);
+        } catch (IOException e) {
+            // left to the full walk, which reports the error
+            return false;
+        }
+    }
+
+    private boolean locate(Step step, boolean last) throws IOException {
+        byte b = peek();
+        if (b == '{' && step.fields.length > 0) {
+            Step[] fields = step.fields;
+            pos++;
+            skipWhitespace();
+            int next = 0;
+            for (int fieldPosition = 0; ; fieldPosition++) {
+                if (peek() != '"') {
+                    return false;
+                }
+                if (next < fields.length && fields[next].position == fieldPosition) {
+                    // the only key compared in this object until the next learned position
+                    if (!matchKey(fields[next].key)) {
+                        return false;
+                    }
+                    skipColon();
+                    if (!locateOrAdd(fields[next], last && next == fields.length - 1)) {
+                        return false;
+                    }
+                    if (++next == fields.length && last) {
+                        return true;
+                    }
+                } else {
+                    skipString();
+                    skipColon();
+                    skipValue();
+                }
+                if (nextMember('}')) {
+                    break;
+                }
+            }
+            return next == fields.length;
+        } else if (b == '[' && step.elements.length > 0) {
+            Step[] elements = step.elements;
+            pos++;
+            skipWhitespace();
+            if (peek() == ']') {
+                pos++;
+                return true;
+            }
+            int next = 0;
+            for (int index = 0; ; index++) {
+                if (next < elements.length && elements[next].index == index) {
+                    if (!locateOrAdd(elements[next], last && next == elements.length - 1)) {
+                        return false;
+                    }
+                    if (++next == elements.length && last) {
+                        return true;
+                    }
+                } else {
+                    skipValue();
+                }
+                if (nextMember(']')) {
+                    break;
+                }
+            }
+            // missing elements are not matched by a full walk either
+            return true;
+        }
+        // a value of another kind is left to the full walk
+        return false;
+    }
+
+    private boolean locateOrAdd(Step step, boolean last) throws IOException {
+        if (!step.bound) {
+            return locate(step, last);
+        }
+        int start = pos;
+        skipValue();
+        int count = located.size();
+        if (count == locatedStarts.length) {
+            locatedStarts = Arrays.copyOf(locatedStarts, count * 2);
+            locatedEnds = Arrays.copyOf(locatedEnds, count * 2);
+        }
+        located.add(step);
+        locatedStarts[count] = start;
+        locatedEnds[count] = pos;
+        return true;
+    }
+
+    private void deliver(List<DeferredMatch> matches, int record) {
+        for (int i = 0; i < located.size(); i++) {
+            Step step = located.get(i);
+            context.reset();
+            if (matches != null) {
+                context.defer(matches, record);
+            }
+            context.ended = false;
+            context.startAtNode(step.nodeKeys, step.nodeIndexes);
+            jsonParserAdapter.parse(buf, locatedStarts[i], locatedEnds[i] - locatedStarts[i], context);
+            if (!context.ended) {
+                // stopped by a listener or by limits
+                return;
+            }
+        }
+    }
+
+    private void skipColon() throws IOException {
+        skipWhitespace();
+        if (peek() != ':') {
+            throw malformed();
+        }
+        pos++;
+        skipWhitespace();
+    }
+
+    /**
+     * Move past the comma or the closing bracket after a member
+     *
+     * @return true if the container is closed
+     */
+    private boolean nextMember(char close) throws IOException {
+        skipWhitespace();
+        byte b = peek();
+        pos++;
+        if (b == close) {
+            return true;
+        } else if (b != ',') {
+            throw malformed();
+        }
+        skipWhitespace();
+        return false;
+    }
+
+}
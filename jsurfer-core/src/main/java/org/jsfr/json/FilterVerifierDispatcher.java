@@ -29,15 +29,21 @@ import java.util.Map;
 
 public class FilterVerifierDispatcher extends ContentDispatcher {
 
-    private Map<SurfingConfiguration.Binding, JsonFilterVerifier> verifiers = new HashMap<>();
+    private Map<SurfingConfiguration.Binding, AbstractVerifier> verifiers = new HashMap<>();
 
-    public void addVerifier(SurfingConfiguration.Binding binding, JsonFilterVerifier verifier) {
+    public void addVerifier(SurfingConfiguration.Binding binding, AbstractVerifier verifier) {
         this.addReceiver(verifier);
         this.verifiers.put(binding, verifier);
     }
 
-    public JsonFilterVerifier getVerifier(SurfingConfiguration.Binding binding) {
+    public AbstractVerifier getVerifier(SurfingConfiguration.Binding binding) {
         return this.verifiers.get(binding);
     }
 
+    @Override
+    public void clear() {
+        super.clear();
+        this.verifiers.clear();
+    }
+
 }
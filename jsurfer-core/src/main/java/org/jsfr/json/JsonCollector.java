@@ -24,6 +24,8 @@
 
 package org.jsfr.json;
 
+import org.jsfr.json.path.Projection;
+
 import java.util.Collection;
 
 class JsonCollector extends JsonDomBuilder {
@@ -33,7 +35,11 @@ class JsonCollector extends JsonDomBuilder {
     private SurfingConfiguration config;
 
     public JsonCollector(Collection<JsonPathListener> jsonPathListeners, ParsingContext context, SurfingConfiguration config) {
-        super(config.getJsonProvider());
+        this(jsonPathListeners, context, config, null);
+    }
+
+    public JsonCollector(Collection<JsonPathListener> jsonPathListeners, ParsingContext context, SurfingConfiguration config, Projection projection) {
+        super(config.getJsonProvider(), projection);
         this.jsonPathListeners = jsonPathListeners;
         this.context = context;
         this.config = config;
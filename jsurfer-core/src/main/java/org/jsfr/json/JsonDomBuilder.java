@@ -24,6 +24,7 @@
 
 package org.jsfr.json;
 
+import org.jsfr.json.path.Projection;
 import org.jsfr.json.provider.JsonProvider;
 
 public class JsonDomBuilder implements JsonSaxHandler {
@@ -36,21 +37,33 @@ public class JsonDomBuilder implements JsonSaxHandler {
 
         private int scope;
         private Object value;
+        private Projection projection;
 
     }
 
     private JsonProvider provider;
     private String propertyName;
+    private Projection propertyProjection;
+    // depth inside a value excluded by projection
+    private int skippedDepth = 0;
 
     private Node[] stack = new Node[32];
     private int stackSize = 0;
 
     public JsonDomBuilder(JsonProvider provider) {
+        this(provider, null);
+    }
+
+    /**
+     * @param provider   JsonProvider
+     * @param projection fields to materialize, null for the whole value
+     */
+    public JsonDomBuilder(JsonProvider provider, Projection projection) {
         this.provider = provider;
-        this.push(ROOT, null);
+        this.push(ROOT, null, projection);
     }
 
-    private void push(int newTop, Object topValue) {
+    private void push(int newTop, Object topValue, Projection projection) {
         if (stackSize == stack.length) {
             Node[] newStack = new Node[stackSize * 2];
             System.arraycopy(stack, 0, newStack, 0, stackSize);
@@ -64,6 +77,7 @@ public class JsonDomBuilder implements JsonSaxHandler {
         }
         next.value = topValue;
         next.scope = newTop;
+        next.projection = projection;
         stackSize++;
     }
 
@@ -101,9 +115,39 @@ public class JsonDomBuilder implements JsonSaxHandler {
         return true;
     }
 
+    /**
+     * @return true if the value starting now is excluded by projection
+     */
+    private boolean skipValue() {
+        if (skippedDepth > 0) {
+            return true;
+        }
+        Node top = peekNode();
+        if (top.scope == IN_OBJECT && top.projection != null && propertyProjection == null) {
+            propertyName = null;
+            return true;
+        }
+        return false;
+    }
+
+    private Projection childProjection() {
+        Node top = peekNode();
+        if (top.scope == IN_OBJECT) {
+            Projection projection = propertyProjection;
+            propertyProjection = null;
+            return projection;
+        }
+        return top.projection;
+    }
+
     @Override
     public boolean startObject() {
+        if (skipValue()) {
+            skippedDepth++;
+            return true;
+        }
         Object newObject = provider.createObject();
+        Projection projection = childProjection();
         Node top = peekNode();
         switch (top.scope) {
             case ROOT:
@@ -119,15 +163,20 @@ public class JsonDomBuilder implements JsonSaxHandler {
             default:
                 throw new IllegalStateException();
         }
-        push(IN_OBJECT, newObject);
+        push(IN_OBJECT, newObject, projection);
         return true;
     }
 
     @Override
     public boolean startObjectEntry(String key) {
-        switch (peek()) {
+        if (skippedDepth > 0) {
+            return true;
+        }
+        Node top = peekNode();
+        switch (top.scope) {
             case IN_OBJECT:
                 propertyName = key;
+                propertyProjection = top.projection != null ? top.projection.getField(key) : null;
                 break;
             case IN_ARRAY:
                 throw new IllegalStateException();
@@ -137,6 +186,10 @@ public class JsonDomBuilder implements JsonSaxHandler {
 
     @Override
     public boolean endObject() {
+        if (skippedDepth > 0) {
+            skippedDepth--;
+            return true;
+        }
         switch (peek()) {
             case IN_OBJECT:
                 pop();
@@ -149,7 +202,12 @@ public class JsonDomBuilder implements JsonSaxHandler {
 
     @Override
     public boolean startArray() {
+        if (skipValue()) {
+            skippedDepth++;
+            return true;
+        }
         Object newArray = provider.createArray();
+        Projection projection = childProjection();
         Node top = peekNode();
         switch (top.scope) {
             case ROOT:
@@ -165,18 +223,26 @@ public class JsonDomBuilder implements JsonSaxHandler {
             default:
                 throw new IllegalStateException();
         }
-        push(IN_ARRAY, newArray);
+        push(IN_ARRAY, newArray, projection);
         return true;
     }
 
     @Override
     public boolean endArray() {
+        if (skippedDepth > 0) {
+            skippedDepth--;
+            return true;
+        }
         pop();
         return true;
     }
 
     @Override
     public boolean primitive(PrimitiveHolder primitiveHolder) {
+        if (skipValue()) {
+            return true;
+        }
+        propertyProjection = null;
         Object value = primitiveHolder.getValue();
         Node top = peekNode();
         switch (top.scope) {
@@ -203,6 +269,7 @@ public class JsonDomBuilder implements JsonSaxHandler {
 
     public void clear() {
         propertyName = null;
+        propertyProjection = null;
         provider = null;
         stack = null;
     }
@@ -29,38 +29,22 @@ import org.jsfr.json.filter.JsonPathFilter;
 import java.util.ArrayList;
 import java.util.Collection;
 
-public class JsonFilterVerifier implements JsonSaxHandler {
+public class JsonFilterVerifier extends AbstractVerifier {
 
-    private SurfingConfiguration config;
     private JsonPathFilter jsonPathFilter;
     private Collection<BufferedListener> bufferedListeners;
-    private JsonFilterVerifier dependency;
-    private JsonPosition currentPosition;
     private boolean verified = false;
     private int stackDepth = 0;
 
-    public JsonFilterVerifier(JsonPosition currentPosition, SurfingConfiguration config, JsonPathFilter jsonPathFilter, JsonFilterVerifier dependency) {
-        this.currentPosition = currentPosition;
-        this.config = config;
+    public JsonFilterVerifier(JsonPosition currentPosition, SurfingConfiguration config, JsonPathFilter jsonPathFilter, AbstractVerifier dependency) {
+        super(currentPosition, config, dependency);
         this.jsonPathFilter = jsonPathFilter;
-        this.dependency = dependency;
         this.bufferedListeners = new ArrayList<>();
     }
 
-    public JsonPathListener addListener(JsonPathListener listener) {
-        BufferedListener newListener = new BufferedListener(this.config, listener);
-        this.bufferedListeners.add(newListener);
-        return newListener;
-    }
-
-    private void invokeBuffer() {
-        if (dependency != null) {
-            dependency.bufferedListeners.addAll(this.bufferedListeners);
-        } else {
-            for (BufferedListener buffer : this.bufferedListeners) {
-                buffer.invokeBufferedValue();
-            }
-        }
+    @Override
+    protected void buffer(BufferedListener bufferedListener) {
+        this.bufferedListeners.add(bufferedListener);
     }
 
     @Override
@@ -107,7 +91,7 @@ public class JsonFilterVerifier implements JsonSaxHandler {
         this.stackDepth--;
         if (this.stackDepth == 0) {
             if (this.verified) {
-                this.invokeBuffer();
+                this.invokeBuffer(this.bufferedListeners);
             }
             return false;
         }
@@ -0,0 +1,427 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import org.jsfr.json.compiler.JsonPathCompiler;
+import org.jsfr.json.path.ArrayIndex;
+import org.jsfr.json.path.ChildNode;
+import org.jsfr.json.path.JsonPath;
+import org.jsfr.json.path.PathOperator;
+import org.jsfr.json.provider.JavaCollectionProvider;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Byte ranges of the nodes of a json file matching a JsonPath, e.g. "$.records[*]", so that the file can be queried
+ * again and again by surfing only those ranges. An index is built in one pass and can be saved to a compact sidecar
+ * file. Filters in the indexed path are not evaluated, every node they could match is indexed; nodes nested in an
+ * indexed node are not indexed.
+ *
+ * @see JsonSurfer#surfIndexed(Path, JsonIndex, SurfingConfiguration)
+ */
+public final class JsonIndex {
+
+    private static final int MAGIC = 0x4A534958;
+    private static final int VERSION = 1;
+
+    private final String indexedPath;
+    private final long sourceSize;
+    private int size;
+    private long[] starts = new long[64];
+    private long[] ends = new long[64];
+    // levels of node i, from root, are levels[levelOffsets[i]] to levels[levelOffsets[i + 1]]
+    private int[] levelOffsets = new int[65];
+    // (index << 1 | 1) for an array level, (key reference << 1) for an object level
+    private int[] levels = new int[128];
+    private int levelCount;
+    private String[] keys = new String[16];
+    private int keyCount;
+    private final Map<String, Integer> keyReferences = new HashMap<String, Integer>();
+
+    private JsonIndex(String indexedPath, long sourceSize) {
+        this.indexedPath = indexedPath;
+        this.sourceSize = sourceSize;
+    }
+
+    /**
+     * Index the nodes of a json file matching a JsonPath
+     *
+     * @param json        json file
+     * @param indexedPath JsonPath of the nodes to index
+     * @return index
+     * @throws IOException if the file can not be read or is malformed
+     */
+    public static JsonIndex build(Path json, String indexedPath) throws IOException {
+        JsonIndex index = new JsonIndex(indexedPath, Files.size(json));
+        Indexer indexer = new Indexer(index, JsonPathCompiler.compile(indexedPath));
+        try (InputStream inputStream = new MappedFileInputStream(json)) {
+            Utf8Tokenizer tokenizer = Utf8Tokenizer.forInputStream(inputStream, indexer);
+            indexer.tokenizer = tokenizer;
+            indexer.startJSON();
+            tokenizer.drive();
+        }
+        return index;
+    }
+
+    /**
+     * Read an index saved by {@link #write(Path)}
+     *
+     * @param indexFile index file
+     * @return index
+     * @throws IOException if the file can not be read or is not an index
+     */
+    public static JsonIndex read(Path indexFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException("Not a json index: " + indexFile);
+            }
+            JsonIndex index = new JsonIndex(in.readUTF(), in.readLong());
+            int keyCount = (int) readVarLong(in);
+            for (int i = 0; i < keyCount; i++) {
+                index.keyReference(in.readUTF());
+            }
+            int size = (int) readVarLong(in);
+            long end = 0;
+            for (int i = 0; i < size; i++) {
+                long start = end + readVarLong(in);
+                end = start + readVarLong(in);
+                int depth = (int) readVarLong(in);
+                for (int j = 0; j < depth; j++) {
+                    index.addLevel((int) readVarLong(in));
+                }
+                index.addNode(start, end);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Save the index to a file
+     *
+     * @param indexFile index file
+     * @throws IOException if the file can not be written
+     */
+    public void write(Path indexFile) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFile)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeUTF(indexedPath);
+            out.writeLong(sourceSize);
+            writeVarLong(out, keyCount);
+            for (int i = 0; i < keyCount; i++) {
+                out.writeUTF(keys[i]);
+            }
+            writeVarLong(out, size);
+            long end = 0;
+            for (int i = 0; i < size; i++) {
+                // nodes do not overlap, so offsets are stored as small deltas
+                writeVarLong(out, starts[i] - end);
+                writeVarLong(out, ends[i] - starts[i]);
+                end = ends[i];
+                writeVarLong(out, levelOffsets[i + 1] - levelOffsets[i]);
+                for (int j = levelOffsets[i]; j < levelOffsets[i + 1]; j++) {
+                    writeVarLong(out, levels[j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return JsonPath of the indexed nodes
+     */
+    public String getIndexedPath() {
+        return indexedPath;
+    }
+
+    /**
+     * @return number of indexed nodes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param node index of the node in document order
+     * @return offset of the first byte of the node
+     */
+    public long getStart(int node) {
+        checkNode(node);
+        return starts[node];
+    }
+
+    /**
+     * @param node index of the node in document order
+     * @return offset after the last byte of the node
+     */
+    public long getEnd(int node) {
+        checkNode(node);
+        return ends[node];
+    }
+
+    /**
+     * @param node index of the node in document order
+     * @return JsonPath of the node, e.g. "$.records[42]"
+     */
+    public String getJsonPath(int node) {
+        checkNode(node);
+        StringBuilder sb = new StringBuilder("$");
+        for (int i = levelOffsets[node]; i < levelOffsets[node + 1]; i++) {
+            int level = levels[i];
+            if ((level & 1) == 1) {
+                sb.append('[').append(level >>> 1).append(']');
+            } else {
+                sb.append('.').append(keys[level >>> 1]);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Surf the nodes from one index to another, each node as a document of its own at its position in the file
+     */
+    void surf(AbstractJsonParserAdapter jsonParserAdapter, Path json, SurfingConfiguration config, int from, int to) {
+        int maxDepth = 0;
+        for (int node = from; node < to; node++) {
+            maxDepth = Math.max(maxDepth, levelOffsets[node + 1] - levelOffsets[node]);
+        }
+        config.checkSurfableByNode(maxDepth);
+        SurfingContext context = new SurfingContext(config);
+        try (FileChannel channel = FileChannel.open(json, StandardOpenOption.READ)) {
+            if (channel.size() != sourceSize) {
+                throw new IOException("Index of " + indexedPath + " does not match " + json + ", the file size has changed");
+            }
+            byte[] buf = new byte[0];
+            for (int node = from; node < to; node++) {
+                int length = (int) (ends[node] - starts[node]);
+                if (buf.length < length) {
+                    buf = new byte[Math.max(length, buf.length * 2)];
+                }
+                ByteBuffer target = ByteBuffer.wrap(buf, 0, length);
+                while (target.hasRemaining()) {
+                    if (channel.read(target, starts[node] + target.position()) < 0) {
+                        throw new EOFException("Unexpected end of file " + json);
+                    }
+                }
+                int depth = levelOffsets[node + 1] - levelOffsets[node];
+                String[] nodeKeys = new String[depth];
+                int[] nodeIndexes = new int[depth];
+                for (int i = 0; i < depth; i++) {
+                    int level = levels[levelOffsets[node] + i];
+                    if ((level & 1) == 1) {
+                        nodeIndexes[i] = level >>> 1;
+                    } else {
+                        nodeKeys[i] = keys[level >>> 1];
+                    }
+                }
+                context.reset();
+                context.startAtNode(nodeKeys, nodeIndexes);
+                jsonParserAdapter.parse(buf, 0, length, context);
+            }
+        } catch (IOException e) {
+            config.getErrorHandlingStrategy().handleParsingException(e);
+        }
+    }
+
+    void checkNode(int node) {
+        if (node < 0 || node >= size) {
+            throw new IndexOutOfBoundsException("Node " + node + " of " + size);
+        }
+    }
+
+    private int keyReference(String key) {
+        Integer reference = keyReferences.get(key);
+        if (reference == null) {
+            if (keyCount == keys.length) {
+                keys = Arrays.copyOf(keys, keyCount * 2);
+            }
+            reference = keyCount;
+            keys[keyCount++] = key;
+            keyReferences.put(key, reference);
+        }
+        return reference;
+    }
+
+    private void addLevel(int level) {
+        if (levelCount == levels.length) {
+            levels = Arrays.copyOf(levels, levelCount * 2);
+        }
+        levels[levelCount++] = level;
+    }
+
+    /**
+     * Add a node whose levels have just been added
+     */
+    private void addNode(long start, long end) {
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+            levelOffsets = Arrays.copyOf(levelOffsets, size * 2 + 1);
+        }
+        starts[size] = start;
+        ends[size] = end;
+        levelOffsets[++size] = levelCount;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed json index");
+    }
+
+    /**
+     * Follows the position in the document as the tokenizer drives it and records the nodes matching the indexed path,
+     * without matching bindings or building any value
+     */
+    private static class Indexer extends SurfingContext {
+
+        private final JsonIndex index;
+        private final JsonPath indexedPath;
+        private Utf8Tokenizer tokenizer;
+        private JsonPosition position;
+        // path depth of the node being indexed, 0 if none
+        private int nodeDepth;
+        private long nodeStart;
+
+        Indexer(JsonIndex index, JsonPath indexedPath) {
+            super(SurfingConfiguration.builder().withJsonProvider(JavaCollectionProvider.INSTANCE).build());
+            this.index = index;
+            this.indexedPath = indexedPath;
+        }
+
+        @Override
+        public boolean startJSON() {
+            position = JsonPosition.start();
+            return true;
+        }
+
+        @Override
+        public boolean endJSON() {
+            // the index is complete, stop like the other contexts that only follow parsing events
+            stop();
+            return true;
+        }
+
+        @Override
+        public boolean startObject() {
+            startValue();
+            position.stepIntoObject();
+            return true;
+        }
+
+        @Override
+        public boolean endObject() {
+            position.stepOutObject();
+            endValue();
+            return true;
+        }
+
+        @Override
+        boolean canSkipKey() {
+            // keys are matched against the indexed path and recorded
+            return false;
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            position.updateObjectEntry(key);
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            startValue();
+            position.stepIntoArray();
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            position.stepOutArray();
+            endValue();
+            return true;
+        }
+
+        @Override
+        public boolean primitive(PrimitiveHolder primitiveHolder) {
+            startValue();
+            endValue();
+            return true;
+        }
+
+        private void startValue() {
+            position.accumulateArrayIndex();
+            if (nodeDepth == 0 && (indexedPath.isDefinite() ? indexedPath.match(position) : indexedPath.matchWithDeepScan(position))) {
+                nodeDepth = position.pathDepth();
+                nodeStart = tokenizer.getValueStart();
+            }
+        }
+
+        private void endValue() {
+            if (nodeDepth != position.pathDepth()) {
+                return;
+            }
+            for (int i = 1; i < nodeDepth; i++) {
+                PathOperator operator = position.get(i);
+                if (operator.getType() == PathOperator.Type.ARRAY) {
+                    index.addLevel(((ArrayIndex) operator).getArrayIndex() << 1 | 1);
+                } else {
+                    index.addLevel(index.keyReference(((ChildNode) operator).getKey()) << 1);
+                }
+            }
+            index.addNode(nodeStart, tokenizer.getOffset());
+            nodeDepth = 0;
+        }
+
+    }
+
+}
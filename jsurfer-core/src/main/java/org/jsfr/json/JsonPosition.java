@@ -80,4 +80,17 @@ class JsonPosition extends JsonPath {
         pop();
     }
 
+    /**
+     * @return the key of each object and the index of each array below the root, leaving the path string to be built
+     * only if it is requested
+     */
+    Object[] steps() {
+        Object[] steps = new Object[size - 1];
+        for (int i = 1; i < size; i++) {
+            PathOperator operator = operators[i];
+            steps[i - 1] = operator.getType() == PathOperator.Type.ARRAY ? Integer.valueOf(((ArrayIndex) operator).getArrayIndex()) : ((ChildNode) operator).getKey();
+        }
+        return steps;
+    }
+
 }
@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import org.jsfr.json.path.ArrayIndex;
+import org.jsfr.json.path.ArraySlicing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Verifies array slicing with bounds counted from the end of array, e.g. $.logs[-100:], whose length is unknown while streaming.
+ * Values matched in candidate elements are held in a ring buffer bounded by the negative bound and flushed once they are confirmed, at the latest at the end of array.
+ */
+public class JsonSlicingVerifier extends AbstractVerifier {
+
+    private static class Candidate {
+
+        private int index;
+        private BufferedListener listener;
+
+        Candidate(int index, BufferedListener listener) {
+            this.index = index;
+            this.listener = listener;
+        }
+
+    }
+
+    private ArraySlicing slicing;
+    private int arrayDepth;
+    private ArrayDeque<Candidate> candidates = new ArrayDeque<>();
+    private int length = 0;
+    private int stackDepth = 0;
+
+    public JsonSlicingVerifier(JsonPosition currentPosition, SurfingConfiguration config, ArraySlicing slicing, AbstractVerifier dependency) {
+        super(currentPosition, config, dependency);
+        this.slicing = slicing;
+        this.arrayDepth = currentPosition.pathDepth();
+    }
+
+    @Override
+    protected void buffer(BufferedListener bufferedListener) {
+        int index = ((ArrayIndex) this.currentPosition.get(this.arrayDepth)).getArrayIndex();
+        this.candidates.addLast(new Candidate(index, bufferedListener));
+    }
+
+    private void startElement() {
+        int index = this.length++;
+        Integer lowerBound = this.slicing.getLowerBound();
+        Integer upperBound = this.slicing.getUpperBound();
+        if (lowerBound != null && lowerBound < 0) {
+            // only the last -lowerBound elements remain candidates
+            while (!this.candidates.isEmpty() && this.candidates.peekFirst().index <= index + lowerBound) {
+                this.candidates.pollFirst();
+            }
+        } else if (upperBound != null && upperBound < 0) {
+            // an element is confirmed as soon as -upperBound elements follow it
+            Collection<BufferedListener> confirmed = new ArrayList<>();
+            while (!this.candidates.isEmpty() && this.candidates.peekFirst().index <= index + upperBound) {
+                confirmed.add(this.candidates.pollFirst().listener);
+            }
+            this.invokeBuffer(confirmed);
+        }
+    }
+
+    private void flush() {
+        Integer lowerBound = this.slicing.getLowerBound();
+        Integer upperBound = this.slicing.getUpperBound();
+        if (lowerBound != null && lowerBound < 0) {
+            int to = upperBound != null && upperBound < 0 ? this.length + upperBound : this.length;
+            Collection<BufferedListener> confirmed = new ArrayList<>();
+            for (Candidate candidate : this.candidates) {
+                if (candidate.index < to) {
+                    confirmed.add(candidate.listener);
+                }
+            }
+            this.invokeBuffer(confirmed);
+        }
+        this.candidates.clear();
+    }
+
+    @Override
+    public boolean startJSON() {
+        return true;
+    }
+
+    @Override
+    public boolean endJSON() {
+        return false;
+    }
+
+    @Override
+    public boolean startObject() {
+        if (this.stackDepth == 1) {
+            this.startElement();
+        }
+        this.stackDepth++;
+        return true;
+    }
+
+    @Override
+    public boolean startObjectEntry(String key) {
+        return true;
+    }
+
+    @Override
+    public boolean endObject() {
+        return this.endObjectOrArray();
+    }
+
+    @Override
+    public boolean startArray() {
+        if (this.stackDepth == 1) {
+            this.startElement();
+        }
+        this.stackDepth++;
+        return true;
+    }
+
+    @Override
+    public boolean endArray() {
+        return this.endObjectOrArray();
+    }
+
+    private boolean endObjectOrArray() {
+        this.stackDepth--;
+        if (this.stackDepth == 0) {
+            this.flush();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean primitive(PrimitiveHolder primitiveHolder) {
+        if (this.stackDepth == 0) {
+            // matched value is not an array
+            return false;
+        }
+        if (this.stackDepth == 1) {
+            this.startElement();
+        }
+        return true;
+    }
+
+}
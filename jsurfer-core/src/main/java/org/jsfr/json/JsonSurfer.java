@@ -25,15 +25,25 @@
 package org.jsfr.json;
 
 import org.jsfr.json.path.JsonPath;
+import org.jsfr.json.provider.JavaCollectionProvider;
 import org.jsfr.json.provider.JsonProvider;
 
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import static org.jsfr.json.compiler.JsonPathCompiler.compile;
 
@@ -48,7 +58,8 @@ public class JsonSurfer {
     private static final String KEY_MATCH = "_JSURFER_INTERNAL_MATCH_";
 
     private JsonProvider jsonProvider;
-    private JsonParserAdapter jsonParserAdapter;
+    private AbstractJsonParserAdapter jsonParserAdapter;
+    private CheckpointableParser checkpointableParser;
     private ErrorHandlingStrategy errorHandlingStrategy;
     private Charset parserCharset = StandardCharsets.UTF_8;
 
@@ -67,7 +78,8 @@ public class JsonSurfer {
      */
     public JsonSurfer(JsonParserAdapter jsonParserAdapter, JsonProvider jsonProvider, ErrorHandlingStrategy errorHandlingStrategy) {
         this.jsonProvider = jsonProvider;
-        this.jsonParserAdapter = jsonParserAdapter;
+        this.jsonParserAdapter = AbstractJsonParserAdapter.of(jsonParserAdapter);
+        this.checkpointableParser = jsonParserAdapter instanceof CheckpointableParser ? (CheckpointableParser) jsonParserAdapter : null;
         this.errorHandlingStrategy = errorHandlingStrategy;
     }
 
@@ -124,6 +136,25 @@ public class JsonSurfer {
         return createIterator(context, resumableParser);
     }
 
+    /**
+     * Create a streaming iterator over a memory-mapped file. The file is not held open, so an iterator abandoned
+     * before the end of input needs no cleanup.
+     *
+     * @param path     Json file
+     * @param jsonPath JsonPath
+     * @return Streaming iterator
+     * @see #surf(Path, SurfingConfiguration)
+     */
+    public Iterator<Object> iterator(Path path, JsonPath jsonPath) {
+        SurfingContext context = createIteratorContext(jsonPath);
+        final ResumableParser resumableParser = createMappedParser(path, context);
+        if (resumableParser == null) {
+            return Collections.emptyIterator();
+        }
+        resumableParser.parse();
+        return createIterator(context, resumableParser);
+    }
+
     private Iterator<Object> createIterator(final SurfingContext context, final ResumableParser resumableParser) {
         return new Iterator<Object>() {
 
@@ -177,6 +208,15 @@ public class JsonSurfer {
      */
     public void surf(String json, SurfingConfiguration configuration) {
         ensureSetting(configuration);
+        if (configuration.isSkipAhead()) {
+            SkipAheadSurfer skipAheadSurfer = SkipAheadSurfer.of(jsonParserAdapter, configuration);
+            if (skipAheadSurfer != null) {
+                byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+                if (skipAheadSurfer.surf(bytes, 0, bytes.length)) {
+                    return;
+                }
+            }
+        }
         jsonParserAdapter.parse(json, new SurfingContext(configuration));
     }
 
@@ -202,6 +242,337 @@ public class JsonSurfer {
         jsonParserAdapter.parse(json, new SurfingContext(configuration));
     }
 
+    /**
+     * Surf json once with many configurations. Configurations that stop or pause are dropped and parsing ends as soon
+     * as none is left. Pausing is not supported: a paused configuration is simply dropped.
+     *
+     * @param json           json
+     * @param configurations SurfingConfigurations that hold JsonPath bindings
+     */
+    public void surfAll(String json, SurfingConfiguration... configurations) {
+        for (SurfingConfiguration configuration : configurations) {
+            ensureSetting(configuration);
+        }
+        jsonParserAdapter.parse(json, new FanOutContext(configurations));
+    }
+
+    /**
+     * Surf json once with many configurations. Configurations that stop or pause are dropped and parsing ends as soon
+     * as none is left. Pausing is not supported: a paused configuration is simply dropped.
+     *
+     * @param json           Json InputStream
+     * @param configurations SurfingConfigurations that hold JsonPath bindings
+     */
+    public void surfAll(InputStream json, SurfingConfiguration... configurations) {
+        for (SurfingConfiguration configuration : configurations) {
+            ensureSetting(configuration);
+        }
+        jsonParserAdapter.parse(json, new FanOutContext(configurations));
+    }
+
+    /**
+     * Surf a slice of byte array without copying it
+     *
+     * @param bytes         bytes containing json
+     * @param offset        offset of json in bytes
+     * @param length        length of json
+     * @param configuration SurfingConfiguration that holds JsonPath binding
+     */
+    public void surf(byte[] bytes, int offset, int length, SurfingConfiguration configuration) {
+        ensureSetting(configuration);
+        if (configuration.isSkipAhead()) {
+            SkipAheadSurfer skipAheadSurfer = SkipAheadSurfer.of(jsonParserAdapter, configuration);
+            if (skipAheadSurfer != null && skipAheadSurfer.surf(bytes, offset, length)) {
+                return;
+            }
+        }
+        jsonParserAdapter.parse(bytes, offset, length, new SurfingContext(configuration));
+    }
+
+    /**
+     * Surf the bytes between position and limit of a heap or direct buffer. The position of buffer is not changed.
+     *
+     * @param buffer        json buffer
+     * @param configuration SurfingConfiguration that holds JsonPath binding
+     */
+    public void surf(ByteBuffer buffer, SurfingConfiguration configuration) {
+        ensureSetting(configuration);
+        jsonParserAdapter.parse(buffer, new SurfingContext(configuration));
+    }
+
+    /**
+     * @param channel       json channel
+     * @param configuration SurfingConfiguration that holds JsonPath binding
+     */
+    public void surf(ReadableByteChannel channel, SurfingConfiguration configuration) {
+        ensureSetting(configuration);
+        jsonParserAdapter.parse(channel, new SurfingContext(configuration));
+    }
+
+    /**
+     * Surf a memory-mapped file. A file of up to 2GB is mapped into a single buffer and surfed as a ByteBuffer;
+     * larger files are mapped window by window and surfed as a stream.
+     *
+     * @param path          Json file
+     * @param configuration SurfingConfiguration that holds JsonPath binding
+     */
+    public void surf(Path path, SurfingConfiguration configuration) {
+        ensureSetting(configuration);
+        ResumableParser parser = createMappedParser(path, new SurfingContext(configuration));
+        if (parser != null) {
+            parser.parse();
+        }
+    }
+
+    /**
+     * Surf gzip or zlib compressed json. Decompression runs on a thread of its own, overlapping with parsing.
+     * The compressed input is closed when surfing ends.
+     *
+     * @param compressed    gzip or zlib compressed json
+     * @param configuration SurfingConfiguration that holds JsonPath binding
+     * @see PipelinedInflaterInputStream
+     */
+    public void surfCompressed(InputStream compressed, SurfingConfiguration configuration) {
+        ensureSetting(configuration);
+        InputStream json = new PipelinedInflaterInputStream(compressed);
+        try {
+            jsonParserAdapter.parse(json, new SurfingContext(configuration));
+        } finally {
+            closeQuietly(json);
+        }
+    }
+
+    /**
+     * Parse json once and record its events into a tape, which can then be surfed with many configurations without
+     * parsing it again
+     *
+     * @param json json
+     * @return tape holding the events of json
+     */
+    public JsonTape record(String json) {
+        JsonTape.Recorder recorder = createRecorder();
+        jsonParserAdapter.parse(json, recorder);
+        return recorder.getTape();
+    }
+
+    /**
+     * Parse json once and record its events into a tape, which can then be surfed with many configurations without
+     * parsing it again
+     *
+     * @param json json
+     * @return tape holding the events of json
+     */
+    public JsonTape record(InputStream json) {
+        JsonTape.Recorder recorder = createRecorder();
+        jsonParserAdapter.parse(json, recorder);
+        return recorder.getTape();
+    }
+
+    /**
+     * Parse json once and record its events into a tape, which can then be surfed with many configurations without
+     * parsing it again
+     *
+     * @param bytes  bytes containing json
+     * @param offset offset of json in bytes
+     * @param length length of json
+     * @return tape holding the events of json
+     */
+    public JsonTape record(byte[] bytes, int offset, int length) {
+        JsonTape.Recorder recorder = createRecorder();
+        jsonParserAdapter.parse(bytes, offset, length, recorder);
+        return recorder.getTape();
+    }
+
+    /**
+     * Convert json to the compact binary event format, which can be surfed by a JsonSurfer using {@link BinaryEventParser}
+     * without tokenizing json again. Multiple root values are converted one after another. The output is flushed but not closed.
+     *
+     * @param json json
+     * @param out  output of binary events
+     * @throws UnsupportedOperationException if the parser does not accept multiple root values, e.g. FastJsonParser
+     */
+    public void writeBinaryEvents(InputStream json, OutputStream out) {
+        SurfingConfiguration configuration = SurfingConfiguration.builder()
+                .withJsonProvider(JavaCollectionProvider.INSTANCE).allowMultipleRoots().build();
+        ensureSetting(configuration);
+        jsonParserAdapter.parse(json, new BinaryEventWriter(out, configuration));
+        try {
+            out.flush();
+        } catch (IOException e) {
+            configuration.getErrorHandlingStrategy().handleParsingException(e);
+        }
+    }
+
+    /**
+     * Surf json recorded into a tape. No tokenizing or decoding takes place.
+     *
+     * @param tape          tape recorded by a surfer with the same JsonProvider
+     * @param configuration SurfingConfiguration that holds JsonPath binding
+     */
+    public void surf(JsonTape tape, SurfingConfiguration configuration) {
+        createResumableParser(tape, configuration).parse();
+    }
+
+    /**
+     * Create resumable parser replaying a tape
+     *
+     * @param tape          tape recorded by a surfer with the same JsonProvider
+     * @param configuration SurfingConfiguration
+     * @return Resumable parser
+     */
+    public ResumableParser createResumableParser(JsonTape tape, SurfingConfiguration configuration) {
+        ensureSetting(configuration);
+        return tape.createResumableParser(new SurfingContext(configuration));
+    }
+
+    private JsonTape.Recorder createRecorder() {
+        SurfingConfiguration configuration = configBuilder().build();
+        ensureSetting(configuration);
+        return JsonTape.recorder(configuration);
+    }
+
+    /**
+     * Surf newline-delimited json (NDJSON / JSON Lines) in parallel. Each line is surfed as a document of its own by a worker
+     * of the executor, with one SurfingContext per worker reused from line to line. Limits apply per line, stop() called by
+     * a listener skips the rest of the current line and pausing is not supported.
+     * <p>
+     * If ordered is false, listeners are called concurrently from the worker threads and must be thread-safe.
+     * If ordered is true, matches are delivered in input order from the calling thread once their lines have been surfed;
+     * the parsing context then reports the position each match was found at.
+     * <p>
+     * This method returns when the whole input has been surfed.
+     *
+     * @param input         newline-delimited json
+     * @param configuration SurfingConfiguration that holds JsonPath binding
+     * @param executor      executor, e.g. a ForkJoinPool, running the workers
+     * @param ordered       whether listeners receive matches in input order
+     */
+    public void surfLines(InputStream input, SurfingConfiguration configuration, ExecutorService executor, boolean ordered) {
+        ensureSetting(configuration);
+        new ParallelLineSurfer(jsonParserAdapter, configuration, executor, ordered).surf(input);
+    }
+
+    /**
+     * Surf a memory-mapped file of newline-delimited json in parallel
+     *
+     * @param path          newline-delimited json file
+     * @param configuration SurfingConfiguration that holds JsonPath binding
+     * @param executor      executor, e.g. a ForkJoinPool, running the workers
+     * @param ordered       whether listeners receive matches in input order
+     * @see #surfLines(InputStream, SurfingConfiguration, ExecutorService, boolean)
+     */
+    public void surfLines(Path path, SurfingConfiguration configuration, ExecutorService executor, boolean ordered) {
+        ensureSetting(configuration);
+        InputStream input = openMapped(path, configuration);
+        if (input == null) {
+            return;
+        }
+        try {
+            new ParallelLineSurfer(jsonParserAdapter, configuration, executor, ordered).surf(input);
+        } finally {
+            closeQuietly(input);
+        }
+    }
+
+    /**
+     * Surf the lines of a newline-delimited json file which start within [start, end), each line as a document of its own.
+     * Following Hadoop's convention, the partial line at start is skipped and the last line crossing end is finished,
+     * so ranges splitting a file cover every line exactly once without coordination. Reading starts just before start
+     * and goes on in 64KB chunks until the last line is finished, so up to a chunk beyond that line may be read too;
+     * nothing before the range is read. Limits apply per line, stop() called by a listener skips the rest of the
+     * current line and pausing is not supported.
+     *
+     * @param path          newline-delimited json file
+     * @param start         offset of the range, inclusive
+     * @param end           end of the range, exclusive
+     * @param configuration SurfingConfiguration that holds JsonPath binding
+     */
+    public void surfRange(Path path, long start, long end, SurfingConfiguration configuration) {
+        ensureSetting(configuration);
+        new LineRangeSurfer(jsonParserAdapter, configuration).surf(path, start, end);
+    }
+
+    /**
+     * Surf only the nodes of a json file recorded in an index, each node as a document of its own at its position in
+     * the file. Bindings below the indexed nodes, such as "$.records[*].id" for an index of "$.records[*]", match as
+     * if the whole file were surfed; the values enclosing the nodes are never matched. Negative indexes or slices on an
+     * array enclosing the nodes, such as "$.records[-1].id", and limits need the whole file, so such bindings are
+     * rejected. stop() called by a listener skips the rest of the current node and pausing is not supported.
+     *
+     * @param path          json file the index was built from
+     * @param index         index of the file
+     * @param configuration SurfingConfiguration that holds JsonPath binding
+     * @throws IllegalArgumentException if a binding has a limit or slices an array enclosing the nodes from its end
+     * @see JsonIndex#build(Path, String)
+     */
+    public void surfIndexed(Path path, JsonIndex index, SurfingConfiguration configuration) {
+        ensureSetting(configuration);
+        index.surf(jsonParserAdapter, path, configuration, 0, index.size());
+    }
+
+    /**
+     * Surf a single node of a json file recorded in an index, reading only the bytes of that node
+     *
+     * @param path          json file the index was built from
+     * @param index         index of the file
+     * @param node          index of the node in document order
+     * @param configuration SurfingConfiguration that holds JsonPath binding
+     * @see #surfIndexed(Path, JsonIndex, SurfingConfiguration)
+     */
+    public void surfIndexed(Path path, JsonIndex index, int node, SurfingConfiguration configuration) {
+        ensureSetting(configuration);
+        index.checkNode(node);
+        index.surf(jsonParserAdapter, path, configuration, node, node + 1);
+    }
+
+    /**
+     * Surf the elements of a top-level json array in parallel. The calling thread finds element boundaries by tracking
+     * nesting and strings only, and each element is surfed at its index of the array by a worker of the executor, with
+     * one SurfingContext per worker reused from element to element. Bindings below the elements, such as "$[*].id" or
+     * "$..id", match as in a sequential run; the array itself (e.g. "$") is never matched. Negative indexes or slices
+     * on the array, such as "$[-1]", and limits need the whole array, so such bindings are rejected. stop() called by
+     * a listener skips the rest of the current element and pausing is not supported.
+     * <p>
+     * If ordered is false, listeners are called concurrently from the worker threads and must be thread-safe.
+     * If ordered is true, matches are delivered in input order from the calling thread once their elements have been surfed;
+     * the parsing context then reports the position each match was found at.
+     * <p>
+     * This method returns when the whole array has been surfed.
+     *
+     * @param input         json holding a top-level array
+     * @param configuration SurfingConfiguration that holds JsonPath binding
+     * @param executor      executor, e.g. a ForkJoinPool, running the workers
+     * @param ordered       whether listeners receive matches in input order
+     * @throws IllegalArgumentException if a binding has a limit or slices the array from its end
+     */
+    public void surfArrayElements(InputStream input, SurfingConfiguration configuration, ExecutorService executor, boolean ordered) {
+        ensureSetting(configuration);
+        new ParallelArraySurfer(jsonParserAdapter, configuration, executor, ordered).surf(input);
+    }
+
+    /**
+     * Surf the elements of a top-level json array in a memory-mapped file in parallel
+     *
+     * @param path          json file holding a top-level array
+     * @param configuration SurfingConfiguration that holds JsonPath binding
+     * @param executor      executor, e.g. a ForkJoinPool, running the workers
+     * @param ordered       whether listeners receive matches in input order
+     * @see #surfArrayElements(InputStream, SurfingConfiguration, ExecutorService, boolean)
+     */
+    public void surfArrayElements(Path path, SurfingConfiguration configuration, ExecutorService executor, boolean ordered) {
+        ensureSetting(configuration);
+        ParallelArraySurfer surfer = new ParallelArraySurfer(jsonParserAdapter, configuration, executor, ordered);
+        InputStream input = openMapped(path, configuration);
+        if (input == null) {
+            return;
+        }
+        try {
+            surfer.surf(input);
+        } finally {
+            closeQuietly(input);
+        }
+    }
+
     /**
      * Create resumable parser
      *
@@ -240,6 +611,123 @@ public class JsonSurfer {
         return jsonParserAdapter.createResumableParser(json, new SurfingContext(configuration));
     }
 
+    /**
+     * Create resumable parser
+     *
+     * @param bytes         bytes containing json
+     * @param offset        offset of json in bytes
+     * @param length        length of json
+     * @param configuration SurfingConfiguration
+     * @return Resumable parser
+     */
+    public ResumableParser createResumableParser(byte[] bytes, int offset, int length, SurfingConfiguration configuration) {
+        ensureSetting(configuration);
+        return jsonParserAdapter.createResumableParser(bytes, offset, length, new SurfingContext(configuration));
+    }
+
+    /**
+     * Create resumable parser
+     *
+     * @param buffer        json buffer
+     * @param configuration SurfingConfiguration
+     * @return Resumable parser
+     */
+    public ResumableParser createResumableParser(ByteBuffer buffer, SurfingConfiguration configuration) {
+        ensureSetting(configuration);
+        return jsonParserAdapter.createResumableParser(buffer, new SurfingContext(configuration));
+    }
+
+    /**
+     * Create resumable parser
+     *
+     * @param channel       json channel
+     * @param configuration SurfingConfiguration
+     * @return Resumable parser
+     */
+    public ResumableParser createResumableParser(ReadableByteChannel channel, SurfingConfiguration configuration) {
+        ensureSetting(configuration);
+        return jsonParserAdapter.createResumableParser(channel, new SurfingContext(configuration));
+    }
+
+    /**
+     * Create resumable parser over a memory-mapped file. The file is not held open, so a parser abandoned before the
+     * end of input needs no cleanup.
+     *
+     * @param path          Json file
+     * @param configuration SurfingConfiguration
+     * @return Resumable parser
+     * @see #surf(Path, SurfingConfiguration)
+     */
+    public ResumableParser createResumableParser(Path path, SurfingConfiguration configuration) {
+        ensureSetting(configuration);
+        return createMappedParser(path, new SurfingContext(configuration));
+    }
+
+    /**
+     * Take a checkpoint of a paused parser created by this surfer, e.g. after pausing in the listener of array elements.
+     * Surfing can be resumed from it later by a new parser, see
+     * {@link #createResumableParser(InputStream, SurfingConfiguration, Checkpoint)}.
+     *
+     * @param parser paused parser
+     * @return checkpoint, or null if the parser is not paused at a safe point, i.e. between two values while no match
+     * is being collected or verified
+     * @throws UnsupportedOperationException if the parser adapter of this surfer does not implement {@link CheckpointableParser}
+     */
+    public Checkpoint checkpoint(ResumableParser parser) {
+        return checkpointable().checkpoint(parser);
+    }
+
+    /**
+     * Create resumable parser surfing from a checkpoint taken by {@link #checkpoint(ResumableParser)}
+     *
+     * @param json          Json source, starting at the offset of the checkpoint
+     * @param configuration SurfingConfiguration the checkpoint was taken with
+     * @param checkpoint    checkpoint
+     * @return Resumable parser
+     * @throws UnsupportedOperationException if the parser adapter of this surfer does not implement {@link CheckpointableParser}
+     */
+    public ResumableParser createResumableParser(InputStream json, SurfingConfiguration configuration, Checkpoint checkpoint) {
+        CheckpointableParser checkpointable = checkpointable();
+        ensureSetting(configuration);
+        return checkpointable.createResumableParser(json, new SurfingContext(configuration), checkpoint);
+    }
+
+    /**
+     * Create resumable parser over a memory-mapped file surfing from a checkpoint taken by {@link #checkpoint(ResumableParser)}.
+     * The bytes before the offset of the checkpoint are not read. The file is not held open, so a parser abandoned
+     * before the end of input needs no cleanup.
+     *
+     * @param path          Json file
+     * @param configuration SurfingConfiguration the checkpoint was taken with
+     * @param checkpoint    checkpoint
+     * @return Resumable parser
+     * @throws UnsupportedOperationException if the parser adapter of this surfer does not implement {@link CheckpointableParser}
+     */
+    public ResumableParser createResumableParser(Path path, SurfingConfiguration configuration, Checkpoint checkpoint) {
+        CheckpointableParser checkpointable = checkpointable();
+        ensureSetting(configuration);
+        InputStream json;
+        try {
+            MappedByteBuffer buffer = MappedFileInputStream.mapWhole(path);
+            if (buffer != null) {
+                if (checkpoint.getOffset() > buffer.limit()) {
+                    throw new EOFException("Checkpoint beyond the end of file");
+                }
+                buffer.position((int) checkpoint.getOffset());
+                json = new ByteBufferInputStream(buffer);
+            } else {
+                json = new MappedFileInputStream(path);
+                if (json.skip(checkpoint.getOffset()) != checkpoint.getOffset()) {
+                    throw new EOFException("Checkpoint beyond the end of file");
+                }
+            }
+        } catch (IOException e) {
+            configuration.getErrorHandlingStrategy().handleParsingException(e);
+            return null;
+        }
+        return checkpointable.createResumableParser(json, new SurfingContext(configuration), checkpoint);
+    }
+
     /**
      * Create non-blocking parser
      *
@@ -554,6 +1042,45 @@ public class JsonSurfer {
         return tClass.cast(jsonProvider.cast(value, tClass));
     }
 
+    private CheckpointableParser checkpointable() {
+        if (checkpointableParser == null) {
+            throw new UnsupportedOperationException("Checkpoints are not supported by the parser adapter");
+        }
+        return checkpointableParser;
+    }
+
+    private ResumableParser createMappedParser(Path path, SurfingContext context) {
+        try {
+            MappedByteBuffer buffer = MappedFileInputStream.mapWhole(path);
+            if (buffer != null) {
+                return jsonParserAdapter.createResumableParser(buffer, context);
+            }
+            return jsonParserAdapter.createResumableParser(new MappedFileInputStream(path), context);
+        } catch (IOException e) {
+            context.getConfig().getErrorHandlingStrategy().handleParsingException(e);
+            return null;
+        }
+    }
+
+    private static InputStream openMapped(Path path, SurfingConfiguration configuration) {
+        try {
+            return new MappedFileInputStream(path);
+        } catch (IOException e) {
+            configuration.getErrorHandlingStrategy().handleParsingException(e);
+            return null;
+        }
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        if (inputStream != null) {
+            try {
+                inputStream.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
     private void ensureSetting(SurfingConfiguration configuration) {
         if (configuration.getJsonProvider() == null) {
             configuration.setJsonProvider(jsonProvider);
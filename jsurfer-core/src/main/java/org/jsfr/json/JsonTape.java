@@ -0,0 +1,261 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import org.jsfr.json.provider.JsonProvider;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parsing events of a json document recorded once, so that the document can be surfed with many configurations
+ * without tokenizing or decoding it again. Events are kept in an int array; keys are interned into a symbol table
+ * and primitives are decoded once with the JsonProvider of the recording surfer.
+ * <p>
+ * A tape is immutable once recorded and can be replayed concurrently.
+ *
+ * @see JsonSurfer#record(java.io.InputStream)
+ */
+public final class JsonTape {
+
+    private static final int START_OBJECT = 0;
+    private static final int END_OBJECT = 1;
+    private static final int START_ARRAY = 2;
+    private static final int END_ARRAY = 3;
+    // operand is a symbol id
+    private static final int KEY = 4;
+    // operand is an index of primitives
+    private static final int PRIMITIVE = 5;
+    private static final int KIND_BITS = 3;
+    private static final int KIND_MASK = (1 << KIND_BITS) - 1;
+    private static final int MAX_OPERAND = (1 << (32 - KIND_BITS)) - 1;
+
+    private final JsonProvider jsonProvider;
+    // kind in the low bits, operand in the high bits
+    private int[] events = new int[256];
+    private int eventCount;
+    private String[] symbols = new String[16];
+    private int symbolCount;
+    private Object[] primitives = new Object[64];
+    private int primitiveCount;
+
+    private JsonTape(JsonProvider jsonProvider) {
+        this.jsonProvider = jsonProvider;
+    }
+
+    /**
+     * @return number of recorded events
+     */
+    public int size() {
+        return eventCount;
+    }
+
+    /**
+     * @return JsonProvider the primitives are decoded with, which configurations replaying the tape must use
+     */
+    public JsonProvider getJsonProvider() {
+        return jsonProvider;
+    }
+
+    /**
+     * Create a recorder to pass to a JsonParserAdapter in place of a SurfingContext
+     *
+     * @param config configuration providing the JsonProvider and ErrorHandlingStrategy used when recording
+     */
+    static Recorder recorder(SurfingConfiguration config) {
+        return new Recorder(new JsonTape(config.getJsonProvider()), config);
+    }
+
+    /**
+     * @param context context of a configuration using the JsonProvider of the tape
+     * @return parser replaying the tape into the context
+     */
+    ResumableParser createResumableParser(SurfingContext context) {
+        if (context.getConfig().getJsonProvider() != jsonProvider) {
+            throw new IllegalArgumentException("The tape is recorded with another JsonProvider");
+        }
+        return new TapeParser(this, context);
+    }
+
+    private void add(int kind, int operand) {
+        if (operand > MAX_OPERAND) {
+            throw new IllegalStateException("Too many primitives or keys to record");
+        }
+        if (eventCount == events.length) {
+            events = Arrays.copyOf(events, eventCount * 2);
+        }
+        events[eventCount++] = operand << KIND_BITS | kind;
+    }
+
+    /**
+     * Records parsing events into a tape. It follows the events the parser dispatches without matching any binding.
+     */
+    static class Recorder extends SurfingContext {
+
+        private final JsonTape tape;
+        private final Map<String, Integer> symbolIds = new HashMap<String, Integer>();
+
+        private Recorder(JsonTape tape, SurfingConfiguration config) {
+            super(config);
+            this.tape = tape;
+        }
+
+        JsonTape getTape() {
+            return tape;
+        }
+
+        @Override
+        public boolean startJSON() {
+            return true;
+        }
+
+        @Override
+        public boolean endJSON() {
+            // some parsers run until the context is stopped
+            stop();
+            return true;
+        }
+
+        @Override
+        public boolean startObject() {
+            tape.add(START_OBJECT, 0);
+            return true;
+        }
+
+        @Override
+        public boolean endObject() {
+            tape.add(END_OBJECT, 0);
+            return true;
+        }
+
+        @Override
+        boolean canSkipKey() {
+            // every key is recorded
+            return false;
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            Integer id = symbolIds.get(key);
+            if (id == null) {
+                if (tape.symbolCount == tape.symbols.length) {
+                    tape.symbols = Arrays.copyOf(tape.symbols, tape.symbolCount * 2);
+                }
+                id = tape.symbolCount;
+                tape.symbols[tape.symbolCount++] = key;
+                symbolIds.put(key, id);
+            }
+            tape.add(KEY, id);
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            tape.add(START_ARRAY, 0);
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            tape.add(END_ARRAY, 0);
+            return true;
+        }
+
+        @Override
+        public boolean primitive(PrimitiveHolder primitiveHolder) {
+            if (tape.primitiveCount == tape.primitives.length) {
+                tape.primitives = Arrays.copyOf(tape.primitives, tape.primitiveCount * 2);
+            }
+            tape.primitives[tape.primitiveCount] = primitiveHolder.getValue();
+            tape.add(PRIMITIVE, tape.primitiveCount++);
+            return true;
+        }
+
+    }
+
+    private static class TapeParser implements ResumableParser {
+
+        private final JsonTape tape;
+        private final SurfingContext context;
+        private final StaticPrimitiveHolder primitiveHolder = new StaticPrimitiveHolder();
+        // index of the next event to replay
+        private int next;
+
+        TapeParser(JsonTape tape, SurfingContext context) {
+            this.tape = tape;
+            this.context = context;
+        }
+
+        @Override
+        public void parse() {
+            context.startJSON();
+            doParse();
+        }
+
+        @Override
+        public boolean resume() {
+            if (!context.isPaused()) {
+                return false;
+            }
+            context.resume();
+            doParse();
+            return true;
+        }
+
+        private void doParse() {
+            int[] events = tape.events;
+            int count = tape.eventCount;
+            while (next < count && !context.shouldBreak()) {
+                int event = events[next++];
+                switch (event & KIND_MASK) {
+                    case START_OBJECT:
+                        context.startObject();
+                        break;
+                    case END_OBJECT:
+                        context.endObject();
+                        break;
+                    case START_ARRAY:
+                        context.startArray();
+                        break;
+                    case END_ARRAY:
+                        context.endArray();
+                        break;
+                    case KEY:
+                        context.startObjectEntry(tape.symbols[event >>> KIND_BITS]);
+                        break;
+                    default:
+                        context.primitive(primitiveHolder.withValue(tape.primitives[event >>> KIND_BITS]));
+                        break;
+                }
+            }
+            if (next == count && !context.shouldBreak()) {
+                context.endJSON();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Surfs the lines of a newline-delimited json file which start within a byte range, so that independent workers can
+ * split a file without coordinating. As in Hadoop, a range skips the partial line it starts in and finishes the last
+ * line crossing its end. The file is read with positioned reads in chunks of the buffer size, starting one byte
+ * before the range, until the last line is finished; the last chunk may extend past that line.
+ */
+class LineRangeSurfer {
+
+    static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final AbstractJsonParserAdapter jsonParserAdapter;
+    private final SurfingConfiguration config;
+    private final int bufferSize;
+
+    LineRangeSurfer(AbstractJsonParserAdapter jsonParserAdapter, SurfingConfiguration config) {
+        this(jsonParserAdapter, config, DEFAULT_BUFFER_SIZE);
+    }
+
+    LineRangeSurfer(AbstractJsonParserAdapter jsonParserAdapter, SurfingConfiguration config, int bufferSize) {
+        this.jsonParserAdapter = jsonParserAdapter;
+        this.config = config;
+        this.bufferSize = bufferSize;
+    }
+
+    void surf(Path path, long start, long end) {
+        if (start < 0 || end < start) {
+            throw new IllegalArgumentException("Illegal range [" + start + ", " + end + ")");
+        }
+        if (start == end) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            surf(channel, start, end);
+        } catch (IOException e) {
+            config.getErrorHandlingStrategy().handleParsingException(e);
+        }
+    }
+
+    private void surf(FileChannel channel, long start, long end) throws IOException {
+        SurfingContext context = new SurfingContext(config);
+        FieldSpeculator speculator = FieldSpeculator.of(jsonParserAdapter, config);
+        byte[] buf = new byte[bufferSize];
+        // a line starting right at start is preceded by a newline, so the partial line to skip ends there
+        long bufStart = start == 0 ? 0 : start - 1;
+        boolean skipping = start != 0;
+        int pos = 0;
+        int scan = 0;
+        int limit = 0;
+        boolean endOfFile = false;
+        while (true) {
+            while (scan < limit && buf[scan] != '\n') {
+                scan++;
+            }
+            if (scan == limit && !endOfFile) {
+                if (skipping) {
+                    // the partial line is not needed
+                    pos = limit;
+                }
+                bufStart += pos;
+                limit -= pos;
+                scan -= pos;
+                if (pos > 0) {
+                    System.arraycopy(buf, pos, buf, 0, limit);
+                    pos = 0;
+                } else if (limit == buf.length) {
+                    // a line longer than the buffer
+                    byte[] larger = new byte[buf.length * 2];
+                    System.arraycopy(buf, 0, larger, 0, limit);
+                    buf = larger;
+                }
+                int n = channel.read(ByteBuffer.wrap(buf, limit, buf.length - limit), bufStart + limit);
+                if (n < 0) {
+                    endOfFile = true;
+                } else {
+                    limit += n;
+                }
+                continue;
+            }
+            if (skipping) {
+                skipping = false;
+            } else if (!ParallelLineSurfer.isBlank(buf, pos, scan)) {
+                if (speculator != null) {
+                    speculator.surfLine(buf, pos, scan, null, 0);
+                } else {
+                    context.reset();
+                    jsonParserAdapter.parse(buf, pos, scan - pos, context);
+                }
+            }
+            if (scan == limit) {
+                // end of file
+                return;
+            }
+            pos = ++scan;
+            if (bufStart + pos >= end) {
+                // the next line belongs to the following range
+                return;
+            }
+        }
+    }
+
+}
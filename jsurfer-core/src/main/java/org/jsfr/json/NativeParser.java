@@ -0,0 +1,206 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Built-in parser without third-party dependency. It tokenizes UTF-8 bytes directly without decoding input to chars
+ * and decodes strings and numbers only when their values are requested. Malformed UTF-8 in a string and integers out
+ * of the range of long are reported as parsing errors when their values are requested; values that are skipped are not
+ * validated.
+ */
+public class NativeParser extends AbstractJsonParserAdapter implements CheckpointableParser {
+
+    private static class NativeNonBlockingParser extends NativeResumableParser implements NonBlockingParser {
+
+        private boolean started = false;
+
+        NativeNonBlockingParser(Utf8Tokenizer tokenizer, SurfingContext context) {
+            super(tokenizer, context);
+        }
+
+        @Override
+        public void parse() {
+            started = true;
+            super.parse();
+        }
+
+        @Override
+        public boolean feed(byte[] bytes, int start, int end) {
+            if (context.isStopped() || tokenizer.isEndOfInput()) {
+                return false;
+            }
+            tokenizer.feed(bytes, start, end);
+            parseFed();
+            return true;
+        }
+
+        @Override
+        public boolean feed(ByteBuffer buffer) {
+            if (context.isStopped() || tokenizer.isEndOfInput()) {
+                return false;
+            }
+            tokenizer.feed(buffer);
+            parseFed();
+            return true;
+        }
+
+        private void parseFed() {
+            if (!started) {
+                parse();
+            } else if (context.isPaused()) {
+                resume();
+            }
+        }
+
+        @Override
+        public void endOfInput() {
+            tokenizer.endOfInput();
+            if (!started) {
+                parse();
+            } else {
+                resume();
+            }
+        }
+
+    }
+
+    private static class NativeResumableParser implements ResumableParser {
+
+        Utf8Tokenizer tokenizer;
+        SurfingContext context;
+
+        NativeResumableParser(Utf8Tokenizer tokenizer, SurfingContext context) {
+            this.tokenizer = tokenizer;
+            this.context = context;
+        }
+
+        @Override
+        public void parse() {
+            context.startJSON();
+            doParse();
+        }
+
+        @Override
+        public boolean resume() {
+            if (!context.isPaused()) {
+                return false;
+            }
+            context.resume();
+            doParse();
+            return true;
+        }
+
+        Checkpoint checkpoint() {
+            return context.isPaused() ? tokenizer.checkpoint() : null;
+        }
+
+        private void doParse() {
+            try {
+                if (tokenizer.drive() == Utf8Tokenizer.Status.NEED_INPUT) {
+                    // wait for more input
+                    context.pause();
+                }
+            } catch (Exception e) {
+                context.getConfig().getErrorHandlingStrategy().handleParsingException(e);
+            }
+        }
+
+    }
+
+    public static final NativeParser INSTANCE = new NativeParser();
+
+    @Deprecated
+    @Override
+    public void parse(Reader reader, SurfingContext context) {
+        createResumableParser(reader, context).parse();
+    }
+
+    @Override
+    public void parse(String json, SurfingContext context) {
+        createResumableParser(json, context).parse();
+    }
+
+    @Override
+    public void parse(InputStream inputStream, SurfingContext context) {
+        createResumableParser(inputStream, context).parse();
+    }
+
+    @Deprecated
+    @Override
+    public ResumableParser createResumableParser(Reader reader, SurfingContext context) {
+        return new NativeResumableParser(Utf8Tokenizer.forReader(reader, context), context);
+    }
+
+    @Override
+    public ResumableParser createResumableParser(String json, SurfingContext context) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return new NativeResumableParser(Utf8Tokenizer.forBytes(bytes, 0, bytes.length, context), context);
+    }
+
+    @Override
+    public ResumableParser createResumableParser(InputStream json, SurfingContext context) {
+        return new NativeResumableParser(Utf8Tokenizer.forInputStream(json, context), context);
+    }
+
+    @Override
+    public Checkpoint checkpoint(ResumableParser parser) {
+        if (!(parser instanceof NativeResumableParser)) {
+            throw new IllegalArgumentException("Not a parser created by NativeParser");
+        }
+        return ((NativeResumableParser) parser).checkpoint();
+    }
+
+    @Override
+    public ResumableParser createResumableParser(InputStream json, SurfingContext context, Checkpoint checkpoint) {
+        Utf8Tokenizer tokenizer = Utf8Tokenizer.forInputStream(json, context);
+        tokenizer.restore(checkpoint);
+        return new NativeResumableParser(tokenizer, context);
+    }
+
+    @Override
+    public ResumableParser createResumableParser(byte[] bytes, int offset, int length, SurfingContext context) {
+        return new NativeResumableParser(Utf8Tokenizer.forBytes(bytes, offset, length, context), context);
+    }
+
+    /**
+     * If the channel is in non-blocking mode, the parser pauses when no byte is available. Call resume() when the channel is readable again.
+     */
+    @Override
+    public ResumableParser createResumableParser(ReadableByteChannel channel, SurfingContext context) {
+        return new NativeResumableParser(Utf8Tokenizer.forChannel(channel, context), context);
+    }
+
+    @Override
+    public NonBlockingParser createNonBlockingParser(SurfingContext context) {
+        return new NativeNonBlockingParser(Utf8Tokenizer.forNonBlocking(context), context);
+    }
+
+}
@@ -24,8 +24,15 @@
 
 package org.jsfr.json;
 
+import java.nio.ByteBuffer;
+
 /**
  * Interface for non-blocking parsing
+ * <p>
+ * Buffer ownership: fed bytes must not be modified while feed is running. NativeParser copies them into its own buffer,
+ * so they can be recycled as soon as feed returns. JacksonParser reads a fed byte array or heap ByteBuffer in place:
+ * it can be recycled once feed returns unless a listener paused parsing before all of it was consumed, in which case it must
+ * stay untouched until parsing is resumed. A direct ByteBuffer fed to JacksonParser is copied and can always be recycled once feed returns.
  */
 public interface NonBlockingParser extends ResumableParser {
 
@@ -39,6 +46,18 @@ public interface NonBlockingParser extends ResumableParser {
      */
     boolean feed(byte[] bytes, int start, int end);
 
+    /**
+     * Feed the bytes between position and limit of a heap or direct buffer and start or resume parsing immediately.
+     * The position of buffer is moved to its limit if the bytes are accepted.
+     * <p>
+     * This method was added to an existing interface, so implementations outside this library have to add it. Copying
+     * the remaining bytes into an array and passing them to {@link #feed(byte[], int, int)} is enough.
+     *
+     * @param buffer bytes to feed
+     * @return true if all feed data is successfully consumed
+     */
+    boolean feed(ByteBuffer buffer);
+
     /**
      * Called to notify parser the input ended
      */
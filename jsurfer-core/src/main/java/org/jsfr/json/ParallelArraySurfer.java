@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Surfs the elements of a huge top-level array with the workers of an executor. The calling thread only tracks nesting,
+ * strings and escapes to find where elements begin and end, which is far cheaper than parsing them. Blocks of whole
+ * elements are then surfed concurrently, every element at its own index of the array.
+ */
+class ParallelArraySurfer extends AbstractParallelSurfer {
+
+    private boolean started;
+    private boolean ended;
+    private boolean inString;
+    private boolean escaped;
+    // nesting depth inside the current element
+    private int depth;
+    private int elementStart = -1;
+    // offset in block where scanning continues
+    private int scanned;
+    // offset after the delimiter of the last complete element in block
+    private int lastCut;
+    // start and end offset of each complete element in block
+    private int[] bounds = new int[64];
+    private int boundCount;
+    // whether a comma promised another element
+    private boolean expectElement;
+    private int nextIndex;
+
+    ParallelArraySurfer(AbstractJsonParserAdapter jsonParserAdapter, SurfingConfiguration config, ExecutorService executor, boolean ordered) {
+        this(jsonParserAdapter, config, executor, ordered, DEFAULT_BLOCK_SIZE);
+    }
+
+    ParallelArraySurfer(AbstractJsonParserAdapter jsonParserAdapter, SurfingConfiguration config, ExecutorService executor, boolean ordered, int blockSize) {
+        super(jsonParserAdapter, config, executor, ordered, blockSize);
+        config.checkSurfableByNode(1);
+    }
+
+    @Override
+    int cut(byte[] block, int filled, boolean endOfInput) throws IOException {
+        scan(block, filled);
+        if (endOfInput && !ended) {
+            throw new IOException("Unexpected end of input at offset " + filled + ", top-level array is not closed");
+        }
+        return lastCut;
+    }
+
+    private void scan(byte[] block, int filled) throws IOException {
+        for (int i = scanned; i < filled; i++) {
+            byte b = block[i];
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            if (!started || ended) {
+                if (b == '[' && !started) {
+                    started = true;
+                    lastCut = i + 1;
+                } else if (!isWhitespace(b) && !(i < 3 && !started && isBom(block, i))) {
+                    throw new IOException("Unexpected character '" + (char) b + "' at offset " + i + ", a top-level array is expected");
+                }
+                continue;
+            }
+            switch (b) {
+                case '"':
+                    inString = true;
+                    startElement(i);
+                    break;
+                case '{':
+                case '[':
+                    startElement(i);
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    if (depth > 0) {
+                        depth--;
+                    } else if (b == ']') {
+                        if (elementStart >= 0) {
+                            endElement(i);
+                        } else if (expectElement) {
+                            throw new IOException("Missing array element at offset " + i);
+                        }
+                        ended = true;
+                        lastCut = i + 1;
+                    } else {
+                        throw new IOException("Unexpected character '}' at offset " + i);
+                    }
+                    break;
+                case ',':
+                    if (depth == 0) {
+                        if (elementStart < 0) {
+                            throw new IOException("Missing array element at offset " + i);
+                        }
+                        endElement(i);
+                        expectElement = true;
+                        lastCut = i + 1;
+                    }
+                    break;
+                default:
+                    if (!isWhitespace(b)) {
+                        startElement(i);
+                    }
+            }
+        }
+        scanned = filled;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static boolean isBom(byte[] block, int i) {
+        return (block[i] & 0xFF) == (i == 0 ? 0xEF : i == 1 ? 0xBB : 0xBF);
+    }
+
+    private void startElement(int offset) {
+        if (elementStart < 0) {
+            elementStart = offset;
+            expectElement = false;
+        }
+    }
+
+    private void endElement(int offset) {
+        if (boundCount * 2 == bounds.length) {
+            bounds = Arrays.copyOf(bounds, bounds.length * 2);
+        }
+        bounds[boundCount * 2] = elementStart;
+        bounds[boundCount * 2 + 1] = offset;
+        boundCount++;
+        elementStart = -1;
+    }
+
+    @Override
+    Callable<List<DeferredMatch>> createTask(final byte[] block, int end) {
+        final int[] elements = Arrays.copyOf(bounds, boundCount * 2);
+        final int firstIndex = nextIndex;
+        nextIndex += boundCount;
+        // the rest of block is carried over and scanned again from the last cut, where no element is open
+        boundCount = 0;
+        elementStart = -1;
+        depth = 0;
+        inString = false;
+        escaped = false;
+        scanned = 0;
+        lastCut = 0;
+        return new Callable<List<DeferredMatch>>() {
+            @Override
+            public List<DeferredMatch> call() {
+                return surfBlock(block, elements, firstIndex);
+            }
+        };
+    }
+
+    private List<DeferredMatch> surfBlock(byte[] bytes, int[] elements, int firstIndex) {
+        SurfingContext context = borrowContext();
+        List<DeferredMatch> matches = ordered ? new ArrayList<DeferredMatch>() : null;
+        try {
+            for (int i = 0; i < elements.length; i += 2) {
+                int record = i / 2;
+                context.reset();
+                context.startAtArrayElement(firstIndex + record);
+                if (ordered) {
+                    context.defer(matches, record);
+                }
+                jsonParserAdapter.parse(bytes, elements[i], elements[i + 1] - elements[i], context);
+            }
+        } finally {
+            returnContext(context);
+        }
+        return matches;
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Surfs newline-delimited json (NDJSON / JSON Lines) with the workers of an executor. The input is cut into blocks of
+ * whole lines which are surfed concurrently, every line as a document of its own.
+ */
+class ParallelLineSurfer extends AbstractParallelSurfer {
+
+    // one per worker, so that each learns field positions from the lines it surfs
+    private final ConcurrentLinkedQueue<FieldSpeculator> speculators = new ConcurrentLinkedQueue<FieldSpeculator>();
+    private final boolean speculating;
+
+    ParallelLineSurfer(AbstractJsonParserAdapter jsonParserAdapter, SurfingConfiguration config, ExecutorService executor, boolean ordered) {
+        this(jsonParserAdapter, config, executor, ordered, DEFAULT_BLOCK_SIZE);
+    }
+
+    ParallelLineSurfer(AbstractJsonParserAdapter jsonParserAdapter, SurfingConfiguration config, ExecutorService executor, boolean ordered, int blockSize) {
+        super(jsonParserAdapter, config, executor, ordered, blockSize);
+        FieldSpeculator speculator = FieldSpeculator.of(jsonParserAdapter, config);
+        if (speculator != null) {
+            speculators.offer(speculator);
+        }
+        this.speculating = speculator != null;
+    }
+
+    @Override
+    int cut(byte[] block, int filled, boolean endOfInput) {
+        if (endOfInput) {
+            return filled;
+        }
+        for (int i = filled - 1; i >= 0; i--) {
+            if (block[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    Callable<List<DeferredMatch>> createTask(final byte[] block, final int end) {
+        return new Callable<List<DeferredMatch>>() {
+            @Override
+            public List<DeferredMatch> call() {
+                return surfBlock(block, end);
+            }
+        };
+    }
+
+    private List<DeferredMatch> surfBlock(byte[] bytes, int end) {
+        if (speculating) {
+            return speculateBlock(bytes, end);
+        }
+        SurfingContext context = borrowContext();
+        List<DeferredMatch> matches = ordered ? new ArrayList<DeferredMatch>() : null;
+        try {
+            int record = 0;
+            int start = 0;
+            while (start < end) {
+                int lineEnd = start;
+                while (lineEnd < end && bytes[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+                if (!isBlank(bytes, start, lineEnd)) {
+                    context.reset();
+                    if (ordered) {
+                        context.defer(matches, record++);
+                    }
+                    jsonParserAdapter.parse(bytes, start, lineEnd - start, context);
+                }
+                start = lineEnd + 1;
+            }
+        } finally {
+            returnContext(context);
+        }
+        return matches;
+    }
+
+    private List<DeferredMatch> speculateBlock(byte[] bytes, int end) {
+        FieldSpeculator speculator = speculators.poll();
+        if (speculator == null) {
+            speculator = FieldSpeculator.of(jsonParserAdapter, config);
+        }
+        List<DeferredMatch> matches = ordered ? new ArrayList<DeferredMatch>() : null;
+        try {
+            int record = 0;
+            int start = 0;
+            while (start < end) {
+                int lineEnd = start;
+                while (lineEnd < end && bytes[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+                if (!isBlank(bytes, start, lineEnd)) {
+                    speculator.surfLine(bytes, start, lineEnd, matches, record++);
+                }
+                start = lineEnd + 1;
+            }
+        } finally {
+            speculators.offer(speculator);
+        }
+        return matches;
+    }
+
+    static boolean isBlank(byte[] bytes, int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte b = bytes[i];
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,354 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * InputStream decompressing gzip or zlib input on a producer thread, so that inflating overlaps with parsing.
+ * The producer inflates into a ring of reusable buffers which the consumer reads as they fill. Gzip files made of
+ * several members are read member after member. The format is detected from the first bytes.
+ * <p>
+ * Closing the stream stops the producer thread and closes the compressed input.
+ */
+public class PipelinedInflaterInputStream extends InputStream {
+
+    static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    static final int DEFAULT_BUFFER_COUNT = 4;
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private static class Chunk {
+
+        final byte[] bytes;
+        int length;
+
+        Chunk(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+    }
+
+    // marks the end of inflated data, or a failure if error is set
+    private static final Chunk END = new Chunk(new byte[0]);
+
+    private final InputStream in;
+    private final BlockingQueue<Chunk> free;
+    private final BlockingQueue<Chunk> filled;
+    private final Thread producer;
+    private volatile IOException error;
+    private Chunk current;
+    private int position;
+    private boolean ended;
+    private boolean closed;
+
+    // producer state
+    private final byte[] input;
+    private int inputPosition;
+    private int inputLimit;
+    private boolean inputEnded;
+
+    public PipelinedInflaterInputStream(InputStream in) {
+        this(in, DEFAULT_BUFFER_SIZE, DEFAULT_BUFFER_COUNT);
+    }
+
+    /**
+     * @param in          gzip or zlib compressed input
+     * @param bufferSize  size of each buffer of the ring
+     * @param bufferCount number of buffers of the ring
+     */
+    public PipelinedInflaterInputStream(InputStream in, int bufferSize, int bufferCount) {
+        if (bufferSize <= 0 || bufferCount <= 0) {
+            throw new IllegalArgumentException("Buffer size and count must be positive");
+        }
+        this.in = in;
+        this.input = new byte[bufferSize];
+        this.free = new ArrayBlockingQueue<Chunk>(bufferCount);
+        // one more slot for END
+        this.filled = new ArrayBlockingQueue<Chunk>(bufferCount + 1);
+        for (int i = 0; i < bufferCount; i++) {
+            free.add(new Chunk(new byte[bufferSize]));
+        }
+        this.producer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                produce();
+            }
+        }, "jsurfer-inflater");
+        this.producer.setDaemon(true);
+        this.producer.start();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureChunk()) {
+            return -1;
+        }
+        return current.bytes[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureChunk()) {
+            return -1;
+        }
+        int n = Math.min(len, current.length - position);
+        System.arraycopy(current.bytes, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return current != null && current != END ? current.length - position : 0;
+    }
+
+    /**
+     * @return false if the end of inflated data is reached
+     */
+    private boolean ensureChunk() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        while (current == null || position == current.length) {
+            if (ended) {
+                return false;
+            }
+            if (current != null) {
+                // hand the consumed buffer back to the producer
+                free.add(current);
+            }
+            try {
+                current = filled.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            position = 0;
+            if (current == END) {
+                current = null;
+                ended = true;
+                if (error != null) {
+                    throw error;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        producer.interrupt();
+        in.close();
+    }
+
+    private void produce() {
+        try {
+            Inflater inflater;
+            boolean gzip;
+            int b0 = readInputByte();
+            int b1 = readInputByte();
+            if (b0 < 0 || b1 < 0) {
+                throw new EOFException("Unexpected end of compressed input");
+            }
+            gzip = (b1 << 8 | b0) == GZIP_MAGIC;
+            if (gzip) {
+                readGzipHeader();
+                inflater = new Inflater(true);
+            } else {
+                if ((b0 & 0x0f) != 8 || (b0 << 8 | b1) % 31 != 0) {
+                    throw new ZipException("Not in gzip or zlib format");
+                }
+                inflater = new Inflater();
+                // the zlib header is read again by the inflater
+                inflater.setInput(new byte[]{(byte) b0, (byte) b1});
+            }
+            try {
+                inflate(inflater, gzip);
+            } finally {
+                inflater.end();
+            }
+        } catch (IOException e) {
+            error = e;
+        } catch (DataFormatException e) {
+            error = new ZipException(e.getMessage());
+        } catch (InterruptedException e) {
+            // closed by the consumer
+        } catch (Throwable e) {
+            // e.g. an unchecked exception from the compressed input, which must not leave the consumer waiting
+            error = new IOException("Failed to inflate compressed input", e);
+        } finally {
+            // never blocks, as END takes the slot left for it
+            filled.offer(END);
+        }
+    }
+
+    private void inflate(Inflater inflater, boolean gzip) throws IOException, DataFormatException, InterruptedException {
+        CRC32 crc = new CRC32();
+        boolean finished = false;
+        while (!finished) {
+            Chunk chunk = free.take();
+            int n = 0;
+            while (n < chunk.bytes.length) {
+                int k = inflater.inflate(chunk.bytes, n, chunk.bytes.length - n);
+                if (k > 0) {
+                    if (gzip) {
+                        crc.update(chunk.bytes, n, k);
+                    }
+                    n += k;
+                    continue;
+                }
+                if (inflater.finished()) {
+                    inputPosition = inputLimit - inflater.getRemaining();
+                    if (!gzip || !nextMember(inflater, crc)) {
+                        finished = true;
+                        break;
+                    }
+                } else if (inflater.needsDictionary()) {
+                    throw new ZipException("Preset dictionary is not supported");
+                } else if (inflater.needsInput()) {
+                    if (inputPosition == inputLimit && !fillInput()) {
+                        throw new EOFException("Unexpected end of compressed input");
+                    }
+                    inflater.setInput(input, inputPosition, inputLimit - inputPosition);
+                    inputPosition = inputLimit;
+                }
+            }
+            chunk.length = n;
+            filled.put(chunk);
+        }
+    }
+
+    /**
+     * Verify the trailer of the finished member and start the next one if any
+     *
+     * @return false if no member follows
+     */
+    private boolean nextMember(Inflater inflater, CRC32 crc) throws IOException {
+        long expectedCrc = readInt() & 0xffffffffL;
+        long expectedSize = readInt() & 0xffffffffL;
+        if (expectedCrc != crc.getValue() || expectedSize != (inflater.getBytesWritten() & 0xffffffffL)) {
+            throw new ZipException("Corrupt gzip trailer");
+        }
+        int b0 = readInputByte();
+        if (b0 < 0) {
+            return false;
+        }
+        int b1 = readInputByte();
+        if ((b1 << 8 | b0) != GZIP_MAGIC) {
+            throw new ZipException("Unexpected content after gzip member");
+        }
+        readGzipHeader();
+        inflater.reset();
+        crc.reset();
+        return true;
+    }
+
+    private void readGzipHeader() throws IOException {
+        if (readInputByteOrFail() != 8) {
+            throw new ZipException("Unsupported compression method");
+        }
+        int flags = readInputByteOrFail();
+        // modification time, extra flags and operating system
+        skipInput(6);
+        if ((flags & FEXTRA) != 0) {
+            skipInput(readInputByteOrFail() | readInputByteOrFail() << 8);
+        }
+        if ((flags & FNAME) != 0) {
+            while (readInputByteOrFail() != 0) {
+            }
+        }
+        if ((flags & FCOMMENT) != 0) {
+            while (readInputByteOrFail() != 0) {
+            }
+        }
+        if ((flags & FHCRC) != 0) {
+            skipInput(2);
+        }
+    }
+
+    private int readInt() throws IOException {
+        return readInputByteOrFail() | readInputByteOrFail() << 8 | readInputByteOrFail() << 16 | readInputByteOrFail() << 24;
+    }
+
+    private void skipInput(int n) throws IOException {
+        for (int i = 0; i < n; i++) {
+            readInputByteOrFail();
+        }
+    }
+
+    private int readInputByteOrFail() throws IOException {
+        int b = readInputByte();
+        if (b < 0) {
+            throw new EOFException("Unexpected end of compressed input");
+        }
+        return b;
+    }
+
+    private int readInputByte() throws IOException {
+        if (inputPosition == inputLimit && !fillInput()) {
+            return -1;
+        }
+        return input[inputPosition++] & 0xff;
+    }
+
+    /**
+     * @return false if the compressed input is exhausted
+     */
+    private boolean fillInput() throws IOException {
+        if (inputEnded) {
+            return false;
+        }
+        int n = in.read(input, 0, input.length);
+        if (n < 0) {
+            inputEnded = true;
+            return false;
+        }
+        inputPosition = 0;
+        inputLimit = n;
+        return true;
+    }
+
+}
@@ -0,0 +1,293 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Base of the modes that scan raw UTF-8 json instead of tokenizing it: keys are compared as bytes and values that are
+ * not needed are skipped by counting the brackets outside strings, 8 bytes at a time unless the bytes contain an escape.
+ * Json is assumed to be well-formed: malformed content inside skipped values may go unnoticed.
+ */
+abstract class RawJsonScanner {
+
+    /**
+     * Context of a matched node, which tells whether the listener stopped surfing before the node ended
+     */
+    static class NodeContext extends SurfingContext {
+
+        boolean ended;
+
+        NodeContext(SurfingConfiguration config) {
+            super(config);
+        }
+
+        @Override
+        public boolean endJSON() {
+            ended = true;
+            return super.endJSON();
+        }
+
+    }
+
+    private static final long LOWS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long HIGHS = 0x8080808080808080L;
+    private static final long SPACES = 0x2020202020202020L;
+    private static final long QUOTES = 0x2222222222222222L;
+    private static final long BACKSLASHES = 0x5C5C5C5C5C5C5C5CL;
+    private static final long OPENS = 0x7B7B7B7B7B7B7B7BL;
+    private static final long CLOSES = 0x7D7D7D7D7D7D7D7DL;
+
+    byte[] buf;
+    int pos;
+    int end;
+    private ByteBuffer words;
+
+    /**
+     * Point the scanner at json in bytes
+     */
+    void setInput(byte[] bytes, int offset, int length) {
+        if (buf != bytes) {
+            buf = bytes;
+            words = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        pos = offset;
+        end = offset + length;
+    }
+
+    /**
+     * Scan the key string at pos and compare it with the given key
+     */
+    boolean matchKey(byte[] key) throws IOException {
+        int start = pos + 1;
+        skipString();
+        int length = pos - 1 - start;
+        if (length == key.length) {
+            for (int i = 0; i < length; i++) {
+                if (buf[start + i] != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int i = start; i < pos - 1; i++) {
+            if (buf[i] == '\\') {
+                return decodeKey(start, pos - 1).equals(new String(key, StandardCharsets.UTF_8));
+            }
+        }
+        return false;
+    }
+
+    String decodeKey(int start, int end) throws IOException {
+        StringBuilder sb = new StringBuilder(end - start);
+        int runStart = start;
+        int i = start;
+        while (i < end) {
+            if (buf[i] != '\\') {
+                i++;
+                continue;
+            }
+            sb.append(new String(buf, runStart, i - runStart, StandardCharsets.UTF_8));
+            byte c = buf[i + 1];
+            i += 2;
+            switch (c) {
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    if (i + 4 > end) {
+                        throw malformed();
+                    }
+                    sb.append((char) Integer.parseInt(new String(buf, i, 4, StandardCharsets.US_ASCII), 16));
+                    i += 4;
+                    break;
+                default:
+                    sb.append((char) c);
+                    break;
+            }
+            runStart = i;
+        }
+        sb.append(new String(buf, runStart, end - runStart, StandardCharsets.UTF_8));
+        return sb.toString();
+    }
+
+    /**
+     * Skip the value at pos
+     */
+    void skipValue() throws IOException {
+        byte b = peek();
+        if (b == '"') {
+            skipString();
+        } else if (b == '{' || b == '[') {
+            int depth = 0;
+            boolean inString = false;
+            int i = pos;
+            while (true) {
+                if (i + 8 <= end) {
+                    long word = words.getLong(i);
+                    if (equalBytes(word, BACKSLASHES) == 0) {
+                        // without escapes, the bytes inside strings follow from the parity of the quotes before them
+                        long strings = equalBytes(word, QUOTES);
+                        strings ^= strings << 8;
+                        strings ^= strings << 16;
+                        strings ^= strings << 32;
+                        if (inString) {
+                            strings ^= HIGHS;
+                        }
+                        inString = strings < 0;
+                        long folded = word | SPACES;
+                        long opens = equalBytes(folded, OPENS) & ~strings;
+                        long closes = equalBytes(folded, CLOSES) & ~strings;
+                        if (closes != 0 && Long.bitCount(closes) >= depth) {
+                            // the value may end in this word
+                            long brackets = opens | closes;
+                            while (brackets != 0) {
+                                long bracket = brackets & -brackets;
+                                if ((bracket & opens) != 0) {
+                                    depth++;
+                                } else if (--depth == 0) {
+                                    pos = i + (Long.numberOfTrailingZeros(bracket) >>> 3) + 1;
+                                    return;
+                                }
+                                brackets ^= bracket;
+                            }
+                        } else {
+                            depth += Long.bitCount(opens) - Long.bitCount(closes);
+                        }
+                        i += 8;
+                        continue;
+                    }
+                }
+                if (i >= end) {
+                    pos = i;
+                    throw malformed();
+                }
+                // a word with escapes, or the tail of input, byte by byte
+                int wordEnd = Math.min(i + 8, end);
+                while (i < wordEnd) {
+                    b = buf[i++];
+                    if (inString) {
+                        if (b == '\\') {
+                            i++;
+                        } else if (b == '"') {
+                            inString = false;
+                        }
+                    } else if (b == '"') {
+                        inString = true;
+                    } else if (b == '{' || b == '[') {
+                        depth++;
+                    } else if ((b == '}' || b == ']') && --depth == 0) {
+                        pos = i;
+                        return;
+                    }
+                }
+            }
+        } else {
+            int start = pos;
+            while (pos < end && b != ',' && b != '}' && b != ']' && !isWhitespace(b)) {
+                if (b == '"' || b == '{' || b == '[' || b == ':') {
+                    throw malformed();
+                }
+                b = ++pos < end ? buf[pos] : 0;
+            }
+            if (pos == start) {
+                throw malformed();
+            }
+        }
+    }
+
+    /**
+     * Skip the string at pos, 8 bytes at a time where no quote or backslash is found
+     */
+    void skipString() throws IOException {
+        int i = pos + 1;
+        while (i < end) {
+            if (i + 8 <= end) {
+                long special = Utf8Tokenizer.specialBytes(words.getLong(i));
+                if (special == 0) {
+                    i += 8;
+                    continue;
+                }
+                i += Long.numberOfTrailingZeros(special) >>> 3;
+            }
+            byte c = buf[i];
+            if (c == '"') {
+                pos = i + 1;
+                return;
+            }
+            i += c == '\\' ? 2 : 1;
+        }
+        throw malformed();
+    }
+
+    /**
+     * SWAR comparison of 8 bytes with a repeated byte, without the false positives of a borrow
+     *
+     * @param word    8 bytes in little-endian order
+     * @param pattern the byte repeated 8 times
+     * @return high bit set for each byte equal to the pattern
+     */
+    private static long equalBytes(long word, long pattern) {
+        long diff = word ^ pattern;
+        return ~((diff & LOWS) + LOWS | diff) & HIGHS;
+    }
+
+    void skipWhitespace() {
+        while (pos < end && isWhitespace(buf[pos])) {
+            pos++;
+        }
+    }
+
+    byte peek() throws IOException {
+        if (pos >= end) {
+            throw malformed();
+        }
+        return buf[pos];
+    }
+
+    static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    IOException malformed() {
+        return new IOException("Malformed json at offset " + pos);
+    }
+
+}
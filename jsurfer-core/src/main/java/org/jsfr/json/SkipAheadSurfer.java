@@ -0,0 +1,230 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import org.jsfr.json.path.ArrayIndex;
+import org.jsfr.json.path.ChildNode;
+import org.jsfr.json.path.JsonPath;
+import org.jsfr.json.path.PathOperator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Skip-ahead mode for a single definite path without filters, e.g. $.meta.requestId. Instead of tokenizing the whole
+ * document, a lightweight scanner only compares the keys and counts the elements of the objects and arrays along the
+ * path. Everything else is skipped by counting the brackets outside strings, 8 bytes at a time. Only the matched values
+ * are parsed by the adapter, as nodes of the enclosing document, so that listeners receive the same values and
+ * ParsingContext as in a normal surf.
+ * <p>
+ * Json is assumed to be well-formed: malformed content outside the path may go unnoticed. If the scanner fails before
+ * any match, the document is left to normal surfing, which reports the error.
+ *
+ * @see SurfingConfiguration.Builder#skipAhead()
+ */
+final class SkipAheadSurfer extends RawJsonScanner {
+
+    private final AbstractJsonParserAdapter jsonParserAdapter;
+    private final NodeContext context;
+    // key of each step in UTF-8, or null for an array index
+    private final byte[][] keys;
+    private final String[] nodeKeys;
+    private final int[] nodeIndexes;
+    private final int limit;
+
+    private int matches;
+    private boolean done;
+
+    private SkipAheadSurfer(AbstractJsonParserAdapter jsonParserAdapter, SurfingConfiguration config, JsonPath path, int limit) {
+        this.jsonParserAdapter = jsonParserAdapter;
+        this.context = new NodeContext(config);
+        int depth = path.pathDepth() - 1;
+        this.keys = new byte[depth][];
+        this.nodeKeys = new String[depth];
+        this.nodeIndexes = new int[depth];
+        for (int i = 0; i < depth; i++) {
+            PathOperator operator = path.get(i + 1);
+            if (operator instanceof ChildNode) {
+                nodeKeys[i] = ((ChildNode) operator).getKey();
+                keys[i] = nodeKeys[i].getBytes(StandardCharsets.UTF_8);
+            } else {
+                nodeIndexes[i] = ((ArrayIndex) operator).getArrayIndex();
+            }
+        }
+        this.limit = limit;
+    }
+
+    /**
+     * @return surfer for the configuration, or null if it is not a single definite path of keys and indexes without
+     * filters surfing UTF-8
+     */
+    static SkipAheadSurfer of(AbstractJsonParserAdapter jsonParserAdapter, SurfingConfiguration config) {
+        if (config.getBindingCount() != 1 || config.hasFilter() || config.isMultipleRootsAllowed()
+                || config.getIndefinitePathLookup().length > 0 || !config.hasDefinitePath()
+                || !StandardCharsets.UTF_8.equals(config.getParserCharset())) {
+            return null;
+        }
+        SurfingConfiguration.Binding binding = null;
+        for (SurfingConfiguration.Binding[] bindings : config.getDefinitePathBindings()) {
+            if (bindings != null) {
+                binding = bindings[0];
+            }
+        }
+        if (binding == null || binding.jsonPath.pathDepth() < 2) {
+            return null;
+        }
+        for (int i = 1; i < binding.jsonPath.pathDepth(); i++) {
+            PathOperator operator = binding.jsonPath.get(i);
+            if (operator.getClass() != ChildNode.class && operator.getClass() != ArrayIndex.class) {
+                return null;
+            }
+            if (operator instanceof ChildNode && ((ChildNode) operator).getKey().indexOf('\\') >= 0) {
+                // raw bytes of a key with a backslash may be an escape sequence
+                return null;
+            }
+        }
+        return new SkipAheadSurfer(jsonParserAdapter, config, binding.jsonPath, binding.limit);
+    }
+
+    /**
+     * @param bytes  UTF-8 json
+     * @param offset offset of json in bytes
+     * @param length length of json
+     * @return false if the scanner failed before any match, so that the document should be surfed normally
+     */
+    boolean surf(byte[] bytes, int offset, int length) {
+        setInput(bytes, offset, length);
+        try {
+            skipWhitespace();
+            if (pos == end || buf[pos] != '{' && buf[pos] != '[') {
+                // nothing below root to skip to, or not json text, e.g. a byte order mark or a binary format
+                return false;
+            }
+            walk(0);
+            return true;
+        } catch (IOException e) {
+            if (matches == 0) {
+                return false;
+            }
+            context.getConfig().getErrorHandlingStrategy().handleParsingException(e);
+            return true;
+        }
+    }
+
+    /**
+     * Walk the value at pos, which is on the path down to the given step
+     */
+    private void walk(int step) throws IOException {
+        if (keys[step] != null) {
+            if (peek() != '{') {
+                skipValue();
+                return;
+            }
+            pos++;
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return;
+            }
+            while (true) {
+                if (peek() != '"') {
+                    throw malformed();
+                }
+                boolean matched = matchKey(keys[step]);
+                skipWhitespace();
+                if (peek() != ':') {
+                    throw malformed();
+                }
+                pos++;
+                skipWhitespace();
+                if (matched) {
+                    enter(step);
+                    if (done) {
+                        return;
+                    }
+                } else {
+                    skipValue();
+                }
+                skipWhitespace();
+                byte b = peek();
+                pos++;
+                if (b == '}') {
+                    return;
+                } else if (b != ',') {
+                    throw malformed();
+                }
+                skipWhitespace();
+            }
+        } else {
+            if (peek() != '[') {
+                skipValue();
+                return;
+            }
+            pos++;
+            skipWhitespace();
+            if (peek() == ']') {
+                pos++;
+                return;
+            }
+            for (int index = 0; ; index++) {
+                if (index == nodeIndexes[step]) {
+                    enter(step);
+                    if (done) {
+                        return;
+                    }
+                } else {
+                    skipValue();
+                }
+                skipWhitespace();
+                byte b = peek();
+                pos++;
+                if (b == ']') {
+                    return;
+                } else if (b != ',') {
+                    throw malformed();
+                }
+                skipWhitespace();
+            }
+        }
+    }
+
+    private void enter(int step) throws IOException {
+        if (step + 1 < keys.length) {
+            walk(step + 1);
+            return;
+        }
+        int start = pos;
+        skipValue();
+        matches++;
+        context.reset();
+        context.ended = false;
+        context.startAtNode(nodeKeys, nodeIndexes);
+        jsonParserAdapter.parse(buf, start, pos - start, context);
+        if (!context.ended || matches == limit) {
+            done = true;
+        }
+    }
+
+}
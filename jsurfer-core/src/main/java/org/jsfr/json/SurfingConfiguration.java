@@ -26,6 +26,7 @@ package org.jsfr.json;
 
 import org.jsfr.json.filter.JsonPathFilter;
 import org.jsfr.json.path.ArrayFilter;
+import org.jsfr.json.path.ArraySlicing;
 import org.jsfr.json.path.JsonPath;
 import org.jsfr.json.path.PathOperator;
 import org.jsfr.json.provider.JsonProvider;
@@ -33,12 +34,15 @@ import org.jsfr.json.provider.JsonProvider;
 import java.io.InputStream;
 import java.io.Reader;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 import static org.jsfr.json.compiler.JsonPathCompiler.compile;
 
@@ -50,6 +54,7 @@ public class SurfingConfiguration {
     public static class FilterConfig {
         JsonPath filterRootPath;
         JsonPathFilter filter;
+        ArraySlicing slicing;
     }
 
     public static Collection<FilterConfig> getFilterConfigs(JsonPath path) {
@@ -61,6 +66,12 @@ public class SurfingConfiguration {
                 fc.filter = ((ArrayFilter) operator).getJsonPathFilter();
                 fc.filterRootPath = path.derivePath(i + 1);
                 filterConfigs.add(fc);
+            } else if (operator instanceof ArraySlicing && ((ArraySlicing) operator).isRelativeToEnd()) {
+                // slicing is verified on the array itself rather than on each element
+                FilterConfig fc = new FilterConfig();
+                fc.slicing = (ArraySlicing) operator;
+                fc.filterRootPath = path.derivePath(i);
+                filterConfigs.add(fc);
             }
         }
         return filterConfigs;
@@ -81,8 +92,11 @@ public class SurfingConfiguration {
 
         JsonPath jsonPath;
         JsonPathFilter filter;
+        ArraySlicing slicing;
         Binding dependency;
         JsonPathListener[] listeners;
+        int limit;
+        int limitIndex;
 //        FilteredJsonPathListener[] filteredListeners;
 
         //        FilteredJsonPathListener[] wrapWithFilteredListener(ParsingContext context, SurfingConfiguration config) {
@@ -129,6 +143,7 @@ public class SurfingConfiguration {
         private SurfingConfiguration configuration;
         private Map<Integer, ArrayList<Binding>> definiteBindings = new HashMap<Integer, ArrayList<Binding>>();
         private ArrayList<IndefinitePathBinding> indefiniteBindings = new ArrayList<IndefinitePathBinding>();
+        private Set<String> keys = new LinkedHashSet<String>();
         private boolean hasFilter = false;
 
         public SurfingConfiguration build() {
@@ -142,10 +157,32 @@ public class SurfingConfiguration {
                     configuration.definitePathLookup[entry.getKey() - configuration.minDepth] = entry.getValue().toArray(new Binding[0]);
                 }
             }
+            if (!keys.isEmpty()) {
+                configuration.keyTable = new Utf8KeyTable(keys);
+            }
             configuration.hasFilter = this.hasFilter;
+            configuration.onlyReferencedKeysMatch = !definiteBindings.isEmpty() && indefiniteBindings.isEmpty() && !hasFilter
+                    && onlyReferencedKeysMatch();
             return configuration;
         }
 
+        /**
+         * @return true if no operator of the definite paths matches a key the paths do not reference, e.g. a wildcard
+         */
+        private boolean onlyReferencedKeysMatch() {
+            for (ArrayList<Binding> bindings : definiteBindings.values()) {
+                for (Binding binding : bindings) {
+                    for (int i = 0; i < binding.jsonPath.pathDepth(); i++) {
+                        PathOperator.Type type = binding.jsonPath.get(i).getType();
+                        if (type != PathOperator.Type.ROOT && type != PathOperator.Type.OBJECT && type != PathOperator.Type.ARRAY) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+
         /**
          * Associated with a Charset
          *
@@ -197,6 +234,15 @@ public class SurfingConfiguration {
             this.jsonSurfer.surf(inputStream, this.build());
         }
 
+        /**
+         * Build the configuration and then surf with it and the associated JsonSurfer
+         *
+         * @param path json file
+         */
+        public void buildAndSurf(Path path) {
+            this.jsonSurfer.surf(path, this.build());
+        }
+
         public Builder bind(String path, JsonPathListener... jsonPathListeners) {
             return bind(compile(path), jsonPathListeners);
         }
@@ -243,7 +289,50 @@ public class SurfingConfiguration {
             }
         }
 
+        /**
+         * Bind listeners which receive at most the given number of matches. The binding drops out of matching once it is exhausted
+         * and the parsing stops once every binding of the configuration is exhausted.
+         *
+         * @param path              JsonPath
+         * @param limit             maximum number of matches
+         * @param jsonPathListeners listeners
+         * @return builder
+         */
+        public Builder bind(String path, int limit, JsonPathListener... jsonPathListeners) {
+            return bind(compile(path), limit, jsonPathListeners);
+        }
+
+        /**
+         * Bind listeners which receive at most the given number of matches. The binding drops out of matching once it is exhausted
+         * and the parsing stops once every binding of the configuration is exhausted.
+         *
+         * @param jsonPath          JsonPath
+         * @param limit             maximum number of matches
+         * @param jsonPathListeners listeners
+         * @return builder
+         */
+        public Builder bind(JsonPath jsonPath, int limit, JsonPathListener... jsonPathListeners) {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("Limit must be positive");
+            }
+            return doBind(jsonPath, limit, jsonPathListeners);
+        }
+
         public Builder bind(JsonPath jsonPath, JsonPathListener... jsonPathListeners) {
+            return doBind(jsonPath, jsonPath.getLimit(), jsonPathListeners);
+        }
+
+        private void applyLimit(Binding binding, int limit) {
+            configuration.bindingCount++;
+            if (limit > 0) {
+                binding.limit = limit;
+                binding.limitIndex = configuration.limitedBindingCount++;
+                binding.listeners = new JsonPathListener[]{new LimitedListener(binding, binding.listeners)};
+            }
+        }
+
+        private Builder doBind(JsonPath jsonPath, int limit, JsonPathListener... jsonPathListeners) {
+            Utf8KeyTable.collectKeys(jsonPath, keys);
             Collection<FilterConfig> filterConfigs = getFilterConfigs(jsonPath);
             if (!filterConfigs.isEmpty()) {
                 this.hasFilter = true;
@@ -255,6 +344,7 @@ public class SurfingConfiguration {
                     ArrayList<Binding> bindings = getDefiniteBindings(fc.filterRootPath.pathDepth());
                     Binding filterBiding = new Binding(fc.filterRootPath, null);
                     filterBiding.filter = fc.filter;
+                    filterBiding.slicing = fc.slicing;
                     filterBiding.dependency = previous;
                     bindings.add(filterBiding);
                     updateMinMaxDepth(fc.filterRootPath.pathDepth());
@@ -264,6 +354,7 @@ public class SurfingConfiguration {
                     int minimumDepth = JsonPath.minimumPathDepth(fc.filterRootPath);
                     IndefinitePathBinding filterBiding = new IndefinitePathBinding(fc.filterRootPath, null, minimumDepth);
                     filterBiding.filter = fc.filter;
+                    filterBiding.slicing = fc.slicing;
                     filterBiding.dependency = previous;
                     indefiniteBindings.add(filterBiding);
                     previous = filterBiding;
@@ -273,6 +364,7 @@ public class SurfingConfiguration {
                 int minimumDepth = JsonPath.minimumPathDepth(jsonPath);
                 IndefinitePathBinding binding = new IndefinitePathBinding(jsonPath, jsonPathListeners, minimumDepth);
                 binding.dependency = previous;
+                applyLimit(binding, limit);
                 indefiniteBindings.add(binding);
             } else {
                 int depth = jsonPath.pathDepth();
@@ -280,16 +372,58 @@ public class SurfingConfiguration {
                 ArrayList<Binding> bindings = getDefiniteBindings(depth);
                 Binding binding = new Binding(jsonPath, jsonPathListeners);
                 binding.dependency = previous;
+                applyLimit(binding, limit);
                 bindings.add(binding);
             }
             return this;
         }
 
+        /**
+         * Surf strings and byte arrays in skip-ahead mode if the configuration has a single definite path of keys and
+         * indexes without filters, e.g. $.meta.requestId. Values off the path are skipped by a lightweight scanner
+         * instead of being tokenized and only matched values are parsed. Json is assumed to be well-formed: malformed
+         * content off the path may not be reported. Binary formats such as Smile or CBOR are not supported.
+         *
+         * @return builder
+         */
+        public Builder skipAhead() {
+            configuration.skipAhead = true;
+            return this;
+        }
+
+        /**
+         * Surf newline-delimited json whose records share a layout by speculating where bound keys appear, if the
+         * configuration has only definite paths of keys and indexes without filters, e.g. $.user.id. The position of
+         * each bound key among the fields of a record is learned from a sample of records; later records skip straight
+         * to it and verify the key there, falling back to normal surfing where it is not found. Records are assumed to be
+         * well-formed and not to repeat keys. Applies to surfLines and surfRange.
+         *
+         * @return builder
+         */
+        public Builder speculateFieldPositions() {
+            configuration.speculatingFieldPositions = true;
+            return this;
+        }
+
         public Builder skipOverlappedPath() {
             configuration.skipOverlappedPath = true;
             return this;
         }
 
+        /**
+         * Accept a stream of concatenated root values such as {...}{...}. Every root value is surfed as a document of its own:
+         * bindings and limits start over for each of them and the same context keeps parsing until the end of input.
+         * Supported by JacksonParser, GsonParser and NativeParser; FastJsonParser and JsonSimpleParser throw
+         * UnsupportedOperationException. GsonParser reads multiple roots leniently, so non-standard json such as
+         * unquoted strings, single quotes and comments is accepted as well.
+         *
+         * @return builder
+         */
+        public Builder allowMultipleRoots() {
+            configuration.multipleRootsAllowed = true;
+            return this;
+        }
+
         public Builder withJsonProvider(JsonProvider provider) {
             configuration.jsonProvider = provider;
             return this;
@@ -313,7 +447,12 @@ public class SurfingConfiguration {
     private int minDepth = Integer.MAX_VALUE;
     private int maxDepth = -1;
     private boolean skipOverlappedPath = false;
+    private boolean multipleRootsAllowed = false;
+    private boolean skipAhead = false;
+    private boolean speculatingFieldPositions = false;
     private boolean hasFilter = false;
+    private int bindingCount = 0;
+    private int limitedBindingCount = 0;
 
     private Binding[][] definitePathLookup;
 
@@ -322,6 +461,8 @@ public class SurfingConfiguration {
 
     private JsonProvider jsonProvider;
     private ErrorHandlingStrategy errorHandlingStrategy;
+    private Utf8KeyTable keyTable = Utf8KeyTable.EMPTY;
+    private boolean onlyReferencedKeysMatch = false;
 
     public int getMinDepth() {
         return minDepth;
@@ -335,6 +476,18 @@ public class SurfingConfiguration {
         return skipOverlappedPath;
     }
 
+    public boolean isMultipleRootsAllowed() {
+        return multipleRootsAllowed;
+    }
+
+    public boolean isSkipAhead() {
+        return skipAhead;
+    }
+
+    public boolean isSpeculatingFieldPositions() {
+        return speculatingFieldPositions;
+    }
+
     public boolean hasDefinitePath() {
         return definitePathLookup != null;
     }
@@ -383,8 +536,63 @@ public class SurfingConfiguration {
         this.parserCharset = parserCharset;
     }
 
+    /**
+     * @return UTF-8 keys referenced by the paths and filters of this configuration
+     */
+    Utf8KeyTable getKeyTable() {
+        return keyTable;
+    }
+
+    /**
+     * @return true if the configuration has only definite paths of keys and indexes without filters, so that a key not
+     * in the key table can never be part of a match
+     */
+    boolean isOnlyReferencedKeysMatch() {
+        return onlyReferencedKeysMatch;
+    }
+
     public boolean hasFilter() {
         return hasFilter;
     }
 
+    public int getBindingCount() {
+        return bindingCount;
+    }
+
+    public int getLimitedBindingCount() {
+        return limitedBindingCount;
+    }
+
+    /**
+     * Check that every binding can be decided from nodes surfed one by one, each as a document of its own, such as the
+     * elements of a top-level array. Slicing counted from the end of an array enclosing the nodes needs the end of
+     * that array, and limits count matches across all nodes.
+     *
+     * @param nodeDepth deepest level of the nodes below root, e.g. 1 for the elements of a top-level array
+     * @throws IllegalArgumentException if a binding cannot be decided node by node
+     */
+    void checkSurfableByNode(int nodeDepth) {
+        if (limitedBindingCount > 0) {
+            throw new IllegalArgumentException("Limits are not supported when surfing node by node");
+        }
+        if (definitePathLookup != null) {
+            for (Binding[] bindings : definitePathLookup) {
+                if (bindings == null) {
+                    continue;
+                }
+                for (Binding binding : bindings) {
+                    if (binding.slicing != null && binding.slicing.isRelativeToEnd() && binding.jsonPath.pathDepth() <= nodeDepth) {
+                        throw new IllegalArgumentException("Slicing from the end of an array enclosing the nodes is not supported");
+                    }
+                }
+            }
+        }
+        for (IndefinitePathBinding binding : indefinitePathLookup) {
+            // an indefinite path may slice any array
+            if (binding.slicing != null && binding.slicing.isRelativeToEnd()) {
+                throw new IllegalArgumentException("Slicing from the end of an array enclosing the nodes is not supported");
+            }
+        }
+    }
+
 }
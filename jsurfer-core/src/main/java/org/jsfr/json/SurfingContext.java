@@ -33,9 +33,11 @@ import org.jsfr.json.path.ChildNode;
 import org.jsfr.json.path.PathOperator;
 import org.jsfr.json.path.PathOperator.Type;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -43,6 +45,12 @@ import java.util.Map;
  */
 public class SurfingContext implements ParsingContext, JsonSaxHandler {
 
+    /**
+     * Passed by a tokenizer in place of a key that no path references, see canSkipKey(). A lone surrogate can not be
+     * decoded from UTF-8, so it never equals a key of the input or of a path.
+     */
+    static final String UNREFERENCED_KEY = "\uD800";
+
     private boolean stopped = false;
     private boolean paused = false;
     private JsonPosition currentPosition;
@@ -50,6 +58,18 @@ public class SurfingContext implements ParsingContext, JsonSaxHandler {
     private FilterVerifierDispatcher filterVerifierDispatcher;
     private SurfingConfiguration config;
     private Map<String, Object> transientMap;
+    private int[] matchCounts;
+    private int exhaustedBindings = 0;
+    // matches recorded instead of delivered, see defer(List, int)
+    private List<DeferredMatch> deferredMatches;
+    private int record;
+    // keys and indexes enclosing the node surfed as a document of its own, null if surfing a whole document
+    private String[] nodeKeys;
+    private int[] nodeIndexes;
+    // a root value has been completed in multi-root mode, the next one starts a new document
+    private boolean documentEnded;
+    // checkpoint to start surfing from instead of the beginning of a document
+    private Checkpoint checkpoint;
 
     SurfingContext(SurfingConfiguration config) {
         this.config = config;
@@ -57,6 +77,158 @@ public class SurfingContext implements ParsingContext, JsonSaxHandler {
             this.filterVerifierDispatcher = new FilterVerifierDispatcher();
             this.dispatcher.addReceiver(this.filterVerifierDispatcher);
         }
+        if (config.getLimitedBindingCount() > 0) {
+            this.matchCounts = new int[config.getLimitedBindingCount()];
+        }
+    }
+
+    /**
+     * Make the context ready for surfing another document with the same configuration
+     */
+    void reset() {
+        stopped = false;
+        paused = false;
+        currentPosition = null;
+        clearDocumentState();
+        documentEnded = false;
+        if (transientMap != null) {
+            transientMap.clear();
+        }
+        deferredMatches = null;
+        nodeKeys = null;
+        nodeIndexes = null;
+    }
+
+    private void clearDocumentState() {
+        dispatcher.clear();
+        if (filterVerifierDispatcher != null) {
+            filterVerifierDispatcher.clear();
+            dispatcher.addReceiver(filterVerifierDispatcher);
+        }
+        if (matchCounts != null) {
+            Arrays.fill(matchCounts, 0);
+        }
+        exhaustedBindings = 0;
+    }
+
+    /**
+     * Surf the next document as the element at the given index of a top-level array, so that it is matched against the
+     * bindings as if the whole array were surfed
+     *
+     * @param index index of the element
+     */
+    void startAtArrayElement(int index) {
+        startAtNode(new String[1], new int[]{index});
+    }
+
+    /**
+     * Surf the next document as the node at the given position of an enclosing document, so that it is matched against
+     * the bindings as if the whole enclosing document were surfed
+     *
+     * @param keys    key of each level from root to the node, null for an array level
+     * @param indexes index of each array level from root to the node
+     */
+    void startAtNode(String[] keys, int[] indexes) {
+        this.nodeKeys = keys;
+        this.nodeIndexes = indexes;
+    }
+
+    private void stepInto(String key, int index) {
+        if (key == null) {
+            currentPosition.stepIntoArray();
+            ((ArrayIndex) currentPosition.peek()).setArrayIndex(index);
+        } else {
+            currentPosition.stepIntoObject();
+            currentPosition.updateObjectEntry(key);
+        }
+    }
+
+    /**
+     * Capture the state of surfing at the current position. It is a safe point if no match is being collected or
+     * verified, so that only the position and the match counts need to be saved.
+     *
+     * @param offset offset of the input where surfing would resume
+     * @return checkpoint, or null if not at a safe point
+     */
+    Checkpoint checkpoint(long offset) {
+        if (currentPosition == null || !dispatcher.isEmpty() && (dispatcher.size() > 1 || filterVerifierDispatcher == null || !filterVerifierDispatcher.isEmpty())) {
+            return null;
+        }
+        int depth = currentPosition.pathDepth() - 1;
+        String[] keys = new String[depth];
+        int[] indexes = new int[depth];
+        for (int i = 0; i < depth; i++) {
+            PathOperator operator = currentPosition.get(i + 1);
+            if (operator.getType() == Type.ARRAY) {
+                indexes[i] = ((ArrayIndex) operator).getArrayIndex();
+            } else {
+                keys[i] = ((ChildNode) operator).getKey();
+                if (keys[i] == UNREFERENCED_KEY) {
+                    // the real key is unknown
+                    return null;
+                }
+                indexes[i] = -1;
+            }
+        }
+        return new Checkpoint(offset, keys, indexes, matchCounts != null ? matchCounts.clone() : new int[0], exhaustedBindings);
+    }
+
+    /**
+     * Whether a tokenizer may pass UNREFERENCED_KEY instead of decoding a key missing from the key table of the
+     * configuration. With definite paths of keys and indexes only, such a key can never be part of a match, and no value
+     * is built from it unless a match is being collected. Subclasses which record keys must not allow it.
+     *
+     * @return true if the current key is not needed unless the paths reference it
+     */
+    boolean canSkipKey() {
+        return config.isOnlyReferencedKeysMatch() && dispatcher.isEmpty();
+    }
+
+    /**
+     * Surf the next document from the given checkpoint rather than from its beginning
+     *
+     * @param checkpoint checkpoint taken with the same configuration
+     */
+    void restore(Checkpoint checkpoint) {
+        if (checkpoint.getMatchCounts().length != config.getLimitedBindingCount()) {
+            throw new IllegalArgumentException("Checkpoint does not match the configuration");
+        }
+        this.checkpoint = checkpoint;
+    }
+
+    private void startAtCheckpoint() {
+        for (int i = 0; i < checkpoint.depth(); i++) {
+            stepInto(checkpoint.getKey(i), checkpoint.getIndex(i));
+        }
+        if (matchCounts != null) {
+            System.arraycopy(checkpoint.getMatchCounts(), 0, matchCounts, 0, matchCounts.length);
+            exhaustedBindings = checkpoint.getExhaustedBindings();
+        }
+        // a root value has been completed if the checkpoint is taken between root values
+        documentEnded = checkpoint.depth() == 0;
+        checkpoint = null;
+    }
+
+    /**
+     * Record the matches of the current document into the given list rather than delivering them to listeners
+     *
+     * @param matches list to record matches into
+     * @param record  index of the current document
+     */
+    void defer(List<DeferredMatch> matches, int record) {
+        this.deferredMatches = matches;
+        this.record = record;
+    }
+
+    /**
+     * @return true if the value is recorded and must not be delivered now
+     */
+    boolean defer(JsonPathListener listener, Object value) {
+        if (deferredMatches == null) {
+            return false;
+        }
+        deferredMatches.add(new DeferredMatch(listener, value, this, record));
+        return true;
     }
 
     private void doMatching(PrimitiveHolder primitiveHolder) {
@@ -127,15 +299,22 @@ public class SurfingContext implements ParsingContext, JsonSaxHandler {
     }
 
     private LinkedList<JsonPathListener> doMatchingWithFilter(Binding binding, PrimitiveHolder primitiveHolder, LinkedList<JsonPathListener> listeners, boolean definiteBinding) {
+        if (isExhausted(binding)) {
+            return listeners;
+        }
         boolean matched = definiteBinding ? binding.jsonPath.match(currentPosition) : binding.jsonPath.matchWithDeepScan(currentPosition);
         if (matched) {
             if (binding.filter != null) {
                 // JsonPathFilter is stateful so clone is required
                 // TODO not clone for stateless filter
                 this.filterVerifierDispatcher.addVerifier(binding, new JsonFilterVerifier(currentPosition, config, (JsonPathFilter) ((CloneableJsonPathFilter) binding.filter).cloneMe(), this.filterVerifierDispatcher.getVerifier(binding.dependency)));
+            } else if (binding.slicing != null) {
+                this.filterVerifierDispatcher.addVerifier(binding, new JsonSlicingVerifier(currentPosition, config, binding.slicing, this.filterVerifierDispatcher.getVerifier(binding.dependency)));
             } else {
                 if (primitiveHolder != null) {
                     dispatchPrimitiveWithFilter(binding.getListeners(), primitiveHolder.getValue(), binding.dependency);
+                } else if (binding.jsonPath.getProjection() != null) {
+                    collectProjection(binding, this.addListeners(binding, null, this.filterVerifierDispatcher.getVerifier(binding.dependency)));
                 } else {
                     return this.addListeners(binding, listeners, this.filterVerifierDispatcher.getVerifier(binding.dependency));
                 }
@@ -145,10 +324,15 @@ public class SurfingContext implements ParsingContext, JsonSaxHandler {
     }
 
     private LinkedList<JsonPathListener> doMatching(Binding binding, PrimitiveHolder primitiveHolder, LinkedList<JsonPathListener> listeners, boolean definiteBinding) {
+        if (isExhausted(binding)) {
+            return listeners;
+        }
         boolean matched = definiteBinding ? binding.jsonPath.match(currentPosition) : binding.jsonPath.matchWithDeepScan(currentPosition);
         if (matched) {
             if (primitiveHolder != null) {
                 dispatchPrimitive(binding.getListeners(), primitiveHolder.getValue());
+            } else if (binding.jsonPath.getProjection() != null) {
+                collectProjection(binding, this.addListeners(binding, null));
             } else {
                 return this.addListeners(binding, listeners);
             }
@@ -156,7 +340,14 @@ public class SurfingContext implements ParsingContext, JsonSaxHandler {
         return listeners;
     }
 
-    private LinkedList<JsonPathListener> addListeners(Binding binding, LinkedList<JsonPathListener> listeners, JsonFilterVerifier verifier) {
+    /**
+     * Projected values can not share a collector with other bindings matching the same position
+     */
+    private void collectProjection(Binding binding, LinkedList<JsonPathListener> listeners) {
+        dispatcher.addReceiver(new JsonCollector(listeners, this, config, binding.jsonPath.getProjection()));
+    }
+
+    private LinkedList<JsonPathListener> addListeners(Binding binding, LinkedList<JsonPathListener> listeners, AbstractVerifier verifier) {
         LinkedList<JsonPathListener> listenersToAdd = listeners == null ? new LinkedList<JsonPathListener>() : listeners;
         JsonPathListener[] bindingListeners = binding.getListeners();
         for (JsonPathListener listener : bindingListeners) {
@@ -181,7 +372,7 @@ public class SurfingContext implements ParsingContext, JsonSaxHandler {
 
 //        JsonFilterVerifier filterVerifier = (JsonFilterVerifier) this.filterVerifierDispatcher.getLastReceiver();
         if (dependency != null) {
-            JsonFilterVerifier filterVerifier = this.filterVerifierDispatcher.getVerifier(dependency);
+            AbstractVerifier filterVerifier = this.filterVerifierDispatcher.getVerifier(dependency);
             for (JsonPathListener listener : listeners) {
                 JsonPathListener newListener = filterVerifier.addListener(listener);
                 newListener.onValue(primitive, this);
@@ -195,17 +386,59 @@ public class SurfingContext implements ParsingContext, JsonSaxHandler {
         DispatchUtil.dispatchValueToListeners(primitive, listeners, this, config.getErrorHandlingStrategy());
     }
 
+    boolean isExhausted(Binding binding) {
+        return binding.limit > 0 && matchCounts[binding.limitIndex] >= binding.limit;
+    }
+
+    void countMatch(Binding binding) {
+        if (++matchCounts[binding.limitIndex] == binding.limit && ++exhaustedBindings == config.getBindingCount() && !config.isMultipleRootsAllowed()) {
+            // nothing left to match
+            this.stop();
+        }
+    }
+
     @Override
     public boolean startJSON() {
         currentPosition = JsonPosition.start();
-        doMatching(null);
+        if (nodeKeys != null && nodeKeys.length > 0) {
+            // the enclosing values are never surfed, so nothing matches above the node
+            int last = nodeKeys.length - 1;
+            for (int i = 0; i < last; i++) {
+                stepInto(nodeKeys[i], nodeIndexes[i]);
+            }
+            // the index of an array level is increased when the node starts
+            stepInto(nodeKeys[last], nodeKeys[last] == null ? nodeIndexes[last] - 1 : -1);
+        } else if (checkpoint != null) {
+            // values enclosing the checkpoint have been matched when it was taken
+            startAtCheckpoint();
+            return true;
+        } else {
+            doMatching(null);
+        }
         dispatcher.startJSON();
         return true;
     }
 
+    private void endOfValue() {
+        if (config.isMultipleRootsAllowed() && currentPosition.peek().getType() == Type.ROOT) {
+            // the position at root is kept for the next document
+            dispatcher.endJSON();
+            clearDocumentState();
+            documentEnded = true;
+        }
+    }
+
+    private void startNextDocument(PrimitiveHolder primitiveHolder) {
+        documentEnded = false;
+        doMatching(primitiveHolder);
+        dispatcher.startJSON();
+    }
+
     @Override
     public boolean endJSON() {
-        dispatcher.endJSON();
+        if (!documentEnded) {
+            dispatcher.endJSON();
+        }
         // clear resources
         currentPosition.clear();
         currentPosition = null;
@@ -229,13 +462,17 @@ public class SurfingContext implements ParsingContext, JsonSaxHandler {
                 doMatching(null);
                 break;
             case ROOT:
+                if (documentEnded) {
+                    startNextDocument(null);
+                }
                 break;
             default:
                 throw new IllegalStateException();
         }
         currentPosition.stepIntoObject();
         dispatcher.startObject();
-        return true;
+        // a listener may have paused or stopped parsing
+        return !shouldBreak();
     }
 
     @Override
@@ -245,7 +482,8 @@ public class SurfingContext implements ParsingContext, JsonSaxHandler {
         }
         currentPosition.stepOutObject();
         dispatcher.endObject();
-        return true;
+        endOfValue();
+        return !shouldBreak();
     }
 
     @Override
@@ -255,7 +493,7 @@ public class SurfingContext implements ParsingContext, JsonSaxHandler {
         }
         currentPosition.updateObjectEntry(key);
         dispatcher.startObjectEntry(key);
-        return true;
+        return !shouldBreak();
     }
 
     @Override
@@ -274,6 +512,9 @@ public class SurfingContext implements ParsingContext, JsonSaxHandler {
                 doMatching(null);
                 break;
             case ROOT:
+                if (documentEnded) {
+                    startNextDocument(null);
+                }
                 break;
             default:
                 throw new IllegalStateException();
@@ -281,7 +522,7 @@ public class SurfingContext implements ParsingContext, JsonSaxHandler {
 
         currentPosition.stepIntoArray();
         dispatcher.startArray();
-        return true;
+        return !shouldBreak();
     }
 
     private void accumulateArrayIndex(ArrayIndex arrayIndex) {
@@ -295,7 +536,8 @@ public class SurfingContext implements ParsingContext, JsonSaxHandler {
         }
         currentPosition.stepOutArray();
         dispatcher.endArray();
-        return true;
+        endOfValue();
+        return !shouldBreak();
     }
 
     @Override
@@ -314,13 +556,17 @@ public class SurfingContext implements ParsingContext, JsonSaxHandler {
                 doMatching(primitiveHolder);
                 break;
             case ROOT:
+                if (documentEnded) {
+                    startNextDocument(primitiveHolder);
+                }
                 break;
             default:
                 throw new IllegalStateException();
         }
 
         dispatcher.primitive(primitiveHolder);
-        return true;
+        endOfValue();
+        return !shouldBreak();
     }
 
     @Override
@@ -328,6 +574,10 @@ public class SurfingContext implements ParsingContext, JsonSaxHandler {
         return this.currentPosition.toString();
     }
 
+    Object[] getJsonPathSteps() {
+        return this.currentPosition.steps();
+    }
+
     @Override
     public String getCurrentFieldName() {
         PathOperator top = this.currentPosition.peek();
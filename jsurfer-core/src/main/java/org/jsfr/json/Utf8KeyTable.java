@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import org.jsfr.json.filter.AggregatePredicate;
+import org.jsfr.json.filter.BasicJsonPathFilter;
+import org.jsfr.json.filter.JsonPathFilter;
+import org.jsfr.json.path.ArrayFilter;
+import org.jsfr.json.path.ChildNode;
+import org.jsfr.json.path.ChildrenNode;
+import org.jsfr.json.path.JsonPath;
+import org.jsfr.json.path.PathOperator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Keys referenced by the paths and filters of a configuration, pre-encoded in UTF-8. A byte-oriented tokenizer looks up
+ * the raw bytes of a field name and gets the key instance of the path back, without decoding or allocating a string.
+ * Being the same instance as in the path, the key also compares equal by identity when matching.
+ * <p>
+ * The table is immutable and shared by all contexts of a configuration.
+ */
+class Utf8KeyTable {
+
+    static final Utf8KeyTable EMPTY = new Utf8KeyTable(Collections.<String>emptySet());
+
+    private final byte[][] encodedKeys;
+    private final String[] keys;
+    private final int[] hashes;
+    private final int mask;
+    // bit n is set if a key is n bytes long, for keys shorter than 64 bytes
+    private final long shortLengths;
+    private final boolean hasLongKeys;
+
+    Utf8KeyTable(Collection<String> keySet) {
+        int capacity = Integer.highestOneBit(Math.max(keySet.size(), 1) * 2 + 1) << 1;
+        this.encodedKeys = new byte[capacity][];
+        this.keys = new String[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+        long lengths = 0;
+        boolean longKeys = false;
+        for (String key : keySet) {
+            byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length < 64) {
+                lengths |= 1L << bytes.length;
+            } else {
+                longKeys = true;
+            }
+            int hash = hash(bytes, 0, bytes.length);
+            int slot = hash & mask;
+            while (keys[slot] != null) {
+                if (keys[slot].equals(key)) {
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            encodedKeys[slot] = bytes;
+            keys[slot] = key;
+            hashes[slot] = hash;
+        }
+        this.shortLengths = lengths;
+        this.hasLongKeys = longKeys;
+    }
+
+    /**
+     * Collect the keys of a path, including the keys of its filters
+     */
+    static void collectKeys(JsonPath path, Collection<String> keySet) {
+        for (PathOperator operator : path) {
+            if (operator instanceof ChildNode) {
+                keySet.add(((ChildNode) operator).getKey());
+            } else if (operator instanceof ChildrenNode) {
+                keySet.addAll(((ChildrenNode) operator).getChildren());
+            } else if (operator instanceof ArrayFilter) {
+                collectKeys(((ArrayFilter) operator).getJsonPathFilter(), keySet);
+            }
+        }
+    }
+
+    private static void collectKeys(JsonPathFilter filter, Collection<String> keySet) {
+        if (filter instanceof BasicJsonPathFilter) {
+            collectKeys(((BasicJsonPathFilter) filter).getRelativePath(), keySet);
+        } else if (filter instanceof AggregatePredicate) {
+            for (JsonPathFilter nested : ((AggregatePredicate) filter).getFilters()) {
+                collectKeys(nested, keySet);
+            }
+        }
+    }
+
+    private static int hash(byte[] bytes, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @param bytes UTF-8 bytes of an unescaped field name
+     * @param start start of the name
+     * @param end   end of the name, exclusive
+     * @return key of a path equal to the name, or null if no path references it
+     */
+    String lookup(byte[] bytes, int start, int end) {
+        int length = end - start;
+        if (length < 64 ? (shortLengths & 1L << length) == 0 : !hasLongKeys) {
+            return null;
+        }
+        int hash = hash(bytes, start, end);
+        for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && matches(encodedKeys[slot], bytes, start, length)) {
+                return keys[slot];
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(byte[] key, byte[] bytes, int start, int length) {
+        if (key.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key[i] != bytes[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,823 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json;
+
+import org.jsfr.json.provider.JsonProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tokenizes UTF-8 bytes and drives SurfingContext directly. Strings and numbers are decoded only when their value is requested.
+ * The tokenizer keeps all of its state in fields so that it can stop at any event (pause) or at any byte (waiting for more input).
+ */
+class Utf8Tokenizer {
+
+    enum Status {
+        /**
+         * End of json has been dispatched
+         */
+        END,
+        /**
+         * Paused or stopped by SurfingContext
+         */
+        BREAK,
+        /**
+         * All available input has been consumed
+         */
+        NEED_INPUT
+    }
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final int S_VALUE = 0;
+    private static final int S_FIRST_KEY = 1;
+    private static final int S_KEY = 2;
+    private static final int S_COLON = 3;
+    private static final int S_OBJECT_NEXT = 4;
+    private static final int S_FIRST_VALUE = 5;
+    private static final int S_ARRAY_NEXT = 6;
+    private static final int S_END = 7;
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+    private static final long QUOTES = 0x2222222222222222L;
+    private static final long BACKSLASHES = 0x5C5C5C5C5C5C5C5CL;
+    private static final long SPACES = 0x2020202020202020L;
+
+    private static final byte IN_OBJECT = 1;
+    private static final byte IN_ARRAY = 2;
+
+    private SurfingContext context;
+    private JsonProvider jsonProvider;
+    // keys of the configuration, looked up without decoding field names
+    private Utf8KeyTable keyTable;
+
+    private InputStream inputStream;
+    private ReadableByteChannel channel;
+    private Reader reader;
+    private CharsetEncoder encoder;
+    private CharBuffer charBuffer;
+
+    private byte[] buf;
+    // little-endian view of buf for reading 8 bytes at a time
+    private ByteBuffer words;
+    private int pos;
+    private int limit;
+    private boolean endOfInput;
+    // bytes discarded before buf[0]
+    private long discarded;
+
+    private int state = S_VALUE;
+    private byte[] containers = new byte[32];
+    private int depth;
+    private boolean bomChecked;
+
+    // range of the current string or number token
+    private int tokenStart;
+    private int tokenEnd;
+    private boolean tokenEscaped;
+    private boolean tokenIntegral;
+    // bytes of an incomplete string token already scanned
+    private int scanned;
+    // offset of the first byte of the current value from the beginning of input
+    private long valueStart;
+
+    private AbstractPrimitiveHolder stringHolder;
+    private AbstractPrimitiveHolder numberHolder;
+    private StaticPrimitiveHolder staticHolder = new StaticPrimitiveHolder();
+
+    private Utf8Tokenizer(SurfingContext context) {
+        this.context = context;
+        this.jsonProvider = context.getConfig().getJsonProvider();
+        this.keyTable = context.getConfig().getKeyTable();
+        this.stringHolder = new AbstractPrimitiveHolder(context.getConfig()) {
+            @Override
+            protected Object doGetValue() throws IOException {
+                return jsonProvider.primitive(decodeString(tokenStart, tokenEnd, tokenEscaped));
+            }
+
+            @Override
+            protected void doSkipValue() throws IOException {
+            }
+        };
+        this.numberHolder = new AbstractPrimitiveHolder(context.getConfig()) {
+            @Override
+            protected Object doGetValue() throws IOException {
+                return decodeNumber(tokenStart, tokenEnd, tokenIntegral);
+            }
+
+            @Override
+            protected void doSkipValue() throws IOException {
+            }
+        };
+    }
+
+    static Utf8Tokenizer forBytes(byte[] bytes, int offset, int length, SurfingContext context) {
+        Utf8Tokenizer tokenizer = new Utf8Tokenizer(context);
+        tokenizer.setBuffer(bytes);
+        tokenizer.pos = offset;
+        tokenizer.limit = offset + length;
+        // offsets are counted from the beginning of json
+        tokenizer.discarded = -offset;
+        tokenizer.endOfInput = true;
+        return tokenizer;
+    }
+
+    static Utf8Tokenizer forInputStream(InputStream inputStream, SurfingContext context) {
+        Utf8Tokenizer tokenizer = new Utf8Tokenizer(context);
+        tokenizer.inputStream = inputStream;
+        tokenizer.setBuffer(new byte[DEFAULT_BUFFER_SIZE]);
+        return tokenizer;
+    }
+
+    static Utf8Tokenizer forChannel(ReadableByteChannel channel, SurfingContext context) {
+        Utf8Tokenizer tokenizer = new Utf8Tokenizer(context);
+        tokenizer.channel = channel;
+        tokenizer.setBuffer(new byte[DEFAULT_BUFFER_SIZE]);
+        return tokenizer;
+    }
+
+    static Utf8Tokenizer forReader(Reader reader, SurfingContext context) {
+        Utf8Tokenizer tokenizer = new Utf8Tokenizer(context);
+        tokenizer.reader = reader;
+        tokenizer.encoder = StandardCharsets.UTF_8.newEncoder();
+        tokenizer.charBuffer = CharBuffer.allocate(DEFAULT_BUFFER_SIZE);
+        tokenizer.charBuffer.flip();
+        tokenizer.setBuffer(new byte[DEFAULT_BUFFER_SIZE]);
+        return tokenizer;
+    }
+
+    static Utf8Tokenizer forNonBlocking(SurfingContext context) {
+        Utf8Tokenizer tokenizer = new Utf8Tokenizer(context);
+        tokenizer.setBuffer(new byte[DEFAULT_BUFFER_SIZE]);
+        return tokenizer;
+    }
+
+    private void setBuffer(byte[] buf) {
+        this.buf = buf;
+        this.words = ByteBuffer.wrap(buf).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Append bytes in non-blocking mode. Unconsumed bytes are kept in the internal buffer so the caller can reuse its array.
+     */
+    void feed(byte[] bytes, int start, int end) {
+        int length = end - start;
+        ensureCapacity(length);
+        System.arraycopy(bytes, start, buf, limit, length);
+        limit += length;
+    }
+
+    /**
+     * Append bytes between position and limit of buffer in non-blocking mode
+     */
+    void feed(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        ensureCapacity(length);
+        buffer.get(buf, limit, length);
+        limit += length;
+    }
+
+    void endOfInput() {
+        this.endOfInput = true;
+    }
+
+    boolean isEndOfInput() {
+        return endOfInput;
+    }
+
+    /**
+     * @return offset of the next byte to consume from the beginning of input
+     */
+    long getOffset() {
+        return discarded + pos;
+    }
+
+    /**
+     * @return offset of the first byte of the value being dispatched from the beginning of input
+     */
+    long getValueStart() {
+        return valueStart;
+    }
+
+    /**
+     * @return checkpoint after the last value tokenized, or null if not between two values at a safe point
+     */
+    Checkpoint checkpoint() {
+        if (state != S_OBJECT_NEXT && state != S_ARRAY_NEXT && (state != S_END || !context.getConfig().isMultipleRootsAllowed())) {
+            return null;
+        }
+        return context.checkpoint(getOffset());
+    }
+
+    /**
+     * Tokenize input starting at the offset of the checkpoint, inside the containers enclosing it
+     */
+    void restore(Checkpoint checkpoint) {
+        context.restore(checkpoint);
+        discarded = checkpoint.getOffset() - pos;
+        bomChecked = true;
+        for (int i = 0; i < checkpoint.depth(); i++) {
+            push(checkpoint.isArray(i) ? IN_ARRAY : IN_OBJECT);
+        }
+        afterValue();
+    }
+
+    /**
+     * Make room for at least extra bytes after limit, discarding consumed bytes
+     */
+    private void ensureCapacity(int extra) {
+        if (limit + extra <= buf.length) {
+            return;
+        }
+        int remaining = limit - pos;
+        byte[] target = buf;
+        if (remaining + extra > buf.length) {
+            target = new byte[Math.max(buf.length * 2, remaining + extra)];
+        }
+        System.arraycopy(buf, pos, target, 0, remaining);
+        discarded += pos;
+        setBuffer(target);
+        limit = remaining;
+        pos = 0;
+    }
+
+    /**
+     * Read more bytes from blocking source
+     *
+     * @return false if no more bytes is available for now
+     */
+    private boolean fill() throws IOException {
+        if (endOfInput || (inputStream == null && channel == null && reader == null)) {
+            return false;
+        }
+        ensureCapacity(Math.max(DEFAULT_BUFFER_SIZE / 2, (limit - pos) / 2));
+        if (inputStream != null) {
+            int n = inputStream.read(buf, limit, buf.length - limit);
+            if (n < 0) {
+                endOfInput = true;
+                inputStream.close();
+                return false;
+            }
+            limit += n;
+            return true;
+        }
+        if (channel != null) {
+            // a channel in non-blocking mode may read nothing
+            int n = channel.read(ByteBuffer.wrap(buf, limit, buf.length - limit));
+            if (n < 0) {
+                endOfInput = true;
+                channel.close();
+                return false;
+            }
+            limit += n;
+            return n > 0;
+        }
+        return fillFromReader();
+    }
+
+    private boolean fillFromReader() throws IOException {
+        ByteBuffer out = ByteBuffer.wrap(buf, limit, buf.length - limit);
+        while (out.position() == limit) {
+            if (!charBuffer.hasRemaining() || charBuffer.remaining() == 1 && Character.isHighSurrogate(charBuffer.get(charBuffer.position()))) {
+                charBuffer.compact();
+                int n = reader.read(charBuffer);
+                charBuffer.flip();
+                if (n < 0) {
+                    encoder.encode(charBuffer, out, true);
+                    encoder.flush(out);
+                    endOfInput = true;
+                    reader.close();
+                    break;
+                }
+            }
+            CoderResult result = encoder.encode(charBuffer, out, false);
+            if (result.isError()) {
+                result.throwException();
+            }
+        }
+        boolean filled = out.position() > limit;
+        limit = out.position();
+        return filled;
+    }
+
+    /**
+     * Tokenize available input until end of json, a pause or stop request, or the input is exhausted
+     */
+    Status drive() throws IOException {
+        while (!context.shouldBreak()) {
+            while (pos < limit && isWhitespace(buf[pos])) {
+                pos++;
+            }
+            if (!bomChecked) {
+                if (!skipBom()) {
+                    return Status.NEED_INPUT;
+                }
+                continue;
+            }
+            if (pos == limit) {
+                if (fill()) {
+                    continue;
+                }
+                if (!endOfInput) {
+                    return Status.NEED_INPUT;
+                }
+                if (state != S_END) {
+                    throw error("Unexpected end of input");
+                }
+                context.endJSON();
+                return Status.END;
+            }
+            byte b = buf[pos];
+            switch (state) {
+                case S_FIRST_VALUE:
+                    if (b == ']') {
+                        pos++;
+                        depth--;
+                        afterValue();
+                        context.endArray();
+                        break;
+                    }
+                    // fall through
+                case S_VALUE:
+                    if (!readValue(b)) {
+                        return Status.NEED_INPUT;
+                    }
+                    break;
+                case S_FIRST_KEY:
+                    if (b == '}') {
+                        pos++;
+                        depth--;
+                        afterValue();
+                        context.endObject();
+                        break;
+                    }
+                    // fall through
+                case S_KEY:
+                    if (b != '"') {
+                        throw unexpected(b);
+                    }
+                    if (!scanString()) {
+                        return Status.NEED_INPUT;
+                    }
+                    state = S_COLON;
+                    context.startObjectEntry(decodeKey());
+                    break;
+                case S_COLON:
+                    if (b != ':') {
+                        throw unexpected(b);
+                    }
+                    pos++;
+                    state = S_VALUE;
+                    break;
+                case S_OBJECT_NEXT:
+                    pos++;
+                    if (b == ',') {
+                        state = S_KEY;
+                    } else if (b == '}') {
+                        depth--;
+                        afterValue();
+                        context.endObject();
+                    } else {
+                        pos--;
+                        throw unexpected(b);
+                    }
+                    break;
+                case S_ARRAY_NEXT:
+                    pos++;
+                    if (b == ',') {
+                        state = S_VALUE;
+                    } else if (b == ']') {
+                        depth--;
+                        afterValue();
+                        context.endArray();
+                    } else {
+                        pos--;
+                        throw unexpected(b);
+                    }
+                    break;
+                case S_END:
+                    if (context.getConfig().isMultipleRootsAllowed()) {
+                        state = S_VALUE;
+                        break;
+                    }
+                    // fall through
+                default:
+                    throw unexpected(b);
+            }
+        }
+        return Status.BREAK;
+    }
+
+    /**
+     * @return false if more input is required
+     */
+    private boolean skipBom() throws IOException {
+        while (limit - pos < 3 && startsLikeBom()) {
+            if (!fill()) {
+                if (!endOfInput) {
+                    return false;
+                }
+                break;
+            }
+        }
+        bomChecked = true;
+        if (limit - pos >= 3 && (buf[pos] & 0xff) == 0xEF && (buf[pos + 1] & 0xff) == 0xBB && (buf[pos + 2] & 0xff) == 0xBF) {
+            pos += 3;
+        }
+        return true;
+    }
+
+    private boolean startsLikeBom() {
+        int[] bom = {0xEF, 0xBB, 0xBF};
+        for (int i = pos; i < limit; i++) {
+            if ((buf[i] & 0xff) != bom[i - pos]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return false if more input is required
+     */
+    private boolean readValue(byte b) throws IOException {
+        valueStart = getOffset();
+        switch (b) {
+            case '{':
+                pos++;
+                push(IN_OBJECT);
+                state = S_FIRST_KEY;
+                context.startObject();
+                return true;
+            case '[':
+                pos++;
+                push(IN_ARRAY);
+                state = S_FIRST_VALUE;
+                context.startArray();
+                return true;
+            case '"':
+                if (!scanString()) {
+                    return false;
+                }
+                afterValue();
+                stringHolder.init();
+                context.primitive(stringHolder);
+                stringHolder.skipValue();
+                return true;
+            case 't':
+                return readLiteral("true", jsonProvider.primitive(true));
+            case 'f':
+                return readLiteral("false", jsonProvider.primitive(false));
+            case 'n':
+                return readLiteral("null", jsonProvider.primitiveNull());
+            default:
+                if (b == '-' || (b >= '0' && b <= '9')) {
+                    if (!scanNumber()) {
+                        return false;
+                    }
+                    afterValue();
+                    numberHolder.init();
+                    context.primitive(numberHolder);
+                    numberHolder.skipValue();
+                    return true;
+                }
+                throw unexpected(b);
+        }
+    }
+
+    private boolean readLiteral(String literal, Object value) throws IOException {
+        int length = literal.length();
+        while (limit - pos < length) {
+            if (!fill()) {
+                if (endOfInput) {
+                    throw error("Unexpected end of input");
+                }
+                return false;
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            if (buf[pos + i] != literal.charAt(i)) {
+                throw unexpected(buf[pos + i]);
+            }
+        }
+        pos += length;
+        afterValue();
+        context.primitive(staticHolder.withValue(value));
+        return true;
+    }
+
+    private void push(byte container) {
+        if (depth == containers.length) {
+            byte[] newContainers = new byte[depth * 2];
+            System.arraycopy(containers, 0, newContainers, 0, depth);
+            containers = newContainers;
+        }
+        containers[depth++] = container;
+    }
+
+    private void afterValue() {
+        if (depth == 0) {
+            state = S_END;
+        } else if (containers[depth - 1] == IN_OBJECT) {
+            state = S_OBJECT_NEXT;
+        } else {
+            state = S_ARRAY_NEXT;
+        }
+    }
+
+    /**
+     * Scan the string token starting at pos. On success, pos is moved after the closing quote.
+     *
+     * @return false if more input is required
+     */
+    private boolean scanString() throws IOException {
+        while (true) {
+            int i = pos + 1 + scanned;
+            boolean escaped = tokenEscaped && scanned > 0;
+            byte[] buf = this.buf;
+            int limit = this.limit;
+            while (i < limit) {
+                if (i + 8 <= limit) {
+                    // skip 8 plain bytes at once
+                    long special = specialBytes(words.getLong(i));
+                    if (special == 0) {
+                        i += 8;
+                        continue;
+                    }
+                    i += Long.numberOfTrailingZeros(special) >>> 3;
+                }
+                byte c = buf[i];
+                if (c == '"') {
+                    tokenStart = pos + 1;
+                    tokenEnd = i;
+                    tokenEscaped = escaped;
+                    scanned = 0;
+                    pos = i + 1;
+                    return true;
+                } else if (c == '\\') {
+                    if (i + 1 >= limit) {
+                        break;
+                    }
+                    escaped = true;
+                    i += 2;
+                } else if (c >= 0 && c < 0x20) {
+                    throw error("Illegal control character in string");
+                } else {
+                    i++;
+                }
+            }
+            // remember scanned bytes, excluding a dangling backslash
+            scanned = i - pos - 1;
+            tokenEscaped = escaped;
+            if (!fill()) {
+                if (endOfInput) {
+                    throw error("Unexpected end of input in string");
+                }
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Scan the number token starting at pos. On success, pos is moved after the number.
+     *
+     * @return false if more input is required
+     */
+    private boolean scanNumber() throws IOException {
+        while (true) {
+            int i = pos;
+            if (buf[i] == '-') {
+                i++;
+            }
+            int intStart = i;
+            while (i < limit && buf[i] >= '0' && buf[i] <= '9') {
+                i++;
+            }
+            boolean integral = true;
+            if (i < limit && buf[i] == '.') {
+                integral = false;
+                i++;
+                int fractionStart = i;
+                while (i < limit && buf[i] >= '0' && buf[i] <= '9') {
+                    i++;
+                }
+                if (i == fractionStart && i < limit) {
+                    throw unexpectedAt(i);
+                }
+            }
+            if (i < limit && (buf[i] == 'e' || buf[i] == 'E')) {
+                integral = false;
+                i++;
+                if (i < limit && (buf[i] == '+' || buf[i] == '-')) {
+                    i++;
+                }
+                int exponentStart = i;
+                while (i < limit && buf[i] >= '0' && buf[i] <= '9') {
+                    i++;
+                }
+                if (i == exponentStart && i < limit) {
+                    throw unexpectedAt(i);
+                }
+            }
+            if (i == limit && !endOfInput) {
+                // the number may continue in the next chunk
+                if (!fill() && !endOfInput) {
+                    return false;
+                }
+                continue;
+            }
+            if (i == intStart || !isNumberEnd(buf[i - 1])) {
+                throw i < limit ? unexpectedAt(i) : error("Unexpected end of input in number");
+            }
+            if (buf[intStart] == '0' && i > intStart + 1 && buf[intStart + 1] >= '0' && buf[intStart + 1] <= '9') {
+                throw error("Leading zero in number");
+            }
+            tokenStart = pos;
+            tokenEnd = i;
+            tokenIntegral = integral;
+            pos = i;
+            return true;
+        }
+    }
+
+    /**
+     * SWAR test of 8 bytes for '"', '\\' and control characters. Bits above the lowest flagged byte may be false positives.
+     *
+     * @param word 8 bytes in little-endian order
+     * @return high bit set for each flagged byte
+     */
+    static long specialBytes(long word) {
+        long quotes = word ^ QUOTES;
+        long backslashes = word ^ BACKSLASHES;
+        return ((quotes - ONES) & ~quotes | (backslashes - ONES) & ~backslashes | (word - SPACES) & ~word) & HIGHS;
+    }
+
+    private static boolean isNumberEnd(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private Object decodeNumber(int start, int end, boolean integral) throws IOException {
+        int length = end - start;
+        if (integral && length <= 18) {
+            int i = start;
+            boolean negative = buf[i] == '-';
+            if (negative) {
+                i++;
+            }
+            long value = 0;
+            for (; i < end; i++) {
+                value = value * 10 + (buf[i] - '0');
+            }
+            return jsonProvider.primitive(negative ? -value : value);
+        }
+        String text = new String(buf, start, length, StandardCharsets.ISO_8859_1);
+        if (integral) {
+            try {
+                return jsonProvider.primitive(Long.parseLong(text));
+            } catch (NumberFormatException e) {
+                // JsonProvider has no primitive beyond long, and a double would round the integer silently
+                throw error("Integer out of range of long: " + text);
+            }
+        }
+        return jsonProvider.primitive(Double.parseDouble(text));
+    }
+
+    private String decodeKey() throws IOException {
+        // an escaped key may spell a referenced one, so it is always decoded
+        if (!tokenEscaped) {
+            String key = keyTable.lookup(buf, tokenStart, tokenEnd);
+            if (key != null) {
+                return key;
+            }
+            if (context.canSkipKey()) {
+                return SurfingContext.UNREFERENCED_KEY;
+            }
+        }
+        return decodeString(tokenStart, tokenEnd, tokenEscaped);
+    }
+
+    private String decodeString(int start, int end, boolean escaped) throws IOException {
+        String decoded = escaped ? unescape(start, end) : new String(buf, start, end - start, StandardCharsets.UTF_8);
+        if (decoded.indexOf('\uFFFD') >= 0) {
+            // either a replacement character in input or malformed bytes replaced by the decoder
+            try {
+                StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(buf, start, end - start));
+            } catch (CharacterCodingException e) {
+                throw error("Malformed UTF-8 string");
+            }
+        }
+        return decoded;
+    }
+
+    private String unescape(int start, int end) throws IOException {
+        StringBuilder sb = new StringBuilder(end - start);
+        int runStart = start;
+        int i = start;
+        while (i < end) {
+            if (buf[i] != '\\') {
+                i++;
+                continue;
+            }
+            if (i > runStart) {
+                sb.append(new String(buf, runStart, i - runStart, StandardCharsets.UTF_8));
+            }
+            byte c = buf[i + 1];
+            i += 2;
+            switch (c) {
+                case '"':
+                case '\\':
+                case '/':
+                    sb.append((char) c);
+                    break;
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    if (i + 4 > end) {
+                        throw error("Illegal unicode escape");
+                    }
+                    int code = 0;
+                    for (int j = 0; j < 4; j++) {
+                        int digit = Character.digit(buf[i + j], 16);
+                        if (digit < 0) {
+                            throw error("Illegal unicode escape");
+                        }
+                        code = (code << 4) | digit;
+                    }
+                    sb.append((char) code);
+                    i += 4;
+                    break;
+                default:
+                    throw error("Illegal escape character '" + (char) c + "'");
+            }
+            runStart = i;
+        }
+        if (end > runStart) {
+            sb.append(new String(buf, runStart, end - runStart, StandardCharsets.UTF_8));
+        }
+        return sb.toString();
+    }
+
+    private IOException unexpected(byte b) {
+        return error("Unexpected character '" + (char) (b & 0xff) + "'");
+    }
+
+    private IOException unexpectedAt(int index) {
+        pos = index;
+        return unexpected(buf[index]);
+    }
+
+    private IOException error(String message) {
+        return new IOException(message + " at offset " + getOffset());
+    }
+
+}
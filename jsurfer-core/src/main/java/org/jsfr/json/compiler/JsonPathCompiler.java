@@ -27,13 +27,16 @@ package org.jsfr.json.compiler;
 import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import org.jsfr.json.filter.*;
 import org.jsfr.json.path.JsonPath;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.InputMismatchException;
+import java.util.List;
 import java.util.regex.Pattern;
 
 /**
@@ -177,6 +180,36 @@ public class JsonPathCompiler extends JsonPathBaseVisitor<Void> {
         return rst;
     }
 
+    @Override
+    public Void visitProjection(JsonPathParser.ProjectionContext ctx) {
+        int i = 0;
+        String[] fieldPaths = new String[ctx.projectionField().size()];
+        for (JsonPathParser.ProjectionFieldContext field : ctx.projectionField()) {
+            fieldPaths[i++] = field.getText();
+        }
+        pathBuilder.projection(fieldPaths);
+        return super.visitProjection(ctx);
+    }
+
+    @Override
+    public Void visitLimit(JsonPathParser.LimitContext ctx) {
+        String limit = ctx.NUM().getText();
+        int count = 0;
+        // NUM also matches signs, fractions and exponents
+        if (limit.matches("[0-9]+")) {
+            try {
+                count = Integer.parseInt(limit);
+            } catch (NumberFormatException e) {
+                // out of int range
+            }
+        }
+        if (count <= 0) {
+            throw new ParseCancellationException("Limit must be a positive integer: " + limit);
+        }
+        pathBuilder.limit(count);
+        return super.visitLimit(ctx);
+    }
+
     private JsonPath.Builder createFilterPathBuilder() {
         return JsonPath.Builder.startFilterPath();
     }
@@ -236,6 +269,23 @@ public class JsonPathCompiler extends JsonPathBaseVisitor<Void> {
         return rst;
     }
 
+    @Override
+    public Void visitFilterInSet(JsonPathParser.FilterInSetContext ctx) {
+        filterPathBuilder = createFilterPathBuilder();
+        Void rst = super.visitFilterInSet(ctx);
+        List<Object> values = new ArrayList<>();
+        for (JsonPathParser.SetValueContext value : ctx.setValue()) {
+            if (value.QUOTED_STRING() != null) {
+                values.add(removeQuote(value.QUOTED_STRING().getText()));
+            } else {
+                values.add(new BigDecimal(value.NUM().getText()));
+            }
+        }
+        filterBuilder.in(filterPathBuilder.build(), values);
+        filterPathBuilder = null;
+        return rst;
+    }
+
     @Override
     public Void visitFilterMatchRegex(JsonPathParser.FilterMatchRegexContext ctx) {
         filterPathBuilder = createFilterPathBuilder();
@@ -21,8 +21,9 @@ public class JsonPathLexer extends Lexer {
 	public static final int
 		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
 		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, T__14=15, T__15=16, T__16=17, 
-		T__17=18, COLON=19, NegationOperator=20, AndOperator=21, OrOperator=22, 
-		NUM=23, QUOTED_STRING=24, REGEX=25, BOOL=26, KEY=27, WS=28;
+		T__17=18, T__18=19, T__19=20, T__20=21, T__21=22, COLON=23, NegationOperator=24, 
+		AndOperator=25, OrOperator=26, NUM=27, QUOTED_STRING=28, REGEX=29, BOOL=30, 
+		KEY=31, WS=32;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
@@ -35,9 +36,9 @@ public class JsonPathLexer extends Lexer {
 		return new String[] {
 			"T__0", "T__1", "T__2", "T__3", "T__4", "T__5", "T__6", "T__7", "T__8", 
 			"T__9", "T__10", "T__11", "T__12", "T__13", "T__14", "T__15", "T__16", 
-			"T__17", "COLON", "NegationOperator", "AndOperator", "OrOperator", "NUM", 
-			"QUOTED_STRING", "REGEX", "BOOL", "KEY", "INT", "EXP", "ESC", "UNICODE", 
-			"HEX", "WS"
+			"T__17", "T__18", "T__19", "T__20", "T__21", "COLON", "NegationOperator", 
+			"AndOperator", "OrOperator", "NUM", "QUOTED_STRING", "REGEX", "BOOL", 
+			"KEY", "INT", "EXP", "ESC", "UNICODE", "HEX", "WS"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -45,17 +46,17 @@ public class JsonPathLexer extends Lexer {
 	private static String[] makeLiteralNames() {
 		return new String[] {
 			null, "'$'", "'..'", "'.*'", "'[*]'", "'*'", "'['", "']'", "'.'", "','", 
-			"'[?('", "')]'", "'('", "')'", "'@'", "'>'", "'<'", "'=='", "'=~'", "':'", 
-			"'!'", "'&&'", "'||'"
+			"'[?('", "')]'", "'{'", "'}'", "'.limit('", "')'", "'('", "'@'", "'>'", 
+			"'<'", "'=='", "'=~'", "'in'", "':'", "'!'", "'&&'", "'||'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
 	private static String[] makeSymbolicNames() {
 		return new String[] {
 			null, null, null, null, null, null, null, null, null, null, null, null, 
-			null, null, null, null, null, null, null, "COLON", "NegationOperator", 
-			"AndOperator", "OrOperator", "NUM", "QUOTED_STRING", "REGEX", "BOOL", 
-			"KEY", "WS"
+			null, null, null, null, null, null, null, null, null, null, null, "COLON", 
+			"NegationOperator", "AndOperator", "OrOperator", "NUM", "QUOTED_STRING", 
+			"REGEX", "BOOL", "KEY", "WS"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -117,89 +118,96 @@ public class JsonPathLexer extends Lexer {
 	public ATN getATN() { return _ATN; }
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2\36\u00f0\b\1\4\2"+
-		"\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4"+
-		"\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22"+
-		"\t\22\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31"+
-		"\t\31\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t"+
-		" \4!\t!\4\"\t\"\3\2\3\2\3\3\3\3\3\3\3\4\3\4\3\4\3\5\3\5\3\5\3\5\3\6\3"+
-		"\6\3\7\3\7\3\b\3\b\3\t\3\t\3\n\3\n\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\r"+
-		"\3\r\3\16\3\16\3\17\3\17\3\20\3\20\3\21\3\21\3\22\3\22\3\22\3\23\3\23"+
-		"\3\23\3\24\3\24\3\25\3\25\3\26\3\26\3\26\3\27\3\27\3\27\3\30\5\30~\n\30"+
-		"\3\30\3\30\3\30\6\30\u0083\n\30\r\30\16\30\u0084\3\30\5\30\u0088\n\30"+
-		"\3\30\5\30\u008b\n\30\3\30\3\30\3\30\3\30\5\30\u0091\n\30\3\30\5\30\u0094"+
-		"\n\30\3\31\3\31\3\31\3\31\7\31\u009a\n\31\f\31\16\31\u009d\13\31\3\31"+
-		"\3\31\3\31\3\31\3\31\7\31\u00a4\n\31\f\31\16\31\u00a7\13\31\3\31\5\31"+
-		"\u00aa\n\31\3\32\3\32\3\32\3\32\7\32\u00b0\n\32\f\32\16\32\u00b3\13\32"+
-		"\3\32\3\32\7\32\u00b7\n\32\f\32\16\32\u00ba\13\32\3\33\3\33\3\33\3\33"+
-		"\3\33\3\33\3\33\3\33\3\33\5\33\u00c5\n\33\3\34\3\34\6\34\u00c9\n\34\r"+
-		"\34\16\34\u00ca\3\35\3\35\3\35\7\35\u00d0\n\35\f\35\16\35\u00d3\13\35"+
-		"\5\35\u00d5\n\35\3\36\3\36\5\36\u00d9\n\36\3\36\3\36\3\37\3\37\3\37\5"+
-		"\37\u00e0\n\37\3 \3 \3 \3 \3 \3 \3!\3!\3\"\6\"\u00eb\n\"\r\"\16\"\u00ec"+
-		"\3\"\3\"\2\2#\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16"+
-		"\33\17\35\20\37\21!\22#\23%\24\'\25)\26+\27-\30/\31\61\32\63\33\65\34"+
-		"\67\359\2;\2=\2?\2A\2C\36\3\2\16\3\2\62;\4\2))^^\4\2$$^^\4\2\61\61^^\t"+
-		"\2WWffkkoouuwwzz\f\2\13\f\17\17\"$(,..\60\60<<>B]_~~\3\2\63;\4\2GGgg\4"+
-		"\2--//\n\2$$\61\61^^ddhhppttvv\5\2\62;CHch\5\2\13\f\17\17\"\"\2\u0101"+
-		"\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2"+
-		"\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2"+
-		"\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2"+
-		"\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2"+
-		"\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\2C\3\2\2\2\3E\3"+
-		"\2\2\2\5G\3\2\2\2\7J\3\2\2\2\tM\3\2\2\2\13Q\3\2\2\2\rS\3\2\2\2\17U\3\2"+
-		"\2\2\21W\3\2\2\2\23Y\3\2\2\2\25[\3\2\2\2\27_\3\2\2\2\31b\3\2\2\2\33d\3"+
-		"\2\2\2\35f\3\2\2\2\37h\3\2\2\2!j\3\2\2\2#l\3\2\2\2%o\3\2\2\2\'r\3\2\2"+
-		"\2)t\3\2\2\2+v\3\2\2\2-y\3\2\2\2/\u0093\3\2\2\2\61\u00a9\3\2\2\2\63\u00ab"+
-		"\3\2\2\2\65\u00c4\3\2\2\2\67\u00c8\3\2\2\29\u00d4\3\2\2\2;\u00d6\3\2\2"+
-		"\2=\u00dc\3\2\2\2?\u00e1\3\2\2\2A\u00e7\3\2\2\2C\u00ea\3\2\2\2EF\7&\2"+
-		"\2F\4\3\2\2\2GH\7\60\2\2HI\7\60\2\2I\6\3\2\2\2JK\7\60\2\2KL\7,\2\2L\b"+
-		"\3\2\2\2MN\7]\2\2NO\7,\2\2OP\7_\2\2P\n\3\2\2\2QR\7,\2\2R\f\3\2\2\2ST\7"+
-		"]\2\2T\16\3\2\2\2UV\7_\2\2V\20\3\2\2\2WX\7\60\2\2X\22\3\2\2\2YZ\7.\2\2"+
-		"Z\24\3\2\2\2[\\\7]\2\2\\]\7A\2\2]^\7*\2\2^\26\3\2\2\2_`\7+\2\2`a\7_\2"+
-		"\2a\30\3\2\2\2bc\7*\2\2c\32\3\2\2\2de\7+\2\2e\34\3\2\2\2fg\7B\2\2g\36"+
-		"\3\2\2\2hi\7@\2\2i \3\2\2\2jk\7>\2\2k\"\3\2\2\2lm\7?\2\2mn\7?\2\2n$\3"+
-		"\2\2\2op\7?\2\2pq\7\u0080\2\2q&\3\2\2\2rs\7<\2\2s(\3\2\2\2tu\7#\2\2u*"+
-		"\3\2\2\2vw\7(\2\2wx\7(\2\2x,\3\2\2\2yz\7~\2\2z{\7~\2\2{.\3\2\2\2|~\7/"+
-		"\2\2}|\3\2\2\2}~\3\2\2\2~\177\3\2\2\2\177\u0080\59\35\2\u0080\u0082\7"+
-		"\60\2\2\u0081\u0083\t\2\2\2\u0082\u0081\3\2\2\2\u0083\u0084\3\2\2\2\u0084"+
-		"\u0082\3\2\2\2\u0084\u0085\3\2\2\2\u0085\u0087\3\2\2\2\u0086\u0088\5;"+
-		"\36\2\u0087\u0086\3\2\2\2\u0087\u0088\3\2\2\2\u0088\u0094\3\2\2\2\u0089"+
-		"\u008b\7/\2\2\u008a\u0089\3\2\2\2\u008a\u008b\3\2\2\2\u008b\u008c\3\2"+
-		"\2\2\u008c\u008d\59\35\2\u008d\u008e\5;\36\2\u008e\u0094\3\2\2\2\u008f"+
-		"\u0091\7/\2\2\u0090\u008f\3\2\2\2\u0090\u0091\3\2\2\2\u0091\u0092\3\2"+
-		"\2\2\u0092\u0094\59\35\2\u0093}\3\2\2\2\u0093\u008a\3\2\2\2\u0093\u0090"+
-		"\3\2\2\2\u0094\60\3\2\2\2\u0095\u009b\7)\2\2\u0096\u009a\n\3\2\2\u0097"+
-		"\u0098\7^\2\2\u0098\u009a\13\2\2\2\u0099\u0096\3\2\2\2\u0099\u0097\3\2"+
-		"\2\2\u009a\u009d\3\2\2\2\u009b\u0099\3\2\2\2\u009b\u009c\3\2\2\2\u009c"+
-		"\u009e\3\2\2\2\u009d\u009b\3\2\2\2\u009e\u00aa\7)\2\2\u009f\u00a5\7$\2"+
-		"\2\u00a0\u00a4\n\4\2\2\u00a1\u00a2\7^\2\2\u00a2\u00a4\13\2\2\2\u00a3\u00a0"+
-		"\3\2\2\2\u00a3\u00a1\3\2\2\2\u00a4\u00a7\3\2\2\2\u00a5\u00a3\3\2\2\2\u00a5"+
-		"\u00a6\3\2\2\2\u00a6\u00a8\3\2\2\2\u00a7\u00a5\3\2\2\2\u00a8\u00aa\7$"+
-		"\2\2\u00a9\u0095\3\2\2\2\u00a9\u009f\3\2\2\2\u00aa\62\3\2\2\2\u00ab\u00b1"+
-		"\7\61\2\2\u00ac\u00b0\n\5\2\2\u00ad\u00ae\7^\2\2\u00ae\u00b0\13\2\2\2"+
-		"\u00af\u00ac\3\2\2\2\u00af\u00ad\3\2\2\2\u00b0\u00b3\3\2\2\2\u00b1\u00af"+
-		"\3\2\2\2\u00b1\u00b2\3\2\2\2\u00b2\u00b4\3\2\2\2\u00b3\u00b1\3\2\2\2\u00b4"+
-		"\u00b8\7\61\2\2\u00b5\u00b7\t\6\2\2\u00b6\u00b5\3\2\2\2\u00b7\u00ba\3"+
-		"\2\2\2\u00b8\u00b6\3\2\2\2\u00b8\u00b9\3\2\2\2\u00b9\64\3\2\2\2\u00ba"+
-		"\u00b8\3\2\2\2\u00bb\u00bc\7v\2\2\u00bc\u00bd\7t\2\2\u00bd\u00be\7w\2"+
-		"\2\u00be\u00c5\7g\2\2\u00bf\u00c0\7h\2\2\u00c0\u00c1\7c\2\2\u00c1\u00c2"+
-		"\7n\2\2\u00c2\u00c3\7u\2\2\u00c3\u00c5\7g\2\2\u00c4\u00bb\3\2\2\2\u00c4"+
-		"\u00bf\3\2\2\2\u00c5\66\3\2\2\2\u00c6\u00c9\5=\37\2\u00c7\u00c9\n\7\2"+
-		"\2\u00c8\u00c6\3\2\2\2\u00c8\u00c7\3\2\2\2\u00c9\u00ca\3\2\2\2\u00ca\u00c8"+
-		"\3\2\2\2\u00ca\u00cb\3\2\2\2\u00cb8\3\2\2\2\u00cc\u00d5\7\62\2\2\u00cd"+
-		"\u00d1\t\b\2\2\u00ce\u00d0\t\2\2\2\u00cf\u00ce\3\2\2\2\u00d0\u00d3\3\2"+
-		"\2\2\u00d1\u00cf\3\2\2\2\u00d1\u00d2\3\2\2\2\u00d2\u00d5\3\2\2\2\u00d3"+
-		"\u00d1\3\2\2\2\u00d4\u00cc\3\2\2\2\u00d4\u00cd\3\2\2\2\u00d5:\3\2\2\2"+
-		"\u00d6\u00d8\t\t\2\2\u00d7\u00d9\t\n\2\2\u00d8\u00d7\3\2\2\2\u00d8\u00d9"+
-		"\3\2\2\2\u00d9\u00da\3\2\2\2\u00da\u00db\59\35\2\u00db<\3\2\2\2\u00dc"+
-		"\u00df\7^\2\2\u00dd\u00e0\t\13\2\2\u00de\u00e0\5? \2\u00df\u00dd\3\2\2"+
-		"\2\u00df\u00de\3\2\2\2\u00e0>\3\2\2\2\u00e1\u00e2\7w\2\2\u00e2\u00e3\5"+
-		"A!\2\u00e3\u00e4\5A!\2\u00e4\u00e5\5A!\2\u00e5\u00e6\5A!\2\u00e6@\3\2"+
-		"\2\2\u00e7\u00e8\t\f\2\2\u00e8B\3\2\2\2\u00e9\u00eb\t\r\2\2\u00ea\u00e9"+
-		"\3\2\2\2\u00eb\u00ec\3\2\2\2\u00ec\u00ea\3\2\2\2\u00ec\u00ed\3\2\2\2\u00ed"+
-		"\u00ee\3\2\2\2\u00ee\u00ef\b\"\2\2\u00efD\3\2\2\2\31\2}\u0084\u0087\u008a"+
-		"\u0090\u0093\u0099\u009b\u00a3\u00a5\u00a9\u00af\u00b1\u00b8\u00c4\u00c8"+
-		"\u00ca\u00d1\u00d4\u00d8\u00df\u00ec\3\b\2\2";
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2\"\u0107\b\1\4\2\t"+
+		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\3\2\3\2\3\3\3\3\3\3\3\4\3\4\3\4\3"+
+		"\5\3\5\3\5\3\5\3\6\3\6\3\7\3\7\3\b\3\b\3\t\3\t\3\n\3\n\3\13\3\13\3\13"+
+		"\3\13\3\f\3\f\3\f\3\r\3\r\3\16\3\16\3\17\3\17\3\17\3\17\3\17\3\17\3\17"+
+		"\3\17\3\20\3\20\3\21\3\21\3\22\3\22\3\23\3\23\3\24\3\24\3\25\3\25\3\25"+
+		"\3\26\3\26\3\26\3\27\3\27\3\27\3\30\3\30\3\31\3\31\3\32\3\32\3\32\3\33"+
+		"\3\33\3\33\3\34\5\34\u0095\n\34\3\34\3\34\3\34\6\34\u009a\n\34\r\34\16"+
+		"\34\u009b\3\34\5\34\u009f\n\34\3\34\5\34\u00a2\n\34\3\34\3\34\3\34\3\34"+
+		"\5\34\u00a8\n\34\3\34\5\34\u00ab\n\34\3\35\3\35\3\35\3\35\7\35\u00b1\n"+
+		"\35\f\35\16\35\u00b4\13\35\3\35\3\35\3\35\3\35\3\35\7\35\u00bb\n\35\f"+
+		"\35\16\35\u00be\13\35\3\35\5\35\u00c1\n\35\3\36\3\36\3\36\3\36\7\36\u00c7"+
+		"\n\36\f\36\16\36\u00ca\13\36\3\36\3\36\7\36\u00ce\n\36\f\36\16\36\u00d1"+
+		"\13\36\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\5\37\u00dc\n\37\3"+
+		" \3 \6 \u00e0\n \r \16 \u00e1\3!\3!\3!\7!\u00e7\n!\f!\16!\u00ea\13!\5"+
+		"!\u00ec\n!\3\"\3\"\5\"\u00f0\n\"\3\"\3\"\3#\3#\3#\5#\u00f7\n#\3$\3$\3"+
+		"$\3$\3$\3$\3%\3%\3&\6&\u0102\n&\r&\16&\u0103\3&\3&\2\2\'\3\3\5\4\7\5\t"+
+		"\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16\33\17\35\20\37\21!\22#\23"+
+		"%\24\'\25)\26+\27-\30/\31\61\32\63\33\65\34\67\359\36;\37= ?!A\2C\2E\2"+
+		"G\2I\2K\"\3\2\16\3\2\62;\4\2))^^\4\2$$^^\4\2\61\61^^\t\2WWffkkoouuwwz"+
+		"z\f\2\13\f\17\17\"$(,..\60\60<<>B]_}\177\3\2\63;\4\2GGgg\4\2--//\n\2$"+
+		"$\61\61^^ddhhppttvv\5\2\62;CHch\5\2\13\f\17\17\"\"\2\u0118\2\3\3\2\2\2"+
+		"\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2"+
+		"\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2"+
+		"\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2"+
+		"\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2"+
+		"\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2"+
+		"\2\2\2?\3\2\2\2\2K\3\2\2\2\3M\3\2\2\2\5O\3\2\2\2\7R\3\2\2\2\tU\3\2\2\2"+
+		"\13Y\3\2\2\2\r[\3\2\2\2\17]\3\2\2\2\21_\3\2\2\2\23a\3\2\2\2\25c\3\2\2"+
+		"\2\27g\3\2\2\2\31j\3\2\2\2\33l\3\2\2\2\35n\3\2\2\2\37v\3\2\2\2!x\3\2\2"+
+		"\2#z\3\2\2\2%|\3\2\2\2\'~\3\2\2\2)\u0080\3\2\2\2+\u0083\3\2\2\2-\u0086"+
+		"\3\2\2\2/\u0089\3\2\2\2\61\u008b\3\2\2\2\63\u008d\3\2\2\2\65\u0090\3\2"+
+		"\2\2\67\u00aa\3\2\2\29\u00c0\3\2\2\2;\u00c2\3\2\2\2=\u00db\3\2\2\2?\u00df"+
+		"\3\2\2\2A\u00eb\3\2\2\2C\u00ed\3\2\2\2E\u00f3\3\2\2\2G\u00f8\3\2\2\2I"+
+		"\u00fe\3\2\2\2K\u0101\3\2\2\2MN\7&\2\2N\4\3\2\2\2OP\7\60\2\2PQ\7\60\2"+
+		"\2Q\6\3\2\2\2RS\7\60\2\2ST\7,\2\2T\b\3\2\2\2UV\7]\2\2VW\7,\2\2WX\7_\2"+
+		"\2X\n\3\2\2\2YZ\7,\2\2Z\f\3\2\2\2[\\\7]\2\2\\\16\3\2\2\2]^\7_\2\2^\20"+
+		"\3\2\2\2_`\7\60\2\2`\22\3\2\2\2ab\7.\2\2b\24\3\2\2\2cd\7]\2\2de\7A\2\2"+
+		"ef\7*\2\2f\26\3\2\2\2gh\7+\2\2hi\7_\2\2i\30\3\2\2\2jk\7}\2\2k\32\3\2\2"+
+		"\2lm\7\177\2\2m\34\3\2\2\2no\7\60\2\2op\7n\2\2pq\7k\2\2qr\7o\2\2rs\7k"+
+		"\2\2st\7v\2\2tu\7*\2\2u\36\3\2\2\2vw\7+\2\2w \3\2\2\2xy\7*\2\2y\"\3\2"+
+		"\2\2z{\7B\2\2{$\3\2\2\2|}\7@\2\2}&\3\2\2\2~\177\7>\2\2\177(\3\2\2\2\u0080"+
+		"\u0081\7?\2\2\u0081\u0082\7?\2\2\u0082*\3\2\2\2\u0083\u0084\7?\2\2\u0084"+
+		"\u0085\7\u0080\2\2\u0085,\3\2\2\2\u0086\u0087\7k\2\2\u0087\u0088\7p\2"+
+		"\2\u0088.\3\2\2\2\u0089\u008a\7<\2\2\u008a\60\3\2\2\2\u008b\u008c\7#\2"+
+		"\2\u008c\62\3\2\2\2\u008d\u008e\7(\2\2\u008e\u008f\7(\2\2\u008f\64\3\2"+
+		"\2\2\u0090\u0091\7~\2\2\u0091\u0092\7~\2\2\u0092\66\3\2\2\2\u0093\u0095"+
+		"\7/\2\2\u0094\u0093\3\2\2\2\u0094\u0095\3\2\2\2\u0095\u0096\3\2\2\2\u0096"+
+		"\u0097\5A!\2\u0097\u0099\7\60\2\2\u0098\u009a\t\2\2\2\u0099\u0098\3\2"+
+		"\2\2\u009a\u009b\3\2\2\2\u009b\u0099\3\2\2\2\u009b\u009c\3\2\2\2\u009c"+
+		"\u009e\3\2\2\2\u009d\u009f\5C\"\2\u009e\u009d\3\2\2\2\u009e\u009f\3\2"+
+		"\2\2\u009f\u00ab\3\2\2\2\u00a0\u00a2\7/\2\2\u00a1\u00a0\3\2\2\2\u00a1"+
+		"\u00a2\3\2\2\2\u00a2\u00a3\3\2\2\2\u00a3\u00a4\5A!\2\u00a4\u00a5\5C\""+
+		"\2\u00a5\u00ab\3\2\2\2\u00a6\u00a8\7/\2\2\u00a7\u00a6\3\2\2\2\u00a7\u00a8"+
+		"\3\2\2\2\u00a8\u00a9\3\2\2\2\u00a9\u00ab\5A!\2\u00aa\u0094\3\2\2\2\u00aa"+
+		"\u00a1\3\2\2\2\u00aa\u00a7\3\2\2\2\u00ab8\3\2\2\2\u00ac\u00b2\7)\2\2\u00ad"+
+		"\u00b1\n\3\2\2\u00ae\u00af\7^\2\2\u00af\u00b1\13\2\2\2\u00b0\u00ad\3\2"+
+		"\2\2\u00b0\u00ae\3\2\2\2\u00b1\u00b4\3\2\2\2\u00b2\u00b0\3\2\2\2\u00b2"+
+		"\u00b3\3\2\2\2\u00b3\u00b5\3\2\2\2\u00b4\u00b2\3\2\2\2\u00b5\u00c1\7)"+
+		"\2\2\u00b6\u00bc\7$\2\2\u00b7\u00bb\n\4\2\2\u00b8\u00b9\7^\2\2\u00b9\u00bb"+
+		"\13\2\2\2\u00ba\u00b7\3\2\2\2\u00ba\u00b8\3\2\2\2\u00bb\u00be\3\2\2\2"+
+		"\u00bc\u00ba\3\2\2\2\u00bc\u00bd\3\2\2\2\u00bd\u00bf\3\2\2\2\u00be\u00bc"+
+		"\3\2\2\2\u00bf\u00c1\7$\2\2\u00c0\u00ac\3\2\2\2\u00c0\u00b6\3\2\2\2\u00c1"+
+		":\3\2\2\2\u00c2\u00c8\7\61\2\2\u00c3\u00c7\n\5\2\2\u00c4\u00c5\7^\2\2"+
+		"\u00c5\u00c7\13\2\2\2\u00c6\u00c3\3\2\2\2\u00c6\u00c4\3\2\2\2\u00c7\u00ca"+
+		"\3\2\2\2\u00c8\u00c6\3\2\2\2\u00c8\u00c9\3\2\2\2\u00c9\u00cb\3\2\2\2\u00ca"+
+		"\u00c8\3\2\2\2\u00cb\u00cf\7\61\2\2\u00cc\u00ce\t\6\2\2\u00cd\u00cc\3"+
+		"\2\2\2\u00ce\u00d1\3\2\2\2\u00cf\u00cd\3\2\2\2\u00cf\u00d0\3\2\2\2\u00d0"+
+		"<\3\2\2\2\u00d1\u00cf\3\2\2\2\u00d2\u00d3\7v\2\2\u00d3\u00d4\7t\2\2\u00d4"+
+		"\u00d5\7w\2\2\u00d5\u00dc\7g\2\2\u00d6\u00d7\7h\2\2\u00d7\u00d8\7c\2\2"+
+		"\u00d8\u00d9\7n\2\2\u00d9\u00da\7u\2\2\u00da\u00dc\7g\2\2\u00db\u00d2"+
+		"\3\2\2\2\u00db\u00d6\3\2\2\2\u00dc>\3\2\2\2\u00dd\u00e0\5E#\2\u00de\u00e0"+
+		"\n\7\2\2\u00df\u00dd\3\2\2\2\u00df\u00de\3\2\2\2\u00e0\u00e1\3\2\2\2\u00e1"+
+		"\u00df\3\2\2\2\u00e1\u00e2\3\2\2\2\u00e2@\3\2\2\2\u00e3\u00ec\7\62\2\2"+
+		"\u00e4\u00e8\t\b\2\2\u00e5\u00e7\t\2\2\2\u00e6\u00e5\3\2\2\2\u00e7\u00ea"+
+		"\3\2\2\2\u00e8\u00e6\3\2\2\2\u00e8\u00e9\3\2\2\2\u00e9\u00ec\3\2\2\2\u00ea"+
+		"\u00e8\3\2\2\2\u00eb\u00e3\3\2\2\2\u00eb\u00e4\3\2\2\2\u00ecB\3\2\2\2"+
+		"\u00ed\u00ef\t\t\2\2\u00ee\u00f0\t\n\2\2\u00ef\u00ee\3\2\2\2\u00ef\u00f0"+
+		"\3\2\2\2\u00f0\u00f1\3\2\2\2\u00f1\u00f2\5A!\2\u00f2D\3\2\2\2\u00f3\u00f6"+
+		"\7^\2\2\u00f4\u00f7\t\13\2\2\u00f5\u00f7\5G$\2\u00f6\u00f4\3\2\2\2\u00f6"+
+		"\u00f5\3\2\2\2\u00f7F\3\2\2\2\u00f8\u00f9\7w\2\2\u00f9\u00fa\5I%\2\u00fa"+
+		"\u00fb\5I%\2\u00fb\u00fc\5I%\2\u00fc\u00fd\5I%\2\u00fdH\3\2\2\2\u00fe"+
+		"\u00ff\t\f\2\2\u00ffJ\3\2\2\2\u0100\u0102\t\r\2\2\u0101\u0100\3\2\2\2"+
+		"\u0102\u0103\3\2\2\2\u0103\u0101\3\2\2\2\u0103\u0104\3\2\2\2\u0104\u0105"+
+		"\3\2\2\2\u0105\u0106\b&\2\2\u0106L\3\2\2\2\31\2\u0094\u009b\u009e\u00a1"+
+		"\u00a7\u00aa\u00b0\u00b2\u00ba\u00bc\u00c0\u00c6\u00c8\u00cf\u00db\u00df"+
+		"\u00e1\u00e8\u00eb\u00ef\u00f6\u0103\3\b\2\2";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -21,21 +21,24 @@ public class JsonPathParser extends Parser {
 	public static final int
 		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
 		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, T__14=15, T__15=16, T__16=17, 
-		T__17=18, COLON=19, NegationOperator=20, AndOperator=21, OrOperator=22, 
-		NUM=23, QUOTED_STRING=24, REGEX=25, BOOL=26, KEY=27, WS=28;
+		T__17=18, T__18=19, T__19=20, T__20=21, T__21=22, COLON=23, NegationOperator=24, 
+		AndOperator=25, OrOperator=26, NUM=27, QUOTED_STRING=28, REGEX=29, BOOL=30, 
+		KEY=31, WS=32;
 	public static final int
 		RULE_path = 0, RULE_relativePath = 1, RULE_searchChild = 2, RULE_search = 3, 
 		RULE_anyChild = 4, RULE_anyIndex = 5, RULE_any = 6, RULE_index = 7, RULE_indexes = 8, 
 		RULE_slicing = 9, RULE_childNode = 10, RULE_childrenNode = 11, RULE_filter = 12, 
-		RULE_filterExpr = 13, RULE_filterExist = 14, RULE_filterGtNum = 15, RULE_filterLtNum = 16, 
-		RULE_filterEqualNum = 17, RULE_filterEqualBool = 18, RULE_filterEqualStr = 19, 
-		RULE_filterMatchRegex = 20;
+		RULE_projection = 13, RULE_projectionField = 14, RULE_limit = 15, RULE_filterExpr = 16, 
+		RULE_filterExist = 17, RULE_filterGtNum = 18, RULE_filterLtNum = 19, RULE_filterEqualNum = 20, 
+		RULE_filterEqualBool = 21, RULE_filterEqualStr = 22, RULE_filterMatchRegex = 23, 
+		RULE_filterInSet = 24, RULE_setValue = 25;
 	private static String[] makeRuleNames() {
 		return new String[] {
 			"path", "relativePath", "searchChild", "search", "anyChild", "anyIndex", 
 			"any", "index", "indexes", "slicing", "childNode", "childrenNode", "filter", 
-			"filterExpr", "filterExist", "filterGtNum", "filterLtNum", "filterEqualNum", 
-			"filterEqualBool", "filterEqualStr", "filterMatchRegex"
+			"projection", "projectionField", "limit", "filterExpr", "filterExist", 
+			"filterGtNum", "filterLtNum", "filterEqualNum", "filterEqualBool", "filterEqualStr", 
+			"filterMatchRegex", "filterInSet", "setValue"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -43,17 +46,17 @@ public class JsonPathParser extends Parser {
 	private static String[] makeLiteralNames() {
 		return new String[] {
 			null, "'$'", "'..'", "'.*'", "'[*]'", "'*'", "'['", "']'", "'.'", "','", 
-			"'[?('", "')]'", "'('", "')'", "'@'", "'>'", "'<'", "'=='", "'=~'", "':'", 
-			"'!'", "'&&'", "'||'"
+			"'[?('", "')]'", "'{'", "'}'", "'.limit('", "')'", "'('", "'@'", "'>'", 
+			"'<'", "'=='", "'=~'", "'in'", "':'", "'!'", "'&&'", "'||'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
 	private static String[] makeSymbolicNames() {
 		return new String[] {
 			null, null, null, null, null, null, null, null, null, null, null, null, 
-			null, null, null, null, null, null, null, "COLON", "NegationOperator", 
-			"AndOperator", "OrOperator", "NUM", "QUOTED_STRING", "REGEX", "BOOL", 
-			"KEY", "WS"
+			null, null, null, null, null, null, null, null, null, null, null, "COLON", 
+			"NegationOperator", "AndOperator", "OrOperator", "NUM", "QUOTED_STRING", 
+			"REGEX", "BOOL", "KEY", "WS"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -115,6 +118,12 @@ public class JsonPathParser extends Parser {
 		public RelativePathContext relativePath(int i) {
 			return getRuleContext(RelativePathContext.class,i);
 		}
+		public ProjectionContext projection() {
+			return getRuleContext(ProjectionContext.class,0);
+		}
+		public LimitContext limit() {
+			return getRuleContext(LimitContext.class,0);
+		}
 		public PathContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -133,23 +142,43 @@ public class JsonPathParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(42);
+			setState(52);
 			match(T__0);
-			setState(46);
+			setState(56);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5) | (1L << T__7) | (1L << T__9))) != 0)) {
 				{
 				{
-				setState(43);
+				setState(53);
 				relativePath();
 				}
 				}
-				setState(48);
+				setState(58);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(49);
+			setState(60);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__11) {
+				{
+				setState(59);
+				projection();
+				}
+			}
+
+			setState(63);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__13) {
+				{
+				setState(62);
+				limit();
+				}
+			}
+
+			setState(65);
 			match(EOF);
 			}
 		}
@@ -213,83 +242,83 @@ public class JsonPathParser extends Parser {
 		RelativePathContext _localctx = new RelativePathContext(_ctx, getState());
 		enterRule(_localctx, 2, RULE_relativePath);
 		try {
-			setState(62);
+			setState(78);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,1,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(51);
+				setState(67);
 				searchChild();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(52);
+				setState(68);
 				search();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(53);
+				setState(69);
 				index();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(54);
+				setState(70);
 				indexes();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(55);
+				setState(71);
 				slicing();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(56);
+				setState(72);
 				childNode();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(57);
+				setState(73);
 				childrenNode();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(58);
+				setState(74);
 				anyChild();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(59);
+				setState(75);
 				anyIndex();
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(60);
+				setState(76);
 				any();
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(61);
+				setState(77);
 				filter();
 				}
 				break;
@@ -325,9 +354,9 @@ public class JsonPathParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(64);
+			setState(80);
 			match(T__1);
-			setState(65);
+			setState(81);
 			match(KEY);
 			}
 		}
@@ -360,7 +389,7 @@ public class JsonPathParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(67);
+			setState(83);
 			match(T__1);
 			}
 		}
@@ -393,7 +422,7 @@ public class JsonPathParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(69);
+			setState(85);
 			match(T__2);
 			}
 		}
@@ -426,7 +455,7 @@ public class JsonPathParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(71);
+			setState(87);
 			match(T__3);
 			}
 		}
@@ -459,7 +488,7 @@ public class JsonPathParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(73);
+			setState(89);
 			match(T__4);
 			}
 		}
@@ -491,18 +520,18 @@ public class JsonPathParser extends Parser {
 		IndexContext _localctx = new IndexContext(_ctx, getState());
 		enterRule(_localctx, 14, RULE_index);
 		try {
-			setState(80);
+			setState(96);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__5:
 				enterOuterAlt(_localctx, 1);
 				{
 				{
-				setState(75);
+				setState(91);
 				match(T__5);
-				setState(76);
+				setState(92);
 				match(NUM);
-				setState(77);
+				setState(93);
 				match(T__6);
 				}
 				}
@@ -511,9 +540,9 @@ public class JsonPathParser extends Parser {
 				enterOuterAlt(_localctx, 2);
 				{
 				{
-				setState(78);
+				setState(94);
 				match(T__7);
-				setState(79);
+				setState(95);
 				match(NUM);
 				}
 				}
@@ -556,27 +585,27 @@ public class JsonPathParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(82);
+			setState(98);
 			match(T__5);
-			setState(83);
+			setState(99);
 			match(NUM);
-			setState(88);
+			setState(104);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__8) {
 				{
 				{
-				setState(84);
+				setState(100);
 				match(T__8);
-				setState(85);
+				setState(101);
 				match(NUM);
 				}
 				}
-				setState(90);
+				setState(106);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(91);
+			setState(107);
 			match(T__6);
 			}
 		}
@@ -615,31 +644,31 @@ public class JsonPathParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(93);
+			setState(109);
 			match(T__5);
-			setState(95);
+			setState(111);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==NUM) {
 				{
-				setState(94);
+				setState(110);
 				match(NUM);
 				}
 			}
 
-			setState(97);
+			setState(113);
 			match(COLON);
-			setState(99);
+			setState(115);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==NUM) {
 				{
-				setState(98);
+				setState(114);
 				match(NUM);
 				}
 			}
 
-			setState(101);
+			setState(117);
 			match(T__6);
 			}
 		}
@@ -673,9 +702,9 @@ public class JsonPathParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(103);
+			setState(119);
 			match(T__7);
-			setState(104);
+			setState(120);
 			match(KEY);
 			}
 		}
@@ -713,27 +742,27 @@ public class JsonPathParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(106);
+			setState(122);
 			match(T__5);
-			setState(107);
+			setState(123);
 			match(QUOTED_STRING);
-			setState(112);
+			setState(128);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__8) {
 				{
 				{
-				setState(108);
+				setState(124);
 				match(T__8);
-				setState(109);
+				setState(125);
 				match(QUOTED_STRING);
 				}
 				}
-				setState(114);
+				setState(130);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(115);
+			setState(131);
 			match(T__6);
 			}
 		}
@@ -769,11 +798,11 @@ public class JsonPathParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(117);
+			setState(133);
 			match(T__9);
-			setState(118);
+			setState(134);
 			filterExpr(0);
-			setState(119);
+			setState(135);
 			match(T__10);
 			}
 		}
@@ -788,6 +817,158 @@ public class JsonPathParser extends Parser {
 		return _localctx;
 	}
 
+	public static class ProjectionContext extends ParserRuleContext {
+		public List<ProjectionFieldContext> projectionField() {
+			return getRuleContexts(ProjectionFieldContext.class);
+		}
+		public ProjectionFieldContext projectionField(int i) {
+			return getRuleContext(ProjectionFieldContext.class,i);
+		}
+		public ProjectionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_projection; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JsonPathVisitor ) return ((JsonPathVisitor<? extends T>)visitor).visitProjection(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ProjectionContext projection() throws RecognitionException {
+		ProjectionContext _localctx = new ProjectionContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_projection);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(137);
+			match(T__11);
+			setState(138);
+			projectionField();
+			setState(143);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__8) {
+				{
+				{
+				setState(139);
+				match(T__8);
+				setState(140);
+				projectionField();
+				}
+				}
+				setState(145);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(146);
+			match(T__12);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ProjectionFieldContext extends ParserRuleContext {
+		public List<TerminalNode> KEY() { return getTokens(JsonPathParser.KEY); }
+		public TerminalNode KEY(int i) {
+			return getToken(JsonPathParser.KEY, i);
+		}
+		public ProjectionFieldContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_projectionField; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JsonPathVisitor ) return ((JsonPathVisitor<? extends T>)visitor).visitProjectionField(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ProjectionFieldContext projectionField() throws RecognitionException {
+		ProjectionFieldContext _localctx = new ProjectionFieldContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_projectionField);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(148);
+			match(KEY);
+			setState(153);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__7) {
+				{
+				{
+				setState(149);
+				match(T__7);
+				setState(150);
+				match(KEY);
+				}
+				}
+				setState(155);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LimitContext extends ParserRuleContext {
+		public TerminalNode NUM() { return getToken(JsonPathParser.NUM, 0); }
+		public LimitContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_limit; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JsonPathVisitor ) return ((JsonPathVisitor<? extends T>)visitor).visitLimit(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LimitContext limit() throws RecognitionException {
+		LimitContext _localctx = new LimitContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_limit);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(156);
+			match(T__13);
+			setState(157);
+			match(NUM);
+			setState(158);
+			match(T__14);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	public static class FilterExprContext extends ParserRuleContext {
 		public TerminalNode NegationOperator() { return getToken(JsonPathParser.NegationOperator, 0); }
 		public List<FilterExprContext> filterExpr() {
@@ -814,6 +995,9 @@ public class JsonPathParser extends Parser {
 		public FilterLtNumContext filterLtNum() {
 			return getRuleContext(FilterLtNumContext.class,0);
 		}
+		public FilterInSetContext filterInSet() {
+			return getRuleContext(FilterInSetContext.class,0);
+		}
 		public FilterExistContext filterExist() {
 			return getRuleContext(FilterExistContext.class,0);
 		}
@@ -839,112 +1023,118 @@ public class JsonPathParser extends Parser {
 		int _parentState = getState();
 		FilterExprContext _localctx = new FilterExprContext(_ctx, _parentState);
 		FilterExprContext _prevctx = _localctx;
-		int _startState = 26;
-		enterRecursionRule(_localctx, 26, RULE_filterExpr, _p);
+		int _startState = 32;
+		enterRecursionRule(_localctx, 32, RULE_filterExpr, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(134);
+			setState(174);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,7,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,11,_ctx) ) {
 			case 1:
 				{
-				setState(122);
+				setState(161);
 				match(NegationOperator);
-				setState(123);
-				match(T__11);
-				setState(124);
+				setState(162);
+				match(T__15);
+				setState(163);
 				filterExpr(0);
-				setState(125);
-				match(T__12);
+				setState(164);
+				match(T__14);
 				}
 				break;
 			case 2:
 				{
-				setState(127);
+				setState(166);
 				filterEqualNum();
 				}
 				break;
 			case 3:
 				{
-				setState(128);
+				setState(167);
 				filterEqualStr();
 				}
 				break;
 			case 4:
 				{
-				setState(129);
+				setState(168);
 				filterMatchRegex();
 				}
 				break;
 			case 5:
 				{
-				setState(130);
+				setState(169);
 				filterEqualBool();
 				}
 				break;
 			case 6:
 				{
-				setState(131);
+				setState(170);
 				filterGtNum();
 				}
 				break;
 			case 7:
 				{
-				setState(132);
+				setState(171);
 				filterLtNum();
 				}
 				break;
 			case 8:
 				{
-				setState(133);
+				setState(172);
+				filterInSet();
+				}
+				break;
+			case 9:
+				{
+				setState(173);
 				filterExist();
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(144);
+			setState(184);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(142);
+					setState(182);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,8,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
 					case 1:
 						{
 						_localctx = new FilterExprContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_filterExpr);
-						setState(136);
-						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
-						setState(137);
+						setState(176);
+						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
+						setState(177);
 						match(AndOperator);
-						setState(138);
-						filterExpr(10);
+						setState(178);
+						filterExpr(11);
 						}
 						break;
 					case 2:
 						{
 						_localctx = new FilterExprContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_filterExpr);
-						setState(139);
-						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
-						setState(140);
+						setState(179);
+						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
+						setState(180);
 						match(OrOperator);
-						setState(141);
-						filterExpr(9);
+						setState(181);
+						filterExpr(10);
 						}
 						break;
 					}
 					} 
 				}
-				setState(146);
+				setState(186);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
 			}
 			}
 		}
@@ -979,14 +1169,14 @@ public class JsonPathParser extends Parser {
 
 	public final FilterExistContext filterExist() throws RecognitionException {
 		FilterExistContext _localctx = new FilterExistContext(_ctx, getState());
-		enterRule(_localctx, 28, RULE_filterExist);
+		enterRule(_localctx, 34, RULE_filterExist);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(147);
-			match(T__13);
-			setState(149); 
+			setState(187);
+			match(T__16);
+			setState(189); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
@@ -994,7 +1184,7 @@ public class JsonPathParser extends Parser {
 				case 1:
 					{
 					{
-					setState(148);
+					setState(188);
 					relativePath();
 					}
 					}
@@ -1002,9 +1192,9 @@ public class JsonPathParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(151); 
+				setState(191); 
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 			}
 		}
@@ -1040,30 +1230,30 @@ public class JsonPathParser extends Parser {
 
 	public final FilterGtNumContext filterGtNum() throws RecognitionException {
 		FilterGtNumContext _localctx = new FilterGtNumContext(_ctx, getState());
-		enterRule(_localctx, 30, RULE_filterGtNum);
+		enterRule(_localctx, 36, RULE_filterGtNum);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(153);
-			match(T__13);
-			setState(155); 
+			setState(193);
+			match(T__16);
+			setState(195); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(154);
+				setState(194);
 				relativePath();
 				}
 				}
-				setState(157); 
+				setState(197); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5) | (1L << T__7) | (1L << T__9))) != 0) );
-			setState(159);
-			match(T__14);
-			setState(160);
+			setState(199);
+			match(T__17);
+			setState(200);
 			match(NUM);
 			}
 		}
@@ -1099,30 +1289,30 @@ public class JsonPathParser extends Parser {
 
 	public final FilterLtNumContext filterLtNum() throws RecognitionException {
 		FilterLtNumContext _localctx = new FilterLtNumContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_filterLtNum);
+		enterRule(_localctx, 38, RULE_filterLtNum);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(162);
-			match(T__13);
-			setState(164); 
+			setState(202);
+			match(T__16);
+			setState(204); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(163);
+				setState(203);
 				relativePath();
 				}
 				}
-				setState(166); 
+				setState(206); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5) | (1L << T__7) | (1L << T__9))) != 0) );
-			setState(168);
-			match(T__15);
-			setState(169);
+			setState(208);
+			match(T__18);
+			setState(209);
 			match(NUM);
 			}
 		}
@@ -1158,30 +1348,30 @@ public class JsonPathParser extends Parser {
 
 	public final FilterEqualNumContext filterEqualNum() throws RecognitionException {
 		FilterEqualNumContext _localctx = new FilterEqualNumContext(_ctx, getState());
-		enterRule(_localctx, 34, RULE_filterEqualNum);
+		enterRule(_localctx, 40, RULE_filterEqualNum);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(171);
-			match(T__13);
-			setState(173); 
+			setState(211);
+			match(T__16);
+			setState(213); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(172);
+				setState(212);
 				relativePath();
 				}
 				}
-				setState(175); 
+				setState(215); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5) | (1L << T__7) | (1L << T__9))) != 0) );
-			setState(177);
-			match(T__16);
-			setState(178);
+			setState(217);
+			match(T__19);
+			setState(218);
 			match(NUM);
 			}
 		}
@@ -1217,30 +1407,30 @@ public class JsonPathParser extends Parser {
 
 	public final FilterEqualBoolContext filterEqualBool() throws RecognitionException {
 		FilterEqualBoolContext _localctx = new FilterEqualBoolContext(_ctx, getState());
-		enterRule(_localctx, 36, RULE_filterEqualBool);
+		enterRule(_localctx, 42, RULE_filterEqualBool);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(180);
-			match(T__13);
-			setState(182); 
+			setState(220);
+			match(T__16);
+			setState(222); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(181);
+				setState(221);
 				relativePath();
 				}
 				}
-				setState(184); 
+				setState(224); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5) | (1L << T__7) | (1L << T__9))) != 0) );
-			setState(186);
-			match(T__16);
-			setState(187);
+			setState(226);
+			match(T__19);
+			setState(227);
 			match(BOOL);
 			}
 		}
@@ -1276,30 +1466,30 @@ public class JsonPathParser extends Parser {
 
 	public final FilterEqualStrContext filterEqualStr() throws RecognitionException {
 		FilterEqualStrContext _localctx = new FilterEqualStrContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_filterEqualStr);
+		enterRule(_localctx, 44, RULE_filterEqualStr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(189);
-			match(T__13);
-			setState(191); 
+			setState(229);
+			match(T__16);
+			setState(231); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(190);
+				setState(230);
 				relativePath();
 				}
 				}
-				setState(193); 
+				setState(233); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5) | (1L << T__7) | (1L << T__9))) != 0) );
-			setState(195);
-			match(T__16);
-			setState(196);
+			setState(235);
+			match(T__19);
+			setState(236);
 			match(QUOTED_STRING);
 			}
 		}
@@ -1335,30 +1525,30 @@ public class JsonPathParser extends Parser {
 
 	public final FilterMatchRegexContext filterMatchRegex() throws RecognitionException {
 		FilterMatchRegexContext _localctx = new FilterMatchRegexContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_filterMatchRegex);
+		enterRule(_localctx, 46, RULE_filterMatchRegex);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(198);
-			match(T__13);
-			setState(200); 
+			setState(238);
+			match(T__16);
+			setState(240); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(199);
+				setState(239);
 				relativePath();
 				}
 				}
-				setState(202); 
+				setState(242); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5) | (1L << T__7) | (1L << T__9))) != 0) );
-			setState(204);
-			match(T__17);
-			setState(205);
+			setState(244);
+			match(T__20);
+			setState(245);
 			match(REGEX);
 			}
 		}
@@ -1373,9 +1563,137 @@ public class JsonPathParser extends Parser {
 		return _localctx;
 	}
 
+	public static class FilterInSetContext extends ParserRuleContext {
+		public List<SetValueContext> setValue() {
+			return getRuleContexts(SetValueContext.class);
+		}
+		public SetValueContext setValue(int i) {
+			return getRuleContext(SetValueContext.class,i);
+		}
+		public List<RelativePathContext> relativePath() {
+			return getRuleContexts(RelativePathContext.class);
+		}
+		public RelativePathContext relativePath(int i) {
+			return getRuleContext(RelativePathContext.class,i);
+		}
+		public FilterInSetContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_filterInSet; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JsonPathVisitor ) return ((JsonPathVisitor<? extends T>)visitor).visitFilterInSet(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FilterInSetContext filterInSet() throws RecognitionException {
+		FilterInSetContext _localctx = new FilterInSetContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_filterInSet);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(247);
+			match(T__16);
+			setState(249); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(248);
+				relativePath();
+				}
+				}
+				setState(251); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5) | (1L << T__7) | (1L << T__9))) != 0) );
+			setState(253);
+			match(T__21);
+			setState(254);
+			match(T__5);
+			setState(255);
+			setValue();
+			setState(260);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__8) {
+				{
+				{
+				setState(256);
+				match(T__8);
+				setState(257);
+				setValue();
+				}
+				}
+				setState(262);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(263);
+			match(T__6);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SetValueContext extends ParserRuleContext {
+		public TerminalNode QUOTED_STRING() { return getToken(JsonPathParser.QUOTED_STRING, 0); }
+		public TerminalNode NUM() { return getToken(JsonPathParser.NUM, 0); }
+		public SetValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_setValue; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JsonPathVisitor ) return ((JsonPathVisitor<? extends T>)visitor).visitSetValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SetValueContext setValue() throws RecognitionException {
+		SetValueContext _localctx = new SetValueContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_setValue);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(265);
+			_la = _input.LA(1);
+			if ( !(_la==NUM || _la==QUOTED_STRING) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
 		switch (ruleIndex) {
-		case 13:
+		case 16:
 			return filterExpr_sempred((FilterExprContext)_localctx, predIndex);
 		}
 		return true;
@@ -1383,80 +1701,104 @@ public class JsonPathParser extends Parser {
 	private boolean filterExpr_sempred(FilterExprContext _localctx, int predIndex) {
 		switch (predIndex) {
 		case 0:
-			return precpred(_ctx, 9);
+			return precpred(_ctx, 10);
 		case 1:
-			return precpred(_ctx, 8);
+			return precpred(_ctx, 9);
 		}
 		return true;
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\36\u00d2\4\2\t\2"+
-		"\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
-		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
-		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\3\2\3\2\7\2/\n\2\f\2\16\2\62"+
-		"\13\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\5\3A\n\3\3\4"+
-		"\3\4\3\4\3\5\3\5\3\6\3\6\3\7\3\7\3\b\3\b\3\t\3\t\3\t\3\t\3\t\5\tS\n\t"+
-		"\3\n\3\n\3\n\3\n\7\nY\n\n\f\n\16\n\\\13\n\3\n\3\n\3\13\3\13\5\13b\n\13"+
-		"\3\13\3\13\5\13f\n\13\3\13\3\13\3\f\3\f\3\f\3\r\3\r\3\r\3\r\7\rq\n\r\f"+
-		"\r\16\rt\13\r\3\r\3\r\3\16\3\16\3\16\3\16\3\17\3\17\3\17\3\17\3\17\3\17"+
-		"\3\17\3\17\3\17\3\17\3\17\3\17\3\17\5\17\u0089\n\17\3\17\3\17\3\17\3\17"+
-		"\3\17\3\17\7\17\u0091\n\17\f\17\16\17\u0094\13\17\3\20\3\20\6\20\u0098"+
-		"\n\20\r\20\16\20\u0099\3\21\3\21\6\21\u009e\n\21\r\21\16\21\u009f\3\21"+
-		"\3\21\3\21\3\22\3\22\6\22\u00a7\n\22\r\22\16\22\u00a8\3\22\3\22\3\22\3"+
-		"\23\3\23\6\23\u00b0\n\23\r\23\16\23\u00b1\3\23\3\23\3\23\3\24\3\24\6\24"+
-		"\u00b9\n\24\r\24\16\24\u00ba\3\24\3\24\3\24\3\25\3\25\6\25\u00c2\n\25"+
-		"\r\25\16\25\u00c3\3\25\3\25\3\25\3\26\3\26\6\26\u00cb\n\26\r\26\16\26"+
-		"\u00cc\3\26\3\26\3\26\3\26\2\3\34\27\2\4\6\b\n\f\16\20\22\24\26\30\32"+
-		"\34\36 \"$&(*\2\2\2\u00dc\2,\3\2\2\2\4@\3\2\2\2\6B\3\2\2\2\bE\3\2\2\2"+
-		"\nG\3\2\2\2\fI\3\2\2\2\16K\3\2\2\2\20R\3\2\2\2\22T\3\2\2\2\24_\3\2\2\2"+
-		"\26i\3\2\2\2\30l\3\2\2\2\32w\3\2\2\2\34\u0088\3\2\2\2\36\u0095\3\2\2\2"+
-		" \u009b\3\2\2\2\"\u00a4\3\2\2\2$\u00ad\3\2\2\2&\u00b6\3\2\2\2(\u00bf\3"+
-		"\2\2\2*\u00c8\3\2\2\2,\60\7\3\2\2-/\5\4\3\2.-\3\2\2\2/\62\3\2\2\2\60."+
-		"\3\2\2\2\60\61\3\2\2\2\61\63\3\2\2\2\62\60\3\2\2\2\63\64\7\2\2\3\64\3"+
-		"\3\2\2\2\65A\5\6\4\2\66A\5\b\5\2\67A\5\20\t\28A\5\22\n\29A\5\24\13\2:"+
-		"A\5\26\f\2;A\5\30\r\2<A\5\n\6\2=A\5\f\7\2>A\5\16\b\2?A\5\32\16\2@\65\3"+
-		"\2\2\2@\66\3\2\2\2@\67\3\2\2\2@8\3\2\2\2@9\3\2\2\2@:\3\2\2\2@;\3\2\2\2"+
-		"@<\3\2\2\2@=\3\2\2\2@>\3\2\2\2@?\3\2\2\2A\5\3\2\2\2BC\7\4\2\2CD\7\35\2"+
-		"\2D\7\3\2\2\2EF\7\4\2\2F\t\3\2\2\2GH\7\5\2\2H\13\3\2\2\2IJ\7\6\2\2J\r"+
-		"\3\2\2\2KL\7\7\2\2L\17\3\2\2\2MN\7\b\2\2NO\7\31\2\2OS\7\t\2\2PQ\7\n\2"+
-		"\2QS\7\31\2\2RM\3\2\2\2RP\3\2\2\2S\21\3\2\2\2TU\7\b\2\2UZ\7\31\2\2VW\7"+
-		"\13\2\2WY\7\31\2\2XV\3\2\2\2Y\\\3\2\2\2ZX\3\2\2\2Z[\3\2\2\2[]\3\2\2\2"+
-		"\\Z\3\2\2\2]^\7\t\2\2^\23\3\2\2\2_a\7\b\2\2`b\7\31\2\2a`\3\2\2\2ab\3\2"+
-		"\2\2bc\3\2\2\2ce\7\25\2\2df\7\31\2\2ed\3\2\2\2ef\3\2\2\2fg\3\2\2\2gh\7"+
-		"\t\2\2h\25\3\2\2\2ij\7\n\2\2jk\7\35\2\2k\27\3\2\2\2lm\7\b\2\2mr\7\32\2"+
-		"\2no\7\13\2\2oq\7\32\2\2pn\3\2\2\2qt\3\2\2\2rp\3\2\2\2rs\3\2\2\2su\3\2"+
-		"\2\2tr\3\2\2\2uv\7\t\2\2v\31\3\2\2\2wx\7\f\2\2xy\5\34\17\2yz\7\r\2\2z"+
-		"\33\3\2\2\2{|\b\17\1\2|}\7\26\2\2}~\7\16\2\2~\177\5\34\17\2\177\u0080"+
-		"\7\17\2\2\u0080\u0089\3\2\2\2\u0081\u0089\5$\23\2\u0082\u0089\5(\25\2"+
-		"\u0083\u0089\5*\26\2\u0084\u0089\5&\24\2\u0085\u0089\5 \21\2\u0086\u0089"+
-		"\5\"\22\2\u0087\u0089\5\36\20\2\u0088{\3\2\2\2\u0088\u0081\3\2\2\2\u0088"+
-		"\u0082\3\2\2\2\u0088\u0083\3\2\2\2\u0088\u0084\3\2\2\2\u0088\u0085\3\2"+
-		"\2\2\u0088\u0086\3\2\2\2\u0088\u0087\3\2\2\2\u0089\u0092\3\2\2\2\u008a"+
-		"\u008b\f\13\2\2\u008b\u008c\7\27\2\2\u008c\u0091\5\34\17\f\u008d\u008e"+
-		"\f\n\2\2\u008e\u008f\7\30\2\2\u008f\u0091\5\34\17\13\u0090\u008a\3\2\2"+
-		"\2\u0090\u008d\3\2\2\2\u0091\u0094\3\2\2\2\u0092\u0090\3\2\2\2\u0092\u0093"+
-		"\3\2\2\2\u0093\35\3\2\2\2\u0094\u0092\3\2\2\2\u0095\u0097\7\20\2\2\u0096"+
-		"\u0098\5\4\3\2\u0097\u0096\3\2\2\2\u0098\u0099\3\2\2\2\u0099\u0097\3\2"+
-		"\2\2\u0099\u009a\3\2\2\2\u009a\37\3\2\2\2\u009b\u009d\7\20\2\2\u009c\u009e"+
-		"\5\4\3\2\u009d\u009c\3\2\2\2\u009e\u009f\3\2\2\2\u009f\u009d\3\2\2\2\u009f"+
-		"\u00a0\3\2\2\2\u00a0\u00a1\3\2\2\2\u00a1\u00a2\7\21\2\2\u00a2\u00a3\7"+
-		"\31\2\2\u00a3!\3\2\2\2\u00a4\u00a6\7\20\2\2\u00a5\u00a7\5\4\3\2\u00a6"+
-		"\u00a5\3\2\2\2\u00a7\u00a8\3\2\2\2\u00a8\u00a6\3\2\2\2\u00a8\u00a9\3\2"+
-		"\2\2\u00a9\u00aa\3\2\2\2\u00aa\u00ab\7\22\2\2\u00ab\u00ac\7\31\2\2\u00ac"+
-		"#\3\2\2\2\u00ad\u00af\7\20\2\2\u00ae\u00b0\5\4\3\2\u00af\u00ae\3\2\2\2"+
-		"\u00b0\u00b1\3\2\2\2\u00b1\u00af\3\2\2\2\u00b1\u00b2\3\2\2\2\u00b2\u00b3"+
-		"\3\2\2\2\u00b3\u00b4\7\23\2\2\u00b4\u00b5\7\31\2\2\u00b5%\3\2\2\2\u00b6"+
-		"\u00b8\7\20\2\2\u00b7\u00b9\5\4\3\2\u00b8\u00b7\3\2\2\2\u00b9\u00ba\3"+
-		"\2\2\2\u00ba\u00b8\3\2\2\2\u00ba\u00bb\3\2\2\2\u00bb\u00bc\3\2\2\2\u00bc"+
-		"\u00bd\7\23\2\2\u00bd\u00be\7\34\2\2\u00be\'\3\2\2\2\u00bf\u00c1\7\20"+
-		"\2\2\u00c0\u00c2\5\4\3\2\u00c1\u00c0\3\2\2\2\u00c2\u00c3\3\2\2\2\u00c3"+
-		"\u00c1\3\2\2\2\u00c3\u00c4\3\2\2\2\u00c4\u00c5\3\2\2\2\u00c5\u00c6\7\23"+
-		"\2\2\u00c6\u00c7\7\32\2\2\u00c7)\3\2\2\2\u00c8\u00ca\7\20\2\2\u00c9\u00cb"+
-		"\5\4\3\2\u00ca\u00c9\3\2\2\2\u00cb\u00cc\3\2\2\2\u00cc\u00ca\3\2\2\2\u00cc"+
-		"\u00cd\3\2\2\2\u00cd\u00ce\3\2\2\2\u00ce\u00cf\7\24\2\2\u00cf\u00d0\7"+
-		"\33\2\2\u00d0+\3\2\2\2\23\60@RZaer\u0088\u0090\u0092\u0099\u009f\u00a8"+
-		"\u00b1\u00ba\u00c3\u00cc";
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\"\u010e\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\3\2\3\2\7\29\n\2\f\2\16\2<\13\2\3\2\5\2?\n\2\3\2"+
+		"\5\2B\n\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\5\3Q\n\3"+
+		"\3\4\3\4\3\4\3\5\3\5\3\6\3\6\3\7\3\7\3\b\3\b\3\t\3\t\3\t\3\t\3\t\5\tc"+
+		"\n\t\3\n\3\n\3\n\3\n\7\ni\n\n\f\n\16\nl\13\n\3\n\3\n\3\13\3\13\5\13r\n"+
+		"\13\3\13\3\13\5\13v\n\13\3\13\3\13\3\f\3\f\3\f\3\r\3\r\3\r\3\r\7\r\u0081"+
+		"\n\r\f\r\16\r\u0084\13\r\3\r\3\r\3\16\3\16\3\16\3\16\3\17\3\17\3\17\3"+
+		"\17\7\17\u0090\n\17\f\17\16\17\u0093\13\17\3\17\3\17\3\20\3\20\3\20\7"+
+		"\20\u009a\n\20\f\20\16\20\u009d\13\20\3\21\3\21\3\21\3\21\3\22\3\22\3"+
+		"\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\5\22\u00b1"+
+		"\n\22\3\22\3\22\3\22\3\22\3\22\3\22\7\22\u00b9\n\22\f\22\16\22\u00bc\13"+
+		"\22\3\23\3\23\6\23\u00c0\n\23\r\23\16\23\u00c1\3\24\3\24\6\24\u00c6\n"+
+		"\24\r\24\16\24\u00c7\3\24\3\24\3\24\3\25\3\25\6\25\u00cf\n\25\r\25\16"+
+		"\25\u00d0\3\25\3\25\3\25\3\26\3\26\6\26\u00d8\n\26\r\26\16\26\u00d9\3"+
+		"\26\3\26\3\26\3\27\3\27\6\27\u00e1\n\27\r\27\16\27\u00e2\3\27\3\27\3\27"+
+		"\3\30\3\30\6\30\u00ea\n\30\r\30\16\30\u00eb\3\30\3\30\3\30\3\31\3\31\6"+
+		"\31\u00f3\n\31\r\31\16\31\u00f4\3\31\3\31\3\31\3\32\3\32\6\32\u00fc\n"+
+		"\32\r\32\16\32\u00fd\3\32\3\32\3\32\3\32\3\32\7\32\u0105\n\32\f\32\16"+
+		"\32\u0108\13\32\3\32\3\32\3\33\3\33\3\33\2\3\"\34\2\4\6\b\n\f\16\20\22"+
+		"\24\26\30\32\34\36 \"$&(*,.\60\62\64\2\3\3\2\35\36\2\u011a\2\66\3\2\2"+
+		"\2\4P\3\2\2\2\6R\3\2\2\2\bU\3\2\2\2\nW\3\2\2\2\fY\3\2\2\2\16[\3\2\2\2"+
+		"\20b\3\2\2\2\22d\3\2\2\2\24o\3\2\2\2\26y\3\2\2\2\30|\3\2\2\2\32\u0087"+
+		"\3\2\2\2\34\u008b\3\2\2\2\36\u0096\3\2\2\2 \u009e\3\2\2\2\"\u00b0\3\2"+
+		"\2\2$\u00bd\3\2\2\2&\u00c3\3\2\2\2(\u00cc\3\2\2\2*\u00d5\3\2\2\2,\u00de"+
+		"\3\2\2\2.\u00e7\3\2\2\2\60\u00f0\3\2\2\2\62\u00f9\3\2\2\2\64\u010b\3\2"+
+		"\2\2\66:\7\3\2\2\679\5\4\3\28\67\3\2\2\29<\3\2\2\2:8\3\2\2\2:;\3\2\2\2"+
+		";>\3\2\2\2<:\3\2\2\2=?\5\34\17\2>=\3\2\2\2>?\3\2\2\2?A\3\2\2\2@B\5 \21"+
+		"\2A@\3\2\2\2AB\3\2\2\2BC\3\2\2\2CD\7\2\2\3D\3\3\2\2\2EQ\5\6\4\2FQ\5\b"+
+		"\5\2GQ\5\20\t\2HQ\5\22\n\2IQ\5\24\13\2JQ\5\26\f\2KQ\5\30\r\2LQ\5\n\6\2"+
+		"MQ\5\f\7\2NQ\5\16\b\2OQ\5\32\16\2PE\3\2\2\2PF\3\2\2\2PG\3\2\2\2PH\3\2"+
+		"\2\2PI\3\2\2\2PJ\3\2\2\2PK\3\2\2\2PL\3\2\2\2PM\3\2\2\2PN\3\2\2\2PO\3\2"+
+		"\2\2Q\5\3\2\2\2RS\7\4\2\2ST\7!\2\2T\7\3\2\2\2UV\7\4\2\2V\t\3\2\2\2WX\7"+
+		"\5\2\2X\13\3\2\2\2YZ\7\6\2\2Z\r\3\2\2\2[\\\7\7\2\2\\\17\3\2\2\2]^\7\b"+
+		"\2\2^_\7\35\2\2_c\7\t\2\2`a\7\n\2\2ac\7\35\2\2b]\3\2\2\2b`\3\2\2\2c\21"+
+		"\3\2\2\2de\7\b\2\2ej\7\35\2\2fg\7\13\2\2gi\7\35\2\2hf\3\2\2\2il\3\2\2"+
+		"\2jh\3\2\2\2jk\3\2\2\2km\3\2\2\2lj\3\2\2\2mn\7\t\2\2n\23\3\2\2\2oq\7\b"+
+		"\2\2pr\7\35\2\2qp\3\2\2\2qr\3\2\2\2rs\3\2\2\2su\7\31\2\2tv\7\35\2\2ut"+
+		"\3\2\2\2uv\3\2\2\2vw\3\2\2\2wx\7\t\2\2x\25\3\2\2\2yz\7\n\2\2z{\7!\2\2"+
+		"{\27\3\2\2\2|}\7\b\2\2}\u0082\7\36\2\2~\177\7\13\2\2\177\u0081\7\36\2"+
+		"\2\u0080~\3\2\2\2\u0081\u0084\3\2\2\2\u0082\u0080\3\2\2\2\u0082\u0083"+
+		"\3\2\2\2\u0083\u0085\3\2\2\2\u0084\u0082\3\2\2\2\u0085\u0086\7\t\2\2\u0086"+
+		"\31\3\2\2\2\u0087\u0088\7\f\2\2\u0088\u0089\5\"\22\2\u0089\u008a\7\r\2"+
+		"\2\u008a\33\3\2\2\2\u008b\u008c\7\16\2\2\u008c\u0091\5\36\20\2\u008d\u008e"+
+		"\7\13\2\2\u008e\u0090\5\36\20\2\u008f\u008d\3\2\2\2\u0090\u0093\3\2\2"+
+		"\2\u0091\u008f\3\2\2\2\u0091\u0092\3\2\2\2\u0092\u0094\3\2\2\2\u0093\u0091"+
+		"\3\2\2\2\u0094\u0095\7\17\2\2\u0095\35\3\2\2\2\u0096\u009b\7!\2\2\u0097"+
+		"\u0098\7\n\2\2\u0098\u009a\7!\2\2\u0099\u0097\3\2\2\2\u009a\u009d\3\2"+
+		"\2\2\u009b\u0099\3\2\2\2\u009b\u009c\3\2\2\2\u009c\37\3\2\2\2\u009d\u009b"+
+		"\3\2\2\2\u009e\u009f\7\20\2\2\u009f\u00a0\7\35\2\2\u00a0\u00a1\7\21\2"+
+		"\2\u00a1!\3\2\2\2\u00a2\u00a3\b\22\1\2\u00a3\u00a4\7\32\2\2\u00a4\u00a5"+
+		"\7\22\2\2\u00a5\u00a6\5\"\22\2\u00a6\u00a7\7\21\2\2\u00a7\u00b1\3\2\2"+
+		"\2\u00a8\u00b1\5*\26\2\u00a9\u00b1\5.\30\2\u00aa\u00b1\5\60\31\2\u00ab"+
+		"\u00b1\5,\27\2\u00ac\u00b1\5&\24\2\u00ad\u00b1\5(\25\2\u00ae\u00b1\5\62"+
+		"\32\2\u00af\u00b1\5$\23\2\u00b0\u00a2\3\2\2\2\u00b0\u00a8\3\2\2\2\u00b0"+
+		"\u00a9\3\2\2\2\u00b0\u00aa\3\2\2\2\u00b0\u00ab\3\2\2\2\u00b0\u00ac\3\2"+
+		"\2\2\u00b0\u00ad\3\2\2\2\u00b0\u00ae\3\2\2\2\u00b0\u00af\3\2\2\2\u00b1"+
+		"\u00ba\3\2\2\2\u00b2\u00b3\f\f\2\2\u00b3\u00b4\7\33\2\2\u00b4\u00b9\5"+
+		"\"\22\r\u00b5\u00b6\f\13\2\2\u00b6\u00b7\7\34\2\2\u00b7\u00b9\5\"\22\f"+
+		"\u00b8\u00b2\3\2\2\2\u00b8\u00b5\3\2\2\2\u00b9\u00bc\3\2\2\2\u00ba\u00b8"+
+		"\3\2\2\2\u00ba\u00bb\3\2\2\2\u00bb#\3\2\2\2\u00bc\u00ba\3\2\2\2\u00bd"+
+		"\u00bf\7\23\2\2\u00be\u00c0\5\4\3\2\u00bf\u00be\3\2\2\2\u00c0\u00c1\3"+
+		"\2\2\2\u00c1\u00bf\3\2\2\2\u00c1\u00c2\3\2\2\2\u00c2%\3\2\2\2\u00c3\u00c5"+
+		"\7\23\2\2\u00c4\u00c6\5\4\3\2\u00c5\u00c4\3\2\2\2\u00c6\u00c7\3\2\2\2"+
+		"\u00c7\u00c5\3\2\2\2\u00c7\u00c8\3\2\2\2\u00c8\u00c9\3\2\2\2\u00c9\u00ca"+
+		"\7\24\2\2\u00ca\u00cb\7\35\2\2\u00cb\'\3\2\2\2\u00cc\u00ce\7\23\2\2\u00cd"+
+		"\u00cf\5\4\3\2\u00ce\u00cd\3\2\2\2\u00cf\u00d0\3\2\2\2\u00d0\u00ce\3\2"+
+		"\2\2\u00d0\u00d1\3\2\2\2\u00d1\u00d2\3\2\2\2\u00d2\u00d3\7\25\2\2\u00d3"+
+		"\u00d4\7\35\2\2\u00d4)\3\2\2\2\u00d5\u00d7\7\23\2\2\u00d6\u00d8\5\4\3"+
+		"\2\u00d7\u00d6\3\2\2\2\u00d8\u00d9\3\2\2\2\u00d9\u00d7\3\2\2\2\u00d9\u00da"+
+		"\3\2\2\2\u00da\u00db\3\2\2\2\u00db\u00dc\7\26\2\2\u00dc\u00dd\7\35\2\2"+
+		"\u00dd+\3\2\2\2\u00de\u00e0\7\23\2\2\u00df\u00e1\5\4\3\2\u00e0\u00df\3"+
+		"\2\2\2\u00e1\u00e2\3\2\2\2\u00e2\u00e0\3\2\2\2\u00e2\u00e3\3\2\2\2\u00e3"+
+		"\u00e4\3\2\2\2\u00e4\u00e5\7\26\2\2\u00e5\u00e6\7 \2\2\u00e6-\3\2\2\2"+
+		"\u00e7\u00e9\7\23\2\2\u00e8\u00ea\5\4\3\2\u00e9\u00e8\3\2\2\2\u00ea\u00eb"+
+		"\3\2\2\2\u00eb\u00e9\3\2\2\2\u00eb\u00ec\3\2\2\2\u00ec\u00ed\3\2\2\2\u00ed"+
+		"\u00ee\7\26\2\2\u00ee\u00ef\7\36\2\2\u00ef/\3\2\2\2\u00f0\u00f2\7\23\2"+
+		"\2\u00f1\u00f3\5\4\3\2\u00f2\u00f1\3\2\2\2\u00f3\u00f4\3\2\2\2\u00f4\u00f2"+
+		"\3\2\2\2\u00f4\u00f5\3\2\2\2\u00f5\u00f6\3\2\2\2\u00f6\u00f7\7\27\2\2"+
+		"\u00f7\u00f8\7\37\2\2\u00f8\61\3\2\2\2\u00f9\u00fb\7\23\2\2\u00fa\u00fc"+
+		"\5\4\3\2\u00fb\u00fa\3\2\2\2\u00fc\u00fd\3\2\2\2\u00fd\u00fb\3\2\2\2\u00fd"+
+		"\u00fe\3\2\2\2\u00fe\u00ff\3\2\2\2\u00ff\u0100\7\30\2\2\u0100\u0101\7"+
+		"\b\2\2\u0101\u0106\5\64\33\2\u0102\u0103\7\13\2\2\u0103\u0105\5\64\33"+
+		"\2\u0104\u0102\3\2\2\2\u0105\u0108\3\2\2\2\u0106\u0104\3\2\2\2\u0106\u0107"+
+		"\3\2\2\2\u0107\u0109\3\2\2\2\u0108\u0106\3\2\2\2\u0109\u010a\7\t\2\2\u010a"+
+		"\63\3\2\2\2\u010b\u010c\t\2\2\2\u010c\65\3\2\2\2\31:>APbjqu\u0082\u0091"+
+		"\u009b\u00b0\u00b8\u00ba\u00c1\u00c7\u00d0\u00d9\u00e2\u00eb\u00f4\u00fd"+
+		"\u0106";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -90,6 +90,24 @@ public interface JsonPathVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitFilter(JsonPathParser.FilterContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link JsonPathParser#projection}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitProjection(JsonPathParser.ProjectionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link JsonPathParser#projectionField}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitProjectionField(JsonPathParser.ProjectionFieldContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link JsonPathParser#limit}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLimit(JsonPathParser.LimitContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link JsonPathParser#filterExpr}.
 	 * @param ctx the parse tree
@@ -138,4 +156,16 @@ public interface JsonPathVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitFilterMatchRegex(JsonPathParser.FilterMatchRegexContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link JsonPathParser#filterInSet}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFilterInSet(JsonPathParser.FilterInSetContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link JsonPathParser#setValue}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSetValue(JsonPathParser.SetValueContext ctx);
 }
\ No newline at end of file
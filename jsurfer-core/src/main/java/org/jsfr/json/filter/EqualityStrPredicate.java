@@ -28,25 +28,25 @@ import org.jsfr.json.PrimitiveHolder;
 import org.jsfr.json.path.JsonPath;
 import org.jsfr.json.provider.JsonProvider;
 
-import java.util.Objects;
+import java.util.Collections;
 
 /**
  * Created by Leo on 2017/4/4.
  */
 public class EqualityStrPredicate extends BasicJsonPathFilter {
 
-    private String value;
+    private WrappedPrimitives value;
 
     public EqualityStrPredicate(JsonPath relativePath, String value) {
         super(relativePath);
-        this.value = value;
+        this.value = new WrappedPrimitives(Collections.singleton(value));
     }
 
     @Override
     public boolean apply(JsonPath jsonPosition, PrimitiveHolder primitiveHolder, JsonProvider jsonProvider) {
         if (primitiveHolder != null && this.getRelativePath().matchFilterPath(jsonPosition)) {
             Object candidate = primitiveHolder.getValue();
-            return candidate != null && Objects.equals(candidate, jsonProvider.primitive(value));
+            return candidate != null && value.get(jsonProvider).contains(candidate);
         } else {
             return false;
         }
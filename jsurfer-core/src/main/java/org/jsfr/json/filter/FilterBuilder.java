@@ -24,7 +24,10 @@
 
 package org.jsfr.json.filter;
 
+import org.jsfr.json.path.JsonPath;
+
 import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Deque;
 
 /**
@@ -87,6 +90,17 @@ public class FilterBuilder {
         return this;
     }
 
+    /**
+     * Append a set-membership predicate
+     *
+     * @param relativePath relative path of the value to test
+     * @param values       String or Number constants
+     * @return builder
+     */
+    public FilterBuilder in(JsonPath relativePath, Collection<?> values) {
+        return this.append(new InSetPredicate(relativePath, values));
+    }
+
     public JsonPathFilter build() {
         return this.resultFilter;
     }
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json.filter;
+
+import org.jsfr.json.PrimitiveHolder;
+import org.jsfr.json.path.JsonPath;
+import org.jsfr.json.provider.JsonProvider;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Set-membership predicate, e.g. @.code in ['A','B',1]. Each candidate costs a single hash lookup regardless of the size of the set.
+ */
+public class InSetPredicate extends BasicJsonPathFilter {
+
+    private WrappedPrimitives strings;
+
+    // integral numbers, looked up without decoding java integers
+    private Set<Long> integers = new HashSet<>();
+
+    // other numbers, without trailing zeros
+    private Set<BigDecimal> decimals = new HashSet<>();
+
+    /**
+     * @param relativePath relative path of the value to test
+     * @param values       String or Number constants
+     */
+    public InSetPredicate(JsonPath relativePath, Collection<?> values) {
+        super(relativePath);
+        List<String> stringValues = new ArrayList<>();
+        for (Object value : values) {
+            if (value instanceof String) {
+                stringValues.add((String) value);
+            } else if (value instanceof Number) {
+                BigDecimal number = normalize(new BigDecimal(value.toString()));
+                if (isLong(number)) {
+                    integers.add(number.longValue());
+                } else {
+                    decimals.add(number);
+                }
+            } else {
+                throw new IllegalArgumentException("Unsupported value in set: " + value);
+            }
+        }
+        this.strings = new WrappedPrimitives(stringValues);
+    }
+
+    private static BigDecimal normalize(BigDecimal number) {
+        return number.signum() == 0 ? BigDecimal.ZERO : number.stripTrailingZeros();
+    }
+
+    private static boolean isLong(BigDecimal number) {
+        return number.scale() <= 0 && number.precision() - number.scale() <= 18;
+    }
+
+    @Override
+    public boolean apply(JsonPath jsonPosition, PrimitiveHolder primitiveHolder, JsonProvider jsonProvider) {
+        if (primitiveHolder != null && this.getRelativePath().matchFilterPath(jsonPosition)) {
+            Object candidate = primitiveHolder.getValue();
+            if (candidate == null) {
+                return false;
+            }
+            if (!strings.isEmpty() && strings.get(jsonProvider).contains(candidate)) {
+                return true;
+            }
+            if (integers.isEmpty() && decimals.isEmpty()) {
+                return false;
+            }
+            if (candidate instanceof Long || candidate instanceof Integer || candidate instanceof Short || candidate instanceof Byte) {
+                return integers.contains(((Number) candidate).longValue());
+            }
+            BigDecimal number = toBigDecimal(candidate);
+            if (number == null) {
+                return false;
+            }
+            number = normalize(number);
+            return isLong(number) ? integers.contains(number.longValue()) : decimals.contains(number);
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * @return the number held by the candidate, or null if it is not a number
+     */
+    private static BigDecimal toBigDecimal(Object candidate) {
+        if (candidate instanceof BigDecimal) {
+            return (BigDecimal) candidate;
+        }
+        if (candidate instanceof BigInteger) {
+            return new BigDecimal((BigInteger) candidate);
+        }
+        if (candidate instanceof Number) {
+            double value = ((Number) candidate).doubleValue();
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                return null;
+            }
+            return candidate instanceof Double ? BigDecimal.valueOf(value) : new BigDecimal(candidate.toString());
+        }
+        if (candidate instanceof String || candidate instanceof Boolean) {
+            return null;
+        }
+        // a primitive of the json provider, e.g. a number node, prints as its json literal
+        String literal = candidate.toString();
+        return isNumberLiteral(literal) ? new BigDecimal(literal) : null;
+    }
+
+    private static boolean isNumberLiteral(String literal) {
+        int length = literal.length();
+        int i = literal.startsWith("-") ? 1 : 0;
+        int end = skipDigits(literal, i);
+        if (end == i) {
+            return false;
+        }
+        i = end;
+        if (i < length && literal.charAt(i) == '.') {
+            end = skipDigits(literal, ++i);
+            if (end == i) {
+                return false;
+            }
+            i = end;
+        }
+        if (i < length && (literal.charAt(i) == 'e' || literal.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (literal.charAt(i) == '+' || literal.charAt(i) == '-')) {
+                i++;
+            }
+            end = skipDigits(literal, i);
+            if (end == i) {
+                return false;
+            }
+            i = end;
+        }
+        return i == length;
+    }
+
+    private static int skipDigits(String literal, int i) {
+        while (i < literal.length() && literal.charAt(i) >= '0' && literal.charAt(i) <= '9') {
+            i++;
+        }
+        return i;
+    }
+
+}
@@ -37,9 +37,12 @@ public class MatchRegexPredicate extends BasicJsonPathFilter {
 
     private Pattern regex;
 
+    private RegexPrefilter prefilter;
+
     public MatchRegexPredicate(JsonPath relativePath, Pattern regex) {
         super(relativePath);
         this.regex = regex;
+        this.prefilter = RegexPrefilter.compile(regex);
     }
 
     @Override
@@ -47,6 +50,9 @@ public class MatchRegexPredicate extends BasicJsonPathFilter {
         if (primitiveHolder != null && this.getRelativePath().matchFilterPath(jsonPosition)) {
             Object candidate = primitiveHolder.getValue();
             String string = (String) jsonProvider.cast(candidate, String.class);
+            if (prefilter != null && !prefilter.mayMatch(string)) {
+                return false;
+            }
             return regex.matcher(string).find();
         }
         return false;
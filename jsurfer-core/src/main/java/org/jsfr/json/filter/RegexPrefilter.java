@@ -0,0 +1,393 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json.filter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Cheap literal checks extracted from a regex: required substrings, anchored prefix and suffix and minimum length.
+ * A candidate failing any check can not match the regex. Patterns with constructs that are not understood yield no prefilter.
+ */
+class RegexPrefilter {
+
+    private static final String CLASS_ESCAPES = "dDwWsShHvVR";
+
+    private static final String ZERO_WIDTH_ESCAPES = "bBAGzZ";
+
+    private static final int UNSUPPORTED_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.COMMENTS | Pattern.LITERAL | Pattern.CANON_EQ | Pattern.UNICODE_CASE;
+
+    private String prefix;
+
+    private String suffix;
+
+    private boolean unixLines;
+
+    private List<String> substrings = new ArrayList<>();
+
+    private int minLength;
+
+    private RegexPrefilter() {
+    }
+
+    /**
+     * @param regex compiled regex
+     * @return prefilter or null if nothing useful can be extracted
+     */
+    static RegexPrefilter compile(Pattern regex) {
+        if ((regex.flags() & UNSUPPORTED_FLAGS) != 0) {
+            return null;
+        }
+        RegexPrefilter prefilter = new RegexPrefilter();
+        prefilter.unixLines = (regex.flags() & Pattern.UNIX_LINES) != 0;
+        boolean multiline = (regex.flags() & Pattern.MULTILINE) != 0;
+        String pattern = regex.pattern();
+        StringBuilder run = new StringBuilder();
+        // the current literal run starts right after '^'
+        boolean runIsPrefix = false;
+        // the current literal run can be followed by more characters of the same run
+        boolean runOpen = false;
+        int i = 0;
+        int length = pattern.length();
+        if (length > 0 && pattern.charAt(0) == '^' && !multiline) {
+            runIsPrefix = true;
+            i = 1;
+        }
+        while (i < length) {
+            char c = pattern.charAt(i);
+            int atomLength = 1;
+            boolean literal = true;
+            char literalChar = c;
+            switch (c) {
+                case '|':
+                    return null;
+                case '$':
+                    if (i == length - 1 && !multiline && runOpen) {
+                        prefilter.suffix = run.toString();
+                    }
+                    prefilter.flush(run, runIsPrefix);
+                    runIsPrefix = false;
+                    runOpen = false;
+                    i++;
+                    continue;
+                case '^':
+                    prefilter.flush(run, runIsPrefix);
+                    runIsPrefix = false;
+                    runOpen = false;
+                    i++;
+                    continue;
+                case '\\':
+                    if (i + 1 >= length) {
+                        return null;
+                    }
+                    char escaped = pattern.charAt(i + 1);
+                    if (Character.isLetterOrDigit(escaped)) {
+                        if (ZERO_WIDTH_ESCAPES.indexOf(escaped) >= 0) {
+                            prefilter.flush(run, runIsPrefix);
+                            runIsPrefix = false;
+                            runOpen = false;
+                            i += 2;
+                            continue;
+                        } else if (CLASS_ESCAPES.indexOf(escaped) >= 0) {
+                            literal = false;
+                        } else {
+                            return null;
+                        }
+                    } else {
+                        literalChar = escaped;
+                    }
+                    atomLength = 2;
+                    break;
+                case '.':
+                    literal = false;
+                    break;
+                case '[':
+                    int end = skipCharacterClass(pattern, i);
+                    if (end < 0) {
+                        return null;
+                    }
+                    atomLength = end - i;
+                    literal = false;
+                    break;
+                case '(':
+                    if (i + 2 < length && pattern.charAt(i + 1) == '?' && ":=!<>".indexOf(pattern.charAt(i + 2)) < 0) {
+                        // embedded flags
+                        return null;
+                    }
+                    int groupEnd = skipGroup(pattern, i);
+                    if (groupEnd < 0) {
+                        return null;
+                    }
+                    prefilter.flush(run, runIsPrefix);
+                    runIsPrefix = false;
+                    runOpen = false;
+                    i = skipQuantifier(pattern, groupEnd);
+                    continue;
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                case ')':
+                case ']':
+                    // dangling meta character, leave it to the regex engine
+                    return null;
+                default:
+                    break;
+            }
+            int quantifierStart = i + atomLength;
+            int minRepeat = minRepeat(pattern, quantifierStart);
+            if (minRepeat < 0) {
+                return null;
+            }
+            int next = skipQuantifier(pattern, quantifierStart);
+            prefilter.minLength += minRepeat;
+            if (literal && minRepeat > 0) {
+                run.append(literalChar);
+                runOpen = next == quantifierStart;
+                if (!runOpen) {
+                    prefilter.flush(run, runIsPrefix);
+                    runIsPrefix = false;
+                }
+            } else {
+                prefilter.flush(run, runIsPrefix);
+                runIsPrefix = false;
+                runOpen = false;
+            }
+            i = next;
+        }
+        prefilter.flush(run, runIsPrefix);
+        if (prefilter.substrings.isEmpty() && prefilter.minLength == 0) {
+            return null;
+        }
+        Collections.sort(prefilter.substrings, new Comparator<String>() {
+            @Override
+            public int compare(String o1, String o2) {
+                return o2.length() - o1.length();
+            }
+        });
+        return prefilter;
+    }
+
+    private void flush(StringBuilder run, boolean isPrefix) {
+        if (run.length() > 0) {
+            String literal = run.toString();
+            if (isPrefix) {
+                prefix = literal;
+            } else {
+                substrings.add(literal);
+            }
+            run.setLength(0);
+        }
+    }
+
+    /**
+     * @return minimum repetition of the quantifier at index, 1 if there is no quantifier, -1 if it is not understood
+     */
+    private static int minRepeat(String pattern, int index) {
+        if (index >= pattern.length()) {
+            return 1;
+        }
+        switch (pattern.charAt(index)) {
+            case '*':
+            case '?':
+                return 0;
+            case '+':
+                return 1;
+            case '{':
+                int i = index + 1;
+                int min = 0;
+                while (i < pattern.length() && Character.isDigit(pattern.charAt(i))) {
+                    min = min * 10 + (pattern.charAt(i) - '0');
+                    if (min > 1000) {
+                        return -1;
+                    }
+                    i++;
+                }
+                return i == index + 1 ? -1 : min;
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * @return index after the quantifier (including lazy or possessive modifier) at index
+     */
+    private static int skipQuantifier(String pattern, int index) {
+        if (index >= pattern.length()) {
+            return index;
+        }
+        int i = index;
+        switch (pattern.charAt(i)) {
+            case '*':
+            case '?':
+            case '+':
+                i++;
+                break;
+            case '{':
+                int close = pattern.indexOf('}', i);
+                i = close < 0 ? pattern.length() : close + 1;
+                break;
+            default:
+                return index;
+        }
+        if (i < pattern.length() && (pattern.charAt(i) == '?' || pattern.charAt(i) == '+')) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @return index after the closing bracket or -1
+     */
+    private static int skipCharacterClass(String pattern, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == 'Q') {
+                    return -1;
+                }
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+                i++;
+                // a leading ']' or '^]' is a literal
+                if (i < pattern.length() && pattern.charAt(i) == '^') {
+                    i++;
+                }
+                if (i < pattern.length() && pattern.charAt(i) == ']') {
+                    i++;
+                }
+                continue;
+            }
+            if (c == ']' && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * @return index after the closing parenthesis or -1
+     */
+    private static int skipGroup(String pattern, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == 'Q') {
+                    return -1;
+                }
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                i = skipCharacterClass(pattern, i);
+                if (i < 0) {
+                    return -1;
+                }
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * @param candidate string value
+     * @return false if the candidate can not match the regex
+     */
+    boolean mayMatch(String candidate) {
+        if (candidate.length() < minLength) {
+            return false;
+        }
+        if (prefix != null && !candidate.startsWith(prefix)) {
+            return false;
+        }
+        if (suffix != null && !endsWith(candidate, suffix)) {
+            return false;
+        }
+        for (String substring : substrings) {
+            if (!candidate.contains(substring)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * '$' also matches before a final line terminator
+     */
+    private boolean endsWith(String candidate, String suffix) {
+        if (candidate.endsWith(suffix)) {
+            return true;
+        }
+        int length = candidate.length();
+        if (length == 0) {
+            return false;
+        }
+        char last = candidate.charAt(length - 1);
+        if (unixLines) {
+            return last == '\n' && candidate.startsWith(suffix, length - 1 - suffix.length());
+        }
+        if (last == '\n' && length > 1 && candidate.charAt(length - 2) == '\r') {
+            return candidate.startsWith(suffix, length - 2 - suffix.length());
+        }
+        if (last == '\n' || last == '\r' || last == '\u0085' || last == '\u2028' || last == '\u2029') {
+            return candidate.startsWith(suffix, length - 1 - suffix.length());
+        }
+        return false;
+    }
+
+    String getPrefix() {
+        return prefix;
+    }
+
+    String getSuffix() {
+        return suffix;
+    }
+
+    List<String> getSubstrings() {
+        return substrings;
+    }
+
+    int getMinLength() {
+        return minLength;
+    }
+
+}
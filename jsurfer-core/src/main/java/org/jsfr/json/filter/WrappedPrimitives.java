@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json.filter;
+
+import org.jsfr.json.provider.JsonProvider;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * String constants of a filter wrapped by JsonProvider. Wrapping is done once per provider and shared by all clones of the filter.
+ */
+class WrappedPrimitives {
+
+    private static class Snapshot {
+
+        private final JsonProvider provider;
+        private final Set<Object> primitives;
+
+        private Snapshot(JsonProvider provider, Set<Object> primitives) {
+            this.provider = provider;
+            this.primitives = primitives;
+        }
+
+    }
+
+    private final Collection<String> values;
+
+    private volatile Snapshot snapshot;
+
+    WrappedPrimitives(Collection<String> values) {
+        this.values = values;
+    }
+
+    boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    Set<Object> get(JsonProvider jsonProvider) {
+        Snapshot current = this.snapshot;
+        if (current == null || current.provider != jsonProvider) {
+            Set<Object> primitives = new HashSet<>();
+            for (String value : values) {
+                primitives.add(jsonProvider.primitive(value));
+            }
+            current = new Snapshot(jsonProvider, primitives);
+            this.snapshot = current;
+        }
+        return current.primitives;
+    }
+
+}
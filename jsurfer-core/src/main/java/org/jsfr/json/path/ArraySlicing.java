@@ -37,6 +37,21 @@ public class ArraySlicing extends PathOperator {
         this.upperBound = upperBound;
     }
 
+    public Integer getLowerBound() {
+        return lowerBound;
+    }
+
+    public Integer getUpperBound() {
+        return upperBound;
+    }
+
+    /**
+     * @return true if any bound is negative, i.e. counted from the end of array
+     */
+    public boolean isRelativeToEnd() {
+        return (lowerBound != null && lowerBound < 0) || (upperBound != null && upperBound < 0);
+    }
+
     @Override
     public boolean match(PathOperator pathOperator) {
         if (!super.match(pathOperator)) {
@@ -44,15 +59,10 @@ public class ArraySlicing extends PathOperator {
         }
         if (pathOperator instanceof ArrayIndex) {
             int index = ((ArrayIndex) pathOperator).getArrayIndex();
-            if (lowerBound == null && upperBound == null) {
-                return true;
-            } else if (lowerBound == null) {
-                return index < upperBound;
-            } else if (upperBound == null) {
-                return index >= lowerBound;
-            } else {
-                return lowerBound <= index && index < upperBound;
-            }
+            // negative bounds can only be decided at the end of array, which is done in the JsonSlicingVerifier
+            boolean aboveLowerBound = lowerBound == null || lowerBound < 0 || index >= lowerBound;
+            boolean belowUpperBound = upperBound == null || upperBound < 0 || index < upperBound;
+            return aboveLowerBound && belowUpperBound;
         } else {
             throw new IllegalStateException("unexpected path operator: " + pathOperator);
         }
@@ -37,6 +37,10 @@ public class ChildrenNode extends PathOperator {
         this.children = children;
     }
 
+    public HashSet<String> getChildren() {
+        return children;
+    }
+
     @Override
     public boolean match(PathOperator pathOperator) {
         return super.match(pathOperator) && pathOperator instanceof ChildNode && children.contains(((ChildNode) pathOperator).getKey());
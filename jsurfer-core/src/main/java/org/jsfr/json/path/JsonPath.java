@@ -99,11 +99,20 @@ public class JsonPath implements Iterable<PathOperator> {
 
 
         public Builder index(int index) {
+            if (index < 0) {
+                // counted from the end of array
+                return slicing(index, index == -1 ? null : index + 1);
+            }
             jsonPath.push(new ArrayIndex(index));
             return this;
         }
 
         public Builder indexes(Integer... indexes) {
+            for (Integer index : indexes) {
+                if (index < 0) {
+                    throw new IllegalArgumentException("Negative index is not supported in multiple indexes");
+                }
+            }
             jsonPath.push(new ArrayIndexes(new HashSet<Integer>(Arrays.asList(indexes))));
             return this;
         }
@@ -127,7 +136,11 @@ public class JsonPath implements Iterable<PathOperator> {
         }
 
         public Builder slicing(Integer lower, Integer upper) {
-            jsonPath.push(new ArraySlicing(lower, upper));
+            ArraySlicing slicing = new ArraySlicing(lower, upper);
+            if (slicing.isRelativeToEnd() && jsonPath.get(0).getType() == PathOperator.Type.FILTER_ROOT) {
+                throw new IllegalArgumentException("Negative index is not supported in filter path");
+            }
+            jsonPath.push(slicing);
             return this;
         }
 
@@ -136,6 +149,27 @@ public class JsonPath implements Iterable<PathOperator> {
             return this;
         }
 
+        /**
+         * @param fieldPaths dot-separated paths of the fields to materialize inside matched value
+         * @return builder
+         */
+        public Builder projection(String... fieldPaths) {
+            jsonPath.projection = Projection.of(fieldPaths);
+            return this;
+        }
+
+        /**
+         * @param limit maximum number of matches delivered to the listeners bound to this path
+         * @return builder
+         */
+        public Builder limit(int limit) {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("Limit must be positive");
+            }
+            jsonPath.limit = limit;
+            return this;
+        }
+
         public JsonPath build() {
             if (jsonPath.peek().getType() == PathOperator.Type.DEEP_SCAN) {
                 throw new IllegalStateException("deep-scan shouldn't be the last operator.");
@@ -146,6 +180,8 @@ public class JsonPath implements Iterable<PathOperator> {
     }
 
     private boolean definite = true;
+    private int limit = 0;
+    private Projection projection;
 
     protected PathOperator[] operators;
     protected int size;
@@ -336,6 +372,20 @@ public class JsonPath implements Iterable<PathOperator> {
         return definite;
     }
 
+    /**
+     * @return projection of matched value, null if the whole value is materialized
+     */
+    public Projection getProjection() {
+        return projection;
+    }
+
+    /**
+     * @return maximum number of matches, 0 if unlimited
+     */
+    public int getLimit() {
+        return limit;
+    }
+
     public boolean checkDefinite() {
         for (PathOperator operator : this) {
             if (operator.getType() == PathOperator.Type.DEEP_SCAN) {
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 WANG Lingsong
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.jsfr.json.path;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fields to materialize inside a matched value, e.g. {id,total,customer.name}. A projection without field keeps the whole value.
+ */
+public class Projection {
+
+    private Map<String, Projection> fields = new LinkedHashMap<>();
+
+    /**
+     * @param fieldPaths dot-separated field paths
+     * @return projection
+     */
+    public static Projection of(String... fieldPaths) {
+        Projection projection = new Projection();
+        for (String fieldPath : fieldPaths) {
+            projection.add(fieldPath.split("\\."));
+        }
+        return projection;
+    }
+
+    private void add(String[] keys) {
+        Projection current = this;
+        for (String key : keys) {
+            Projection next = current.fields.get(key);
+            if (next == null) {
+                next = new Projection();
+                current.fields.put(key, next);
+            } else if (next.isWhole()) {
+                // the whole field is already projected
+                return;
+            }
+            current = next;
+        }
+        current.fields.clear();
+    }
+
+    /**
+     * @return true if the whole value is kept
+     */
+    public boolean isWhole() {
+        return fields.isEmpty();
+    }
+
+    /**
+     * @param key field name
+     * @return projection of the field or null if the field is not projected
+     */
+    public Projection getField(String key) {
+        return isWhole() ? this : fields.get(key);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (Map.Entry<String, Projection> entry : fields.entrySet()) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            sb.append(entry.getKey());
+            if (!entry.getValue().isWhole()) {
+                sb.append('.').append(entry.getValue());
+            }
+        }
+        return sb.append('}').toString();
+    }
+
+}
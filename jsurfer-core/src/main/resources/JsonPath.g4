@@ -4,7 +4,7 @@ grammar JsonPath;
 package org.jsfr.json.compiler;
 }
 
-path: '$' relativePath* EOF;
+path: '$' relativePath* projection? limit? EOF;
 relativePath: searchChild|search|index|indexes|slicing|childNode|childrenNode|anyChild|anyIndex|any|filter;
 searchChild: '..' KEY;
 search: '..' ;
@@ -18,6 +18,9 @@ COLON : ':';
 childNode: '.' KEY ;
 childrenNode: '[' QUOTED_STRING ( ',' QUOTED_STRING )* ']' ;
 filter: '[?(' filterExpr ')]';
+projection: '{' projectionField ( ',' projectionField )* '}';
+projectionField: KEY ( '.' KEY )*;
+limit: '.limit(' NUM ')';
 filterExpr : NegationOperator '(' filterExpr ')'
            | filterExpr AndOperator filterExpr
            | filterExpr OrOperator filterExpr
@@ -27,6 +30,7 @@ filterExpr : NegationOperator '(' filterExpr ')'
            | filterEqualBool
            | filterGtNum
            | filterLtNum
+           | filterInSet
            | filterExist
            ;
 filterExist:  '@' relativePath+;
@@ -36,6 +40,8 @@ filterEqualNum: '@' relativePath+ '==' NUM;
 filterEqualBool: '@' relativePath+ '==' BOOL;
 filterEqualStr: '@' relativePath+ '==' QUOTED_STRING;
 filterMatchRegex: '@' relativePath+ '=~' REGEX;
+filterInSet: '@' relativePath+ 'in' '[' setValue ( ',' setValue )* ']';
+setValue: QUOTED_STRING | NUM;
 //exprArrayIdx: '@.length-' NUM;
 NegationOperator: '!';
 AndOperator: '&&';
@@ -48,7 +54,7 @@ NUM
 QUOTED_STRING : ('\'' ( ~('\''|'\\') | ('\\' .) )* '\'') | ('"' ( ~('"'|'\\') | ('\\' .) )* '"');
 REGEX : '/' ( ~('/'|'\\') | ('\\' .) )* '/' [idmsuxU]*;
 BOOL: 'true'|'false';
-KEY :  (ESC | ~(["\\] | '.' | '*' | '[' | ']' | '(' | ')' | ',' | ':'| '=' | '@' | '?' | '&' | '|' | '>' | '<' | '\''| '!' | [ \t\n\r]))+  ;
+KEY :  (ESC | ~(["\\] | '.' | '*' | '[' | ']' | '(' | ')' | ',' | ':'| '=' | '@' | '?' | '&' | '|' | '>' | '<' | '\''| '!' | '{' | '}' | [ \t\n\r]))+  ;
 
 fragment INT :   '0' | [1-9] [0-9]* ; // no leading zeros
 fragment EXP :   [Ee] [+\-]? INT ; // \- since - means "range" inside [...]
@@ -40,7 +40,7 @@ import static com.alibaba.fastjson.parser.JSONToken.*;
 /**
  * Created by Leo on 2017/3/31.
  */
-public class FastJsonParser implements JsonParserAdapter {
+public class FastJsonParser extends AbstractJsonParserAdapter {
 
     private static class FastJsonResumableParser implements ResumableParser {
 
@@ -144,6 +144,10 @@ public class FastJsonParser implements JsonParserAdapter {
                 if (tempString != null) {
                     context.primitive(staticPrimitiveHolder.withValue(tempString));
                 }
+                if (lexer.isEOF() && !context.shouldBreak()) {
+                    // the lexer reports EOF with the last token, e.g. a primitive at root
+                    context.endJSON();
+                }
             } catch (Exception e) {
                 context.getConfig().getErrorHandlingStrategy().handleParsingException(e);
             }
@@ -173,16 +177,19 @@ public class FastJsonParser implements JsonParserAdapter {
 
     @Override
     public ResumableParser createResumableParser(Reader reader, SurfingContext context) {
+        ensureSingleRoot(context);
         return new FastJsonResumableParser(new JSONReaderScanner(reader), context, new StaticPrimitiveHolder());
     }
 
     @Override
     public ResumableParser createResumableParser(String json, SurfingContext context) {
+        ensureSingleRoot(context);
         return new FastJsonResumableParser(new JSONScanner(json), context, new StaticPrimitiveHolder());
     }
 
     @Override
     public ResumableParser createResumableParser(InputStream json, SurfingContext context) {
+        ensureSingleRoot(context);
         return new FastJsonResumableParser(new JSONReaderScanner(new InputStreamReader(json, context.getConfig().getParserCharset())), context, new StaticPrimitiveHolder());
     }
 
@@ -191,4 +198,10 @@ public class FastJsonParser implements JsonParserAdapter {
         throw new UnsupportedOperationException("Unsupported");
     }
 
+    private static void ensureSingleRoot(SurfingContext context) {
+        if (context.getConfig().isMultipleRootsAllowed()) {
+            throw new UnsupportedOperationException("Multiple roots are not supported by fastjson");
+        }
+    }
+
 }
@@ -34,7 +34,7 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 
-public class GsonParser implements JsonParserAdapter {
+public class GsonParser extends AbstractJsonParserAdapter {
 
     private static class GsonResumableParser implements ResumableParser {
         private JsonReader jsonReader;
@@ -165,6 +165,11 @@ public class GsonParser implements JsonParserAdapter {
     private ResumableParser createResumableParserImpl(Reader reader, SurfingContext context) {
 
         final JsonReader jsonReader = this.jsonReaderFactory.createJsonReader(reader);
+        if (context.getConfig().isMultipleRootsAllowed()) {
+            // Gson only reads more than one top-level value leniently, which also accepts non-standard json
+            // such as unquoted strings, single quotes and comments
+            jsonReader.setLenient(true);
+        }
         final JsonProvider jsonProvider = context.getConfig().getJsonProvider();
 
         AbstractPrimitiveHolder stringHolder = new AbstractPrimitiveHolder(context.getConfig()) {
@@ -28,29 +28,32 @@ import com.fasterxml.jackson.core.FormatSchema;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.core.json.async.NonBlockingJsonParser;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
 import org.jsfr.json.provider.JsonProvider;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 
-public class JacksonParser implements JsonParserAdapter {
+public class JacksonParser extends AbstractJsonParserAdapter {
 
     private static class JacksonNonblockingParser extends JacksonResumableParser implements NonBlockingParser {
 
-        private NonBlockingJsonParser nonBlockingJsonParser;
+        private ByteArrayFeeder feeder;
+        // copy of the last direct ByteBuffer fed, Jackson 2.9 only accepts byte arrays
+        private byte[] directCopy;
 
-        JacksonNonblockingParser(NonBlockingJsonParser jsonParser, SurfingContext context) {
+        JacksonNonblockingParser(JsonParser jsonParser, ByteArrayFeeder feeder, SurfingContext context) {
             super(jsonParser, context);
-            this.nonBlockingJsonParser = jsonParser;
+            this.feeder = feeder;
         }
 
         @Override
         public boolean feed(byte[] bytes, int start, int end) {
             try {
-                if (nonBlockingJsonParser.needMoreInput() && !context.isStopped()) {
-                    nonBlockingJsonParser.feedInput(bytes, start, end);
+                if (feeder.needMoreInput() && !context.isStopped()) {
+                    feeder.feedInput(bytes, start, end);
                     if (context.isPaused()) {
                         context.resume();
                         doPare();
@@ -65,9 +68,30 @@ public class JacksonParser implements JsonParserAdapter {
             return false;
         }
 
+        @Override
+        public boolean feed(ByteBuffer buffer) {
+            if (buffer.hasArray()) {
+                boolean consumed = feed(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.arrayOffset() + buffer.limit());
+                if (consumed) {
+                    buffer.position(buffer.limit());
+                }
+                return consumed;
+            }
+            if (!feeder.needMoreInput() || context.isStopped()) {
+                // the previous copy may still be in use
+                return false;
+            }
+            int length = buffer.remaining();
+            if (directCopy == null || directCopy.length < length) {
+                directCopy = new byte[length];
+            }
+            buffer.get(directCopy, 0, length);
+            return feed(directCopy, 0, length);
+        }
+
         @Override
         public void endOfInput() {
-            nonBlockingJsonParser.endOfInput();
+            feeder.endOfInput();
             resume();
         }
 
@@ -266,14 +290,33 @@ public class JacksonParser implements JsonParserAdapter {
         }
     }
 
+    @Override
+    public ResumableParser createResumableParser(byte[] bytes, int offset, int length, SurfingContext context) {
+        try {
+            final JsonParser jp = this.factory.createParser(bytes, offset, length);
+            return createResumableParser(jp, context);
+        } catch (Exception e) {
+            context.getConfig().getErrorHandlingStrategy().handleParsingException(e);
+            return null;
+        }
+    }
+
+    /**
+     * Works with any factory whose non-blocking parser accepts byte arrays, e.g. JsonFactory and SmileFactory.
+     *
+     * @throws UnsupportedOperationException if the format has no non-blocking byte array parser
+     */
     @Override
     public NonBlockingParser createNonBlockingParser(SurfingContext context) {
         try {
-            NonBlockingJsonParser jp = (NonBlockingJsonParser) factory.createNonBlockingByteArrayParser();
+            JsonParser jp = factory.createNonBlockingByteArrayParser();
+            if (!(jp.getNonBlockingInputFeeder() instanceof ByteArrayFeeder)) {
+                throw new UnsupportedOperationException("Unsupported");
+            }
             if (formatSchema != null) {
                 jp.setSchema(formatSchema);
             }
-            return new JacksonNonblockingParser(jp, context);
+            return new JacksonNonblockingParser(jp, (ByteArrayFeeder) jp.getNonBlockingInputFeeder(), context);
         } catch (IOException e) {
             context.getConfig().getErrorHandlingStrategy().handleParsingException(e);
         }
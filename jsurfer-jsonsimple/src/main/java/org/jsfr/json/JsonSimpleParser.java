@@ -31,7 +31,57 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 
-public class JsonSimpleParser implements JsonParserAdapter {
+public class JsonSimpleParser extends AbstractJsonParserAdapter {
+
+    private static class JsonSimpleResumableParser implements ResumableParser {
+
+        private JSONParser parser = new JSONParser();
+        private Reader reader;
+        private SurfingContext context;
+        private JsonSimpleHandlerAdapter handler;
+        private boolean started;
+
+        JsonSimpleResumableParser(Reader reader, SurfingContext context) {
+            this.reader = reader;
+            this.context = context;
+            this.handler = new JsonSimpleHandlerAdapter(context);
+        }
+
+        @Override
+        public void parse() {
+            if (context.isPaused()) {
+                // json-simple would consume the first token without delivering it, so start on resume
+                return;
+            }
+            try {
+                doParse();
+            } catch (Exception e) {
+                context.getConfig().getErrorHandlingStrategy().handleParsingException(e);
+            }
+        }
+
+        @Override
+        public boolean resume() {
+            try {
+                if (!context.isPaused()) {
+                    return false;
+                }
+                context.resume();
+                doParse();
+                return true;
+            } catch (Exception e) {
+                context.getConfig().getErrorHandlingStrategy().handleParsingException(e);
+                return false;
+            }
+        }
+
+        private void doParse() throws Exception {
+            // json-simple keeps its lexer and status stack between calls when resuming
+            parser.parse(reader, handler, started);
+            started = true;
+        }
+
+    }
 
     public static final JsonSimpleParser INSTANCE = new JsonSimpleParser();
 
@@ -40,41 +90,35 @@ public class JsonSimpleParser implements JsonParserAdapter {
 
     @Override
     public void parse(Reader reader, SurfingContext context) {
-        parseImpl(reader, context);
-    }
-
-    private void parseImpl(Reader reader, SurfingContext context) {
-        JSONParser parser = new JSONParser();
-        try {
-            parser.parse(reader, new JsonSimpleHandlerAdapter(context));
-        } catch (Exception e) {
-            context.getConfig().getErrorHandlingStrategy().handleParsingException(e);
-        }
+        createResumableParser(reader, context).parse();
     }
 
     @Override
     public void parse(String json, SurfingContext context) {
-        parseImpl(new StringReader(json), context);
+        createResumableParser(json, context).parse();
     }
 
     @Override
     public void parse(InputStream inputStream, SurfingContext context) {
-        parseImpl(new InputStreamReader(inputStream, context.getConfig().getParserCharset()), context);
+        createResumableParser(inputStream, context).parse();
     }
 
     @Override
     public ResumableParser createResumableParser(Reader reader, SurfingContext context) {
-        throw new UnsupportedOperationException("Unsupported");
+        if (context.getConfig().isMultipleRootsAllowed()) {
+            throw new UnsupportedOperationException("Multiple roots are not supported by json-simple");
+        }
+        return new JsonSimpleResumableParser(reader, context);
     }
 
     @Override
     public ResumableParser createResumableParser(String json, SurfingContext context) {
-        throw new UnsupportedOperationException("Unsupported");
+        return createResumableParser(new StringReader(json), context);
     }
 
     @Override
     public ResumableParser createResumableParser(InputStream json, SurfingContext context) {
-        throw new UnsupportedOperationException("Unsupported");
+        return createResumableParser(new InputStreamReader(json, context.getConfig().getParserCharset()), context);
     }
 
     @Override